@@ -0,0 +1,106 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xReadBenchmark.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pi4j.devices.ads1256.ADS125xScanList;
+
+/**
+ * Per-sample cost of the AbstractADS125x read paths against a simulated ADS1256.
+ * Multi-sample benchmarks report the cost of one sample.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ADS125xReadBenchmark {
+    private static final int BLOCK_SIZE = 64;
+    private static final int NUM_INPUTS = 8;
+
+    private ADS125xScanList scanList;
+    private int [] frame;
+    private final int [] block = new int[BLOCK_SIZE];
+
+    @Setup(Level.Trial)
+    public void setUp(SimulatedADS1256 sim) {
+	scanList = ADS125xScanList.allOneSided(sim.ads);
+	frame = new int[scanList.size()];
+    }
+
+    @Benchmark
+    public int getConversionValue(SimulatedADS1256 sim) throws InterruptedException {
+	return sim.ads.getConversionValue((short)0, (short)8);
+    }
+
+    @Benchmark
+    public int readAnalogOneSided(SimulatedADS1256 sim) throws InterruptedException {
+	return sim.ads.readAnalogOneSided(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_INPUTS)
+    public int[] scanAllOneSided(SimulatedADS1256 sim) throws InterruptedException {
+	sim.ads.scan(scanList, frame);
+	return frame;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public int[] readAnalogDifferentialBlock(SimulatedADS1256 sim) throws InterruptedException {
+	sim.ads.readAnalogDifferential(0, 1, block, 0, BLOCK_SIZE);
+	return block;
+    }
+}//end ADS125xReadBenchmark
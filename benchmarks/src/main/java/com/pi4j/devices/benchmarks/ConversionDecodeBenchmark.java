@@ -0,0 +1,135 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ConversionDecodeBenchmark.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+import com.pi4j.devices.ads1256.ADS125xConversionDecoder;
+import com.pi4j.devices.ads1256.AbstractADS125x;
+
+/**
+ * Cost of decoding one 24-bit conversion frame as read by RDATA, compared against the
+ * mask-and-subtract decode which doRDATA() used previously and against the bulk decoders
+ * of ADS125xConversionDecoder.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionDecodeBenchmark {
+    private static final int NUM_FRAMES = 1024;
+    private final byte [] frames = new byte[NUM_FRAMES * 3];
+    private final ByteBuffer directFrames = ByteBuffer.allocateDirect(NUM_FRAMES * 3);
+    private final int [] counts = new int[NUM_FRAMES];
+    private final float [] volts = new float[NUM_FRAMES];
+    private final double voltsPerCount = ADS125xConversionDecoder.voltsPerCount(Gain.GAIN_1, 2.5);
+
+    @Setup
+    public void setUp() {
+	new Random(1256).nextBytes(frames);
+	directFrames.put(frames).clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FRAMES)
+    public int decodeConversion() {
+	int sum = 0;
+	for(int i = 0; i < NUM_FRAMES; i++)
+	    sum += AbstractADS125x.decodeConversion(frames, i * 3);
+	return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FRAMES)
+    public int[] bulkDecode() {
+	ADS125xConversionDecoder.decode(frames, 0, counts, 0, NUM_FRAMES);
+	return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FRAMES)
+    public int[] bulkDecodeDirectBuffer() {
+	ADS125xConversionDecoder.decode(directFrames.clear(), counts, 0, NUM_FRAMES);
+	return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FRAMES)
+    public float[] bulkDecodeVolts() {
+	ADS125xConversionDecoder.decodeVolts(frames, 0, volts, 0, NUM_FRAMES, voltsPerCount);
+	return volts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_FRAMES)
+    public int legacyDecode() {
+	int sum = 0;
+	for(int i = 0; i < NUM_FRAMES; i++)
+	    sum += legacyDecode(frames, i * 3);
+	return sum;
+    }
+
+    private static int legacyDecode(byte [] buffer, int offset) {
+	int adcValue = (buffer[offset] << 16) & 0x00FF0000;
+	adcValue |= (buffer[offset + 1] << 8) & 0x0000FF00;
+	adcValue |= buffer[offset + 2] & 0x000000FF;
+	adcValue &= 0x00ffffff;
+	if (adcValue >= 0x800000)
+	    adcValue -= 0x1000000; // negative value
+	return adcValue;
+    }
+}//end ConversionDecodeBenchmark
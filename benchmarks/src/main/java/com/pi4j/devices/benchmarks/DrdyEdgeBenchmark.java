@@ -0,0 +1,123 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  DrdyEdgeBenchmark.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pi4j.context.Context;
+import com.pi4j.devices.ads1256.sim.ADS1256Simulator;
+import com.pi4j.devices.ads1256.sim.SimulatedDigitalInput;
+import com.pi4j.devices.base_util.gpio.DigitalEdgeCounter;
+import com.pi4j.devices.base_util.gpio.InputTransitionBarrier;
+import com.pi4j.io.gpio.digital.DigitalInput;
+
+/**
+ * Cost of handling one DRDY period (a falling then a rising edge) and returning from the wait for it,
+ * with InputTransitionBarrier and with DigitalEdgeCounter. The edges are dispatched on the benchmark
+ * thread, so this measures event handling and bookkeeping, not cross-thread wake-up latency.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DrdyEdgeBenchmark {
+    private ADS1256Simulator simulator;
+    private Context pi4j;
+    private SimulatedDigitalInput barrierInput, counterInput;
+    private InputTransitionBarrier barrier;
+    private DigitalEdgeCounter counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+	simulator = new ADS1256Simulator(-1, -1, -1, ADS1256Simulator.Clock.INSTANT);
+	pi4j = simulator.newContext();
+	barrierInput = createInput("BARRIER_pin", 5);
+	counterInput = createInput("COUNTER_pin", 6);
+	barrier = new InputTransitionBarrier(barrierInput);
+	counter = new DigitalEdgeCounter(counterInput);
+    }
+
+    private SimulatedDigitalInput createInput(String id, int address) {
+	return (SimulatedDigitalInput)pi4j.create(DigitalInput.newConfigBuilder(pi4j)
+		.id(id)
+		.address(address)
+		.provider("gpiod-digital-input"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+	barrier.release();
+	counter.release();
+	pi4j.shutdown();
+	simulator.shutdown();
+    }
+
+    @Benchmark
+    public void inputTransitionBarrier() throws InterruptedException, TimeoutException {
+	barrier.anticipateToggles(true, 2);
+	barrierInput.setState(false);
+	barrierInput.setState(true);
+	barrier.awaitAnticipatedToggles(true, 250);
+    }
+
+    @Benchmark
+    public long digitalEdgeCounter() throws InterruptedException, TimeoutException {
+	final long mark = counter.getFallingEdgeCount();
+	counterInput.setState(false);
+	counterInput.setState(true);
+	return counter.awaitFallingEdge(mark, 250_000_000L);
+    }
+}//end DrdyEdgeBenchmark
@@ -0,0 +1,95 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedADS1256.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pi4j.context.Context;
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+import com.pi4j.devices.ads1256.ADS1256;
+import com.pi4j.devices.ads1256.ADS125xTiming;
+import com.pi4j.devices.ads1256.sim.ADS1256Simulator;
+import com.pi4j.devices.ads1256.sim.ADS1256Waveform;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiChipSelect;
+import com.pi4j.util.Console;
+
+/**
+ * JMH state holding an ADS1256 driver connected to an ADS1256Simulator, with the same pins as ADS1256App's defaults.
+ * The simulator runs on its INSTANT clock so that conversions never wait on the data rate.
+ * The timing parameter selects between the datasheet serial interface delays, which a real read
+ * must pay, and no delays at all, which isolates the driver's own per-sample cost.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@State(Scope.Benchmark)
+public class SimulatedADS1256 {
+    static final int DRDY_PIN = 17, CS_PIN = 22, RST_PIN = 18, PDWN_PIN = 27;
+    static final ADS125xTiming NO_DELAYS = new ADS125xTiming(0, 0, 0, 0, 0, 0);
+
+    @Param({"DATASHEET", "NONE"})
+    public String timing;
+
+    public ADS1256Simulator chip;
+    public Context pi4j;
+    public ADS1256 ads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+	chip = new ADS1256Simulator(DRDY_PIN, CS_PIN, RST_PIN, ADS1256Simulator.Clock.INSTANT);
+	final MuxValue [] inputs = MuxValue.values();
+	for(int i = 0; i < 8; i++)
+	    chip.setWaveform(inputs[i], ADS1256Waveform.constant((i + 1) * .25));
+	pi4j = chip.newContext();
+	ads = new ADS1256(pi4j, SpiBus.BUS_0, SpiChipSelect.CS_0, false, DRDY_PIN, CS_PIN, RST_PIN, false, PDWN_PIN, false,
+		new Console(), "off", 2.5, DataRate.SPS_30000, false,
+		"NONE".equals(timing) ? NO_DELAYS : ADS125xTiming.DATASHEET);
+    }//end setUp()
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+	pi4j.shutdown();
+	chip.shutdown();
+    }
+}//end SimulatedADS1256
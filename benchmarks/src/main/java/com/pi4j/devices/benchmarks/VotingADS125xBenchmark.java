@@ -0,0 +1,116 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  VotingADS125xBenchmark.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pi4j.devices.ads1256.ADS125xScanList;
+import com.pi4j.devices.ads1256.VotingADS125x;
+
+/**
+ * Cost of one median-voted result from VotingADS125x against a simulated ADS1256, for several vote counts,
+ * re-reading each input per vote or taking the median over a sliding window of its past conversions.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VotingADS125xBenchmark {
+    private static final int NUM_INPUTS = 8;
+
+    @Param({"3", "5", "9"})
+    public int votes;
+
+    @Param({"REREAD", "SLIDING_WINDOW"})
+    public VotingADS125x.Mode mode;
+
+    private VotingADS125x voting;
+    private ADS125xScanList scanList;
+    private int [] frame;
+    private double [] voltsFrame;
+
+    @Setup(Level.Trial)
+    public void setUp(SimulatedADS1256 sim) {
+	voting = new VotingADS125x(sim.ads, votes, mode);
+	scanList = ADS125xScanList.allOneSided(sim.ads);
+	frame = new int[scanList.size()];
+	voltsFrame = new double[scanList.size()];
+    }
+
+    @Benchmark
+    public int readAnalogOneSided() throws InterruptedException {
+	return voting.readAnalogOneSided(0);
+    }
+
+    @Benchmark
+    public double readAnalogDifferentialVolts() throws InterruptedException {
+	return voting.readAnalogDifferentialVolts(0, 1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_INPUTS)
+    public int[] scan() throws InterruptedException {
+	voting.scan(scanList, frame);
+	return frame;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_INPUTS)
+    public double[] scanVolts() throws InterruptedException {
+	voting.scanVolts(scanList, voltsFrame);
+	return voltsFrame;
+    }
+}//end VotingADS125xBenchmark
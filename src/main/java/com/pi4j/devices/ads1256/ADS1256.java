@@ -53,6 +53,32 @@ public final class ADS1256 extends AbstractADS125x {
 		pdwnPin, crtPdwnGpio, console, traceLevel, vref, sampleRate, useBuffer);
     }
 
+    @SuppressWarnings("exports")
+    public ADS1256(Context pi4j, SpiBus spiBus, SpiChipSelect chipSelect,
+	    boolean reset, int drdyPin, int csPin, int rstPin,
+	    boolean crtRstGpio, int pdwnPin, boolean crtPdwnGpio,
+	    Console console, String traceLevel, double vref, DataRate sampleRate, boolean useBuffer,
+	    ADS125xTiming timing)
+	    throws InterruptedException {
+	super(pi4j, spiBus, chipSelect, reset, drdyPin, csPin, rstPin, crtRstGpio,
+		pdwnPin, crtPdwnGpio, console, traceLevel, vref, sampleRate, useBuffer, timing);
+    }
+
+    /**
+     * Create a chip on a bus which may be shared with other chips. See ADS125xSpiBus.
+     * @since Oct 18, 2026
+     */
+    @SuppressWarnings("exports")
+    public ADS1256(Context pi4j, ADS125xSpiBus bus,
+	    boolean reset, int drdyPin, int csPin, int rstPin,
+	    boolean crtRstGpio, int pdwnPin, boolean crtPdwnGpio,
+	    Console console, String traceLevel, double vref, DataRate sampleRate, boolean useBuffer,
+	    ADS125xTiming timing)
+	    throws InterruptedException {
+	super(pi4j, bus, reset, drdyPin, csPin, rstPin, crtRstGpio,
+		pdwnPin, crtPdwnGpio, console, traceLevel, vref, sampleRate, useBuffer, timing);
+    }
+
     @Override
     public int getNumGpioPins() {
 	return 4;
@@ -35,11 +35,23 @@ package com.pi4j.devices.ads1256;
  *
  */
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.pi4j.Pi4J;
 import com.pi4j.context.Context;
 import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.Gain;
 import com.pi4j.devices.ads1256.ADS125x.MuxValue;
 import com.pi4j.devices.ads1256.AllInputPrinter.PrintingUnits;
+import com.pi4j.devices.base_util.filter.CicDecimator;
+import com.pi4j.devices.base_util.filter.FilterChain;
+import com.pi4j.devices.base_util.filter.NotchFilter;
+import com.pi4j.devices.base_util.filter.SampleFilter;
+import com.pi4j.devices.base_util.stream.SampleRingBuffer;
+import com.pi4j.devices.base_util.stream.SampleRingBuffer.OverflowPolicy;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.io.spi.SpiBus;
@@ -75,6 +87,16 @@ public class ADS1256App {
 	boolean useBuffer = false;
 	DataRate sampleRate = DataRate.SPS_10;
 	boolean useVoting = false;
+	VotingADS125x.Mode votingMode = VotingADS125x.Mode.REREAD;
+	boolean stream = false;
+	String calibrationFile = null;
+	int decimation = 1;
+	double notchHz = 0;
+	String recordPrefix = null;
+	long rollMegabytes = 0, rollMinutes = 0;
+	String replayPrefix = null;
+	double replaySpeed = 1;
+	ADS125xTiming timing = ADS125xTiming.DATASHEET;
 
 	int gpiopPin = 42;
 
@@ -88,7 +110,14 @@ public class ADS1256App {
 		"  -di dump all input states as quickly as possible. -dr Dump repeatedly at 1/sec. \n" +
 		"  -chase INTERVAL_MS turn one GPIO on at a time, from 0 upward and repeat\n" +
 		"  -sps sample rate/sec: 2.5, 5, 10, 15, 25, 30, 50, 60, 100, 500 (default 10SPS)\n" +
-		"  -buf Enable analog input buffer (default off) -vo Use 3-way voting/median";
+		"  -buf Enable analog input buffer (default off) -vo Use 3-way voting/median\n"+
+		"  -vw Use median of each input's last 3 conversions, without re-reading\n"+
+		"  -lt Use legacy millisecond SPI delays instead of datasheet timing\n"+
+		"  -stream Stream the -pp/-pn pair continuously at the -sps rate, printing a summary each second\n"+
+		"  -dec N Decimate -stream output by N with a CIC filter  -notch HZ Remove 50 or 60Hz mains from -stream output\n"+
+		"  -rec PATH/PREFIX Record -stream samples to binary files PREFIX-NNNNN.ads  -rollmb N -rollmin N Start a new file every N MB or minutes\n"+
+		"  -replay PATH/PREFIX Read from files recorded with -rec instead of the chip, looping  -speed X Replay X times faster (default 1)\n"+
+		"  -cal FILE Restore calibration coefficients for the -sps rate from FILE, else self-calibrate and save them";
 
 	String traceLevel = "info";
 	for (int i = 0; i < args.length; i++) {
@@ -192,6 +221,37 @@ public class ADS1256App {
 		dumpRepeatedly = true;
 	    } else if (o.contentEquals("-vo")) {
 		useVoting = true;
+	    } else if (o.contentEquals("-vw")) {
+		useVoting = true;
+		votingMode = VotingADS125x.Mode.SLIDING_WINDOW;
+	    } else if (o.contentEquals("-lt")) {
+		timing = ADS125xTiming.LEGACY;
+	    } else if (o.contentEquals("-stream")) {
+		stream = true;
+	    } else if (o.contentEquals("-dec")) {
+		decimation = Integer.parseInt(args[i + 1]);
+		i++;
+	    } else if (o.contentEquals("-notch")) {
+		notchHz = Double.parseDouble(args[i + 1]);
+		i++;
+	    } else if (o.contentEquals("-rec")) {
+		recordPrefix = args[i + 1];
+		i++;
+	    } else if (o.contentEquals("-rollmb")) {
+		rollMegabytes = Long.parseLong(args[i + 1]);
+		i++;
+	    } else if (o.contentEquals("-rollmin")) {
+		rollMinutes = Long.parseLong(args[i + 1]);
+		i++;
+	    } else if (o.contentEquals("-replay")) {
+		replayPrefix = args[i + 1];
+		i++;
+	    } else if (o.contentEquals("-speed")) {
+		replaySpeed = Double.parseDouble(args[i + 1]);
+		i++;
+	    } else if (o.contentEquals("-cal")) {
+		calibrationFile = args[i + 1];
+		i++;
 	    } else if (o.contentEquals("-sps")) { // samples per second
 		String a = args[i + 1];
 		i++;
@@ -215,9 +275,26 @@ public class ADS1256App {
 	pi4j.providers().describe().print(System.out);
 	System.out.println("----------------------------------------------------------");
 
-	ADS125x ads = new ADS1256(pi4j, spiBus, chipSelect, resetChip, drdyPin, csPin, rsrtPin, crtRestart, pdwnPin, crtPdwn, console, traceLevel,vref, sampleRate, useBuffer);
+	ADS125x ads;
+	if(replayPrefix != null) {
+	    final Path prefixPath = Paths.get(replayPrefix).toAbsolutePath();
+	    try {
+		final ReplayADS125x replay = ReplayADS125x.ofRecording(prefixPath.getParent(), prefixPath.getFileName().toString());
+		replay.setSpeed(replaySpeed);
+		replay.setLooping(true);
+		sampleRate = replay.getDataRate();
+		ads = replay;
+	    } catch(java.io.IOException e) {
+		System.out.println("Error opening recording "+replayPrefix+":");
+		e.printStackTrace();
+		System.exit(48);
+		return;
+	    }
+	    System.out.println("Replaying "+replayPrefix+" at "+sampleRate+" x"+replaySpeed);
+	} else
+	    ads = new ADS1256(pi4j, spiBus, chipSelect, resetChip, drdyPin, csPin, rsrtPin, crtRestart, pdwnPin, crtPdwn, console, traceLevel,vref, sampleRate, useBuffer, timing);
 	if(useVoting)
-	    ads = new VotingADS125x(ads,3);
+	    ads = new VotingADS125x(ads,3,votingMode);
 	
 	Thread.sleep(100);//Let settle before talking
 	Integer chipID = ads.validateChipID();
@@ -226,6 +303,21 @@ public class ADS1256App {
 	    System.exit(301);
 	}
 
+	if(calibrationFile != null) {
+	    //Auto-calibrate would replace the restored coefficients
+	    ads.configADC(Gain.GAIN_1, sampleRate, false, useBuffer);
+	    try {
+		final ADS125xCalibrationCache calibrationCache = new ADS125xCalibrationCache(Paths.get(calibrationFile));
+		final boolean restored = calibrationCache.restoreOrCalibrate(ads);
+		System.out.println((restored ? "Restored" : "Calibrated and saved") + " coefficients for " + ads.getGain() + " " + ads.getDataRate() +
+			"  ofc  :" + ads.readOffsetCalibration() + "  fsc  :" + ads.readFullScaleCalibration());
+	    } catch(java.io.IOException e) {
+		System.out.println("Error accessing calibration file "+calibrationFile+":");
+		e.printStackTrace();
+		System.exit(46);
+	    }
+	}
+
 	if (readPin) {
 	    ads.setGpioDirIn(gpiopPin);
 	    console.println(" pin " + gpiopPin + "  state : " + (ads.isGpioHigh(gpiopPin)?"HIGH":"LOW"));
@@ -256,6 +348,64 @@ public class ADS1256App {
 		}//end while(!enter)
 	    } catch(java.io.IOException e) {e.printStackTrace();}
 	    System.exit(0);
+	} else if(stream) {
+	    //Acquisition runs on its own thread so that printing cannot hold up the read loop
+	    final List<SampleFilter> stages = new ArrayList<>();
+	    if(decimation > 1)
+		stages.add(new CicDecimator(3, decimation));
+	    if(notchHz > 0)
+		stages.add(new NotchFilter(notchHz, sampleRate.getDataRateSPS() / decimation, NotchFilter.DEFAULT_Q));
+	    final ADS125xStreamReader reader = new ADS125xStreamReader(ads, new SampleRingBuffer(1 << 16, OverflowPolicy.OVERWRITE_OLDEST),
+		    stages.isEmpty() ? null : new FilterChain(stages.toArray(new SampleFilter[stages.size()])));
+	    final SampleRingBuffer buffer = reader.getBuffer();
+	    final long [] timestamps = new long[4096];
+	    final int [] batch = new int[4096];
+	    final int [] tags = new int[4096];
+	    ADS125xRecorder recorder = null;
+	    if(recordPrefix != null) {
+		final Path prefixPath = Paths.get(recordPrefix).toAbsolutePath();
+		try {
+		    recorder = new ADS125xRecorder(ads, prefixPath.getParent(), prefixPath.getFileName().toString(),
+			    rollMegabytes * 1_000_000L, rollMinutes * 60_000_000_000L);
+		} catch(java.io.IOException e) {
+		    System.out.println("Error creating recording "+recordPrefix+":");
+		    e.printStackTrace();
+		    System.exit(47);
+		}
+		System.out.println("Recording to "+recorder.getFile());
+	    }
+	    reader.start(MuxValue.valueOf(ppName).ordinal(), MuxValue.valueOf(pnName).ordinal());
+	    System.out.println("Press ENTER to end\n");
+	    try {
+		while(reader.isRunning() && (System.in.available() == 0 || System.in.read() != '\n')) {
+		    Thread.sleep(1000);
+		    long samples = 0, sum = 0;
+		    int n;
+		    while((n = buffer.drain(timestamps, batch, tags, 0, batch.length)) > 0) {
+			for(int i = 0; i < n; i++)
+			    sum += batch[i];
+			samples += n;
+			if(recorder != null)
+			    recorder.record(timestamps, batch, tags, 0, n);
+		    }
+		    System.out.print("\033[1A");//Go back up 1 line to rewrite the output
+		    System.out.println("channel  :" + ppName + "/" + pnName + "  samples/sec  :" + samples +
+			    "  mean value  :" + (samples > 0 ? sum / samples : 0) + "  lost  :" + buffer.getLostSampleCount() + "    ");
+		}//end while(!enter)
+	    } catch(java.io.IOException e) {e.printStackTrace();}
+	    reader.stop();
+	    if(recorder != null) {
+		try {
+		    int n;
+		    while((n = buffer.drain(timestamps, batch, tags, 0, batch.length)) > 0)
+			recorder.record(timestamps, batch, tags, 0, n);
+		    recorder.close();
+		    System.out.println("Recorded "+recorder.getRecordCount()+" samples, last file "+recorder.getFile());
+		} catch(java.io.IOException e) {e.printStackTrace();}
+	    }
+	    if(reader.getFailure() != null)
+		reader.getFailure().printStackTrace();
+	    System.exit(0);
 	} else {
 	    System.out.println("Press ENTER to end");
 	    int rtn = ads.readAnalogDifferential(MuxValue.valueOf(ppName).ordinal(), MuxValue.valueOf(pnName).ordinal());
@@ -36,6 +36,8 @@
 
 package com.pi4j.devices.ads1256;
 
+import java.util.function.IntConsumer;
+
 public interface ADS125x {
     
     public enum MuxValue {
@@ -65,10 +67,21 @@ public interface ADS125x {
         
         private Gain(int gainScalar) {
             this.gainScalar = gainScalar;
+            this.fullScaleCounts = gainScalar * 8.38861E6;
+            this.normalizedPerCount = 1 / fullScaleCounts;
         };
         
         private final int gainScalar;
+        private final double fullScaleCounts, normalizedPerCount;
         public int getGainScalar() {return gainScalar;}
+        /**
+         * @return Conversion value corresponding to an input of +VREF*2 at this gain
+         */
+        public double getFullScaleCounts() {return fullScaleCounts;}
+        /**
+         * @return Multiplier converting a conversion value at this gain to a fraction of full scale
+         */
+        public double getNormalizedPerCount() {return normalizedPerCount;}
     }//end GAIN
 
     public enum DataRate {
@@ -101,8 +114,43 @@ public interface ADS125x {
 	public byte asRegisterValue() {return registerAddress;}
 	public float getDataRateSPS() {return dataRateSPS;}
 	public float getSettlingTimeMS() {return settlingTimeMS;}
+
+	/**
+	 * Look up the data rate written to the DRATE register as the specified value.
+	 * @param registerValue
+	 * @return The DataRate, or null if the value is not one of the datasheet's
+	 * @since Oct 18, 2026
+	 */
+	public static DataRate ofRegisterValue(byte registerValue) {
+	    for(DataRate rate : VALUES)
+		if(rate != DRATE_MAX && rate.registerAddress == registerValue)
+		    return rate;
+	    return null;
+	}
+	private static final DataRate [] VALUES = values();
     }//end DRATE
 
+    /**
+     * On-chip calibration commands. See datasheet pg. 25.<br>
+     * Self calibrations are performed with the inputs disconnected internally. System calibrations
+     * use the inputs selected by MUX, which must be held at zero (offset) or full scale (gain) by the caller.
+     * @since Oct 18, 2026
+     */
+    public enum Calibration {
+	SELF(SELFCAL),
+	SELF_OFFSET(SELFOCAL),
+	SELF_GAIN(SELFGCAL),
+	SYSTEM_OFFSET(SYSOCAL),
+	SYSTEM_GAIN(SYSGCAL);
+
+	private Calibration(int command) {
+	    this.command = command;
+	}
+
+	private final int command;
+	public int getCommand() {return command;}
+    }//end Calibration
+
 
     static final int[] DRATE_E =
         {
@@ -155,6 +203,7 @@ public interface ADS125x {
 
 
     public final static int STATUS_ACAL = 0b00000100;  // enable auto calibrate
+    public final static int STATUS_BUFEN = 0b00000010;  // enable analog input buffer
     public final static int STATUS_DRDY_MASK = 0b00000001;  // Mask off DRDY status bit
     public final static int REG_STATUS = 0x00;
     public final static int REG_MUX = 0x01;
@@ -222,6 +271,14 @@ public interface ADS125x {
      */
     Integer validateChipID() throws InterruptedException;
 
+    /**
+     * Read the chip ID from the STATUS register without boxing.
+     * @return The chip ID, equal to CHIP_ID if valid
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    int readChipID() throws InterruptedException;
+
     /**
      * Get the currently-set VREF volt property used for calculating A/D voltage readings.
      * This property defaults to 2.5V if not set.
@@ -296,6 +353,52 @@ public interface ADS125x {
     double readAnalogDifferentialVolts(int analogPositiveInputNumber,
 	    int negativeInputNumber) throws InterruptedException;
 
+    /**
+     * Get one-sided readings against AINCOM of each of the given inputs, in order, into a caller-supplied buffer.
+     * Implementations make no per-call allocation.
+     * @param analogInputNumbers The AINx pin numbers from which to read
+     * @param out Receives one non-normalized reading per input. Must be at least analogInputNumbers.length long.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void readAnalogOneSided(int[] analogInputNumbers, int[] out) throws InterruptedException;
+
+    /**
+     * Same as readAnalogOneSided(int[], int[]) but in volts.
+     * @param analogInputNumbers The AINx pin numbers from which to read
+     * @param out Receives one reading in volts per input. Must be at least analogInputNumbers.length long.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void readAnalogOneSidedVolts(int[] analogInputNumbers, double[] out) throws InterruptedException;
+
+    /**
+     * Read count consecutive conversions of an input pair into out[offset] ... out[offset+count-1].
+     * Implementations make no per-call allocation.
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @param out Receives non-normalized readings
+     * @param offset Index in out of the first reading
+     * @param count Number of readings to take
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void readAnalogDifferential(int analogPositiveInputNumber, int analogNegativeInputNumber,
+	    int[] out, int offset, int count) throws InterruptedException;
+
+    /**
+     * Same as readAnalogDifferential(int, int, int[], int, int) but in volts.
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @param out Receives readings in volts
+     * @param offset Index in out of the first reading
+     * @param count Number of readings to take
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void readAnalogDifferentialVolts(int analogPositiveInputNumber, int analogNegativeInputNumber,
+	    double[] out, int offset, int count) throws InterruptedException;
+
     /**
      * Set the specified gpio pin
      * @param pin
@@ -303,6 +406,14 @@ public interface ADS125x {
      * @since Dec 13, 2024
      */
     public void setGpio(int pin, boolean newState);
+
+    /**
+     * Set the states of several gpio pins in one register write. Pins not configured for output are unaffected.
+     * @param pinMask Bit n set to modify GPIO pin n
+     * @param highPinMask Bit n set to drive GPIO pin n HIGH, clear to drive it LOW
+     * @since Oct 18, 2026
+     */
+    void setGpios(int pinMask, int highPinMask);
     
     /**
      * Set the gpio status byte to the I/O register, complete with direction
@@ -348,6 +459,55 @@ public interface ADS125x {
      */
     boolean isAutoCalibrateEnabled();
 
+    /**
+     * Query the PGA gain set by the most recent configADC(...)
+     * @return The current gain
+     * @since Oct 18, 2026
+     */
+    Gain getGain();
+
+    /**
+     * Query the data rate set by the most recent configADC(...)
+     * @return The current data rate
+     * @since Oct 18, 2026
+     */
+    DataRate getDataRate();
+
+    /**
+     * Perform an on-chip calibration and wait for it to complete, leaving the chip in STANDBY.
+     * The resulting coefficients are only valid for the current gain, data rate and buffer setting.
+     * @param calibration The calibration to perform
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void calibrate(Calibration calibration) throws InterruptedException;
+
+    /**
+     * Read the offset calibration coefficient from the OFC0-OFC2 registers.
+     * @return The sign-extended 24-bit offset coefficient
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    int readOffsetCalibration() throws InterruptedException;
+
+    /**
+     * Read the full-scale calibration coefficient from the FSC0-FSC2 registers.
+     * @return The unsigned 24-bit full-scale coefficient
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    int readFullScaleCalibration() throws InterruptedException;
+
+    /**
+     * Write both calibration coefficients, as previously obtained from readOffsetCalibration() and
+     * readFullScaleCalibration() at the same gain, data rate and buffer setting. With auto-calibrate enabled
+     * the chip will replace them at the next change of gain, data rate or buffer setting.
+     * @param offset Offset coefficient, in the range of a signed 24-bit value
+     * @param fullScale Full-scale coefficient, in the range of an unsigned 24-bit value
+     * @since Oct 18, 2026
+     */
+    void writeCalibration(int offset, int fullScale);
+
     /**
      * Specify the I/O direction of a given gpio pin to be OUTPUT
      * @param gpioPinNumber The pin number of the GPIO in question (D0, D1 ... Dx)
@@ -362,4 +522,89 @@ public interface ADS125x {
      */
     void setGpioDirIn(int gpioPinNumber);
 
+    /**
+     * Convert every input pair of the scan list once, in order, using the datasheet's
+     * cycling-through-inputs sequence: the MUX change, SYNC and WAKEUP for the next pair are
+     * issued in the same transaction that reads the result of the previous pair.
+     * @param scanList The input pairs to convert
+     * @return A new array holding one non-normalized reading per scan list entry, in scan list order.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    int[] scan(ADS125xScanList scanList) throws InterruptedException;
+
+    /**
+     * Same as scan(ADS125xScanList) but stores the readings into a caller-supplied frame.
+     * @param scanList The input pairs to convert
+     * @param frame Receives one non-normalized reading per scan list entry. Must be at least scanList.size() long.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void scan(ADS125xScanList scanList, int[] frame) throws InterruptedException;
+
+    /**
+     * Same as scan(ADS125xScanList, int[]) but with readings normalized as per readAnalogDifferentialNormalized(...)
+     * @param scanList The input pairs to convert
+     * @param frame Receives one normalized reading per scan list entry. Must be at least scanList.size() long.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void scanNormalized(ADS125xScanList scanList, double[] frame) throws InterruptedException;
+
+    /**
+     * Same as scan(ADS125xScanList, int[]) but with readings in volts as per readAnalogDifferentialVolts(...)
+     * @param scanList The input pairs to convert
+     * @param frame Receives one reading in volts per scan list entry. Must be at least scanList.size() long.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void scanVolts(ADS125xScanList scanList, double[] frame) throws InterruptedException;
+
+    /**
+     * Stream conversions of the specified input pair using the chip's RDATAC (read data continuous) mode.
+     * RDATAC is issued once, then a 24-bit frame is read on each falling edge of DRDY and handed to the
+     * sampleConsumer on the calling thread. This method blocks until stopContinuousRead() is called from
+     * another thread or the calling thread is interrupted, after which SDATAC is issued and the chip is
+     * returned to standby.<br>
+     * No other conversion or register operation may be performed while streaming.
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @param sampleConsumer Receives each conversion as a sign-extended, non-normalized value.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void readContinuous(int analogPositiveInputNumber, int analogNegativeInputNumber,
+	    IntConsumer sampleConsumer) throws InterruptedException;
+
+    /**
+     * Query the timestamp of the conversion most recently read, captured when the DRDY falling edge
+     * announcing it was received. Intended to be queried from the reading thread; within a
+     * readContinuous(...) consumer this is the timestamp of the sample being accepted.
+     * @return System.nanoTime() of the DRDY edge, or 0 if no conversion has been read
+     * @since Oct 18, 2026
+     */
+    long getLastConversionNanos();
+
+    /**
+     * Query the input pair and PGA gain of the conversion most recently read. Intended to be queried
+     * from the reading thread, as with getLastConversionNanos().
+     * @return The pair and gain packed as per ADS125xSampleTag
+     * @since Oct 18, 2026
+     */
+    int getLastConversionTag();
+
+    /**
+     * Request that a running readContinuous(...) stream end after the frame currently being awaited.
+     * Has no effect if no stream is running.
+     * @since Oct 18, 2026
+     */
+    void stopContinuousRead();
+
+    /**
+     * Query whether a readContinuous(...) stream is currently running.
+     * @return true if streaming, else false.
+     * @since Oct 18, 2026
+     */
+    boolean isReadingContinuous();
+
 }//end ADS125x
\ No newline at end of file
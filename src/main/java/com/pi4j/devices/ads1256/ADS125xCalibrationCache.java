@@ -0,0 +1,178 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xCalibrationCache.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.ads1256;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Properties;
+
+import com.pi4j.devices.ads1256.ADS125x.Calibration;
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+
+/**
+ * Persists the ADS125x offset and full-scale calibration coefficients in a properties file, keyed by gain and data rate,
+ * so that a restarted application or a gain switch can restore them in one register write instead of waiting for a
+ * self-calibration. Coefficients depend on the buffer setting and, for system calibrations, on the external circuit;
+ * use one file per configuration.<br>
+ * Auto-calibrate should be disabled in configADC(...) when using this cache, else the chip recalibrates on each
+ * configuration change and the restored coefficients are replaced.
+ *
+ * Properties are of the form GAIN_1.SPS_30000.ofc=-1234 and GAIN_1.SPS_30000.fsc=5678901
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xCalibrationCache {
+    private final Path file;
+    private final Properties coefficients = new Properties();
+
+    /**
+     * Create a cache backed by the specified file, loading its contents if it exists.
+     * @param file
+     * @throws IOException If the file exists but could not be read
+     * @since Oct 18, 2026
+     */
+    public ADS125xCalibrationCache(Path file) throws IOException {
+	this.file = Objects.requireNonNull(file, "file");
+	if(Files.exists(file)) {
+	    try(InputStream is = Files.newInputStream(file)) {
+		coefficients.load(is);
+	    }
+	}
+    }//end constructor
+
+    /**
+     * Write the cached coefficients for the chip's current gain and data rate, if present.
+     * @param ads
+     * @return true if coefficients were found and written, false if none are cached for this configuration.
+     * @since Oct 18, 2026
+     */
+    public boolean restore(ADS125x ads) {
+	final String offset = coefficients.getProperty(keyOf(ads.getGain(), ads.getDataRate(), "ofc"));
+	final String fullScale = coefficients.getProperty(keyOf(ads.getGain(), ads.getDataRate(), "fsc"));
+	if(offset == null || fullScale == null)
+	    return false;
+	try {ads.writeCalibration(Integer.decode(offset), Integer.decode(fullScale));}
+	catch(NumberFormatException e) {
+	    throw new IllegalStateException("Malformed calibration coefficient in "+file+" for "+ads.getGain()+" "+ads.getDataRate(), e);
+	}
+	return true;
+    }//end restore(...)
+
+    /**
+     * Read the chip's coefficients and record them under its current gain and data rate, then save the file.
+     * @param ads
+     * @throws InterruptedException
+     * @throws IOException If the file could not be written
+     * @since Oct 18, 2026
+     */
+    public void store(ADS125x ads) throws InterruptedException, IOException {
+	final Gain gain = ads.getGain();
+	final DataRate dataRate = ads.getDataRate();
+	coefficients.setProperty(keyOf(gain, dataRate, "ofc"), Integer.toString(ads.readOffsetCalibration()));
+	coefficients.setProperty(keyOf(gain, dataRate, "fsc"), Integer.toString(ads.readFullScaleCalibration()));
+	save();
+    }//end store(...)
+
+    /**
+     * Restore the coefficients for the chip's current gain and data rate, or if none are cached,
+     * self-calibrate and store the result.
+     * @param ads
+     * @return true if restored from the cache, false if calibrated.
+     * @throws InterruptedException
+     * @throws IOException If the file could not be written
+     * @since Oct 18, 2026
+     */
+    public boolean restoreOrCalibrate(ADS125x ads) throws InterruptedException, IOException {
+	if(restore(ads))
+	    return true;
+	ads.calibrate(Calibration.SELF);
+	store(ads);
+	return false;
+    }//end restoreOrCalibrate(...)
+
+    /**
+     * Forget the coefficients for the specified configuration, as when the hardware has changed, and save the file.
+     * @param gain
+     * @param dataRate
+     * @throws IOException If the file could not be written
+     * @since Oct 18, 2026
+     */
+    public void remove(Gain gain, DataRate dataRate) throws IOException {
+	coefficients.remove(keyOf(gain, dataRate, "ofc"));
+	coefficients.remove(keyOf(gain, dataRate, "fsc"));
+	save();
+    }
+
+    /**
+     * Query whether coefficients are cached for the specified configuration.
+     * @param gain
+     * @param dataRate
+     * @return true if both coefficients are present
+     * @since Oct 18, 2026
+     */
+    public boolean contains(Gain gain, DataRate dataRate) {
+	return coefficients.containsKey(keyOf(gain, dataRate, "ofc")) && coefficients.containsKey(keyOf(gain, dataRate, "fsc"));
+    }
+
+    public Path getFile() {
+	return file;
+    }
+
+    private void save() throws IOException {
+	//Write aside and move into place so that a failure part way cannot corrupt the existing file
+	final Path parent = file.toAbsolutePath().getParent();
+	final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+	try {
+	    try(OutputStream os = Files.newOutputStream(temp)) {
+		coefficients.store(os, "ADS125x calibration coefficients");
+	    }
+	    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+	} finally {Files.deleteIfExists(temp);}
+    }//end save()
+
+    private static String keyOf(Gain gain, DataRate dataRate, String coefficient) {
+	return gain.name() + "." + dataRate.name() + "." + coefficient;
+    }
+}//end ADS125xCalibrationCache
@@ -0,0 +1,180 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xConversionDecoderTest.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+
+/**
+ * Hardware-free check of the ADS125xConversionDecoder bulk decoders against the byte-wise decode(byte[], int).
+ * Random frames, including the extremes of the 24-bit range, are decoded at every frame offset and with every
+ * alignment of the last frame against the end of the data: the end of the array, or the limit of a heap or direct
+ * ByteBuffer, including heap buffers whose array extends past the limit, slices, read-only and little-endian buffers.
+ * Exits with status 1 if any check fails.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xConversionDecoderTest {
+    private static final int MAX_FRAMES = 9, MAX_OFFSET = 5, MAX_TAIL = 4, SENTINEL = 0x5A5A5A5A;
+    private static final double VOLTS_PER_COUNT = ADS125xConversionDecoder.voltsPerCount(Gain.GAIN_8, 2.5);
+    private static final Random random = new Random(20);
+    private static int failures = 0, cases = 0;
+
+    public static void main(String[] args) {
+	for(int count = 0; count <= MAX_FRAMES; count++)
+	    for(int offset = 0; offset <= MAX_OFFSET; offset++)
+		for(int tail = 0; tail <= MAX_TAIL; tail++)
+		    for(int trial = 0; trial < 4; trial++)
+			checkCase(randomFrames(offset + count * ADS125xConversionDecoder.FRAME_LENGTH + tail), offset, count, tail);
+
+	//Too few bytes for the count
+	boolean threw = false;
+	try {ADS125xConversionDecoder.decode(new byte[8], 0, new int[3], 0, 3);}
+	catch(IndexOutOfBoundsException e) {threw = true;}
+	check("byte[] overrun rejected", threw);
+	threw = false;
+	try {ADS125xConversionDecoder.decode(ByteBuffer.allocateDirect(9).limit(8), new int[3], 0, 3);}
+	catch(BufferUnderflowException e) {threw = true;}
+	check("ByteBuffer underflow rejected", threw);
+
+	System.out.println(cases+" cases");
+	System.out.println(failures == 0 ? "PASS" : "FAIL: "+failures+" failures");
+	System.exit(failures == 0 ? 0 : 1);
+    }//end main()
+
+    /**
+     * Decode count frames starting at offset of data, which holds tail bytes after them, by every route.
+     */
+    private static void checkCase(byte [] data, int offset, int count, int tail) {
+	cases++;
+	final String name = "count "+count+" offset "+offset+" tail "+tail;
+	final int length = count * ADS125xConversionDecoder.FRAME_LENGTH;
+	final int [] expected = new int[count];
+	final float [] expectedVolts = new float[count];
+	for(int i = 0; i < count; i++) {
+	    expected[i] = ADS125xConversionDecoder.decode(data, offset + i * ADS125xConversionDecoder.FRAME_LENGTH);
+	    expectedVolts[i] = expected[i] * (float)VOLTS_PER_COUNT;
+	}
+
+	//byte[], the frames ending tail bytes before the end of the array
+	int [] out = newOut(count);
+	ADS125xConversionDecoder.decode(data, offset, out, 1, count);
+	check(name+" byte[]", matches(out, expected));
+	float [] volts = newVolts(count);
+	ADS125xConversionDecoder.decodeVolts(data, offset, volts, 1, count, VOLTS_PER_COUNT);
+	check(name+" byte[] volts", matches(volts, expectedVolts));
+
+	//Heap buffer whose array extends tail bytes past the limit
+	checkBuffer(name+" heap past limit", ByteBuffer.wrap(data).position(offset).limit(offset + length), offset, count, expected, expectedVolts);
+	//Heap buffer ending at its array, little-endian, which the decoders must ignore
+	checkBuffer(name+" heap little-endian", ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).position(offset), offset, count, expected, expectedVolts);
+	//Slice, whose array offset is non-zero
+	checkBuffer(name+" heap slice", ByteBuffer.wrap(data).position(offset).slice(), 0, count, expected, expectedVolts);
+	//Read-only heap buffer, which has no accessible array
+	checkBuffer(name+" read-only", ByteBuffer.wrap(data).asReadOnlyBuffer().position(offset), offset, count, expected, expectedVolts);
+
+	//Direct buffers, with the limit at the last frame and at the end of the data, in both byte orders
+	for(ByteOrder order : new ByteOrder [] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+	    final ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).order(order);
+	    checkBuffer(name+" direct "+order+" at limit", direct.duplicate().order(order).position(offset).limit(offset + length), offset, count, expected, expectedVolts);
+	    checkBuffer(name+" direct "+order, direct.duplicate().order(order).position(offset), offset, count, expected, expectedVolts);
+	}
+    }//end checkCase(...)
+
+    private static void checkBuffer(String name, ByteBuffer frames, int start, int count, int [] expected, float [] expectedVolts) {
+	final int end = start + count * ADS125xConversionDecoder.FRAME_LENGTH;
+	final int [] out = newOut(count);
+	ADS125xConversionDecoder.decode(frames.duplicate().order(frames.order()).position(start), out, 1, count);
+	check(name, matches(out, expected));
+	final float [] volts = newVolts(count);
+	final ByteBuffer voltsFrames = frames.duplicate().order(frames.order()).position(start);
+	ADS125xConversionDecoder.decodeVolts(voltsFrames, volts, 1, count, VOLTS_PER_COUNT);
+	check(name+" volts", matches(volts, expectedVolts));
+	check(name+" position", voltsFrames.position() == end);
+    }
+
+    /**
+     * @return Random frames, with frames of the most negative, most positive, zero and -1 values mixed in
+     */
+    private static byte [] randomFrames(int length) {
+	final byte [] data = new byte[length];
+	random.nextBytes(data);
+	final int [] extremes = {0x800000, 0x7FFFFF, 0, 0xFFFFFF};
+	for(int i = 0; i + 2 < length; i += 3 * (1 + random.nextInt(3))) {
+	    final int value = extremes[random.nextInt(extremes.length)];
+	    data[i] = (byte)(value >> 16);
+	    data[i + 1] = (byte)(value >> 8);
+	    data[i + 2] = (byte)value;
+	}
+	return data;
+    }
+
+    //One element either side of the decoded run, to detect writes outside it
+    private static int [] newOut(int count) {
+	final int [] out = new int[count + 2];
+	Arrays.fill(out, SENTINEL);
+	return out;
+    }
+
+    private static float [] newVolts(int count) {
+	final float [] volts = new float[count + 2];
+	Arrays.fill(volts, Float.NaN);
+	return volts;
+    }
+
+    private static boolean matches(int [] out, int [] expected) {
+	return out[0] == SENTINEL && out[out.length - 1] == SENTINEL && Arrays.equals(out, 1, out.length - 1, expected, 0, expected.length);
+    }
+
+    private static boolean matches(float [] out, float [] expected) {
+	return Float.isNaN(out[0]) && Float.isNaN(out[out.length - 1]) && Arrays.equals(out, 1, out.length - 1, expected, 0, expected.length);
+    }
+
+    private static void check(String name, boolean passed) {
+	if(!passed) {
+	    if(failures < 20)
+		System.out.println("FAILED: "+name);
+	    failures++;
+	}
+    }
+}//end ADS125xConversionDecoderTest
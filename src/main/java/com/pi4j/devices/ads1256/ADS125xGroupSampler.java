@@ -0,0 +1,264 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xGroupSampler.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+
+/**
+ * Phase-aligned sampling of one input pair on each of several ADS125x chips whose SYNC/PDWN pins share a GPIO.
+ * Each chip is set converting its pair, then one pulse of SYNC/PDWN restarts every chip's conversion at once, so the
+ * chips' conversions complete together instead of one settling time apart as sequential reads would.
+ * Each chip is read as its DRDY falls, in a single pass over the chips.<br>
+ * A series of frames continues on the chips' own conversion clocks after the pulse. If any chip completes a conversion
+ * which was not read in time, the frame would lose alignment, so the group is pulsed again and the frame repeated;
+ * see getResyncCount(). If reading all of the chips takes longer than one conversion period, the last chips always
+ * miss their conversion, so a frame which fails MAX_CONSECUTIVE_RESYNCS times in a row is abandoned. Boards with separate crystals drift apart by their clocks' tolerance over a long series;
+ * sampling in shorter series re-aligns them at each call.<br>
+ * Chips must be constructed with crtPdwnGpio true and the same pdwnPin in one Context, so that they share the GPIO.
+ * They may be on the same or on separate ADS125xSpiBuses. Not thread-safe.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xGroupSampler {
+    /** Number of times in a row one frame may be re-synchronized before sampling fails */
+    public static final int MAX_CONSECUTIVE_RESYNCS = 4;
+    private final AbstractADS125x [] chips;
+    private final DigitalOutput syncGpio;
+    private final int [] positiveInputs, negativeInputs;
+    private final long [] marks;
+    private final int [] values;
+    private final long [] conversionNanos;
+    private long lastSkewNanos = 0, resyncCount = 0;
+
+    /**
+     *
+     * @param chips Chips to sample together, in frame order, each appearing once
+     * @since Oct 18, 2026
+     */
+    public ADS125xGroupSampler(AbstractADS125x ... chips) {
+	super();
+	if(chips.length == 0)
+	    throw new IllegalArgumentException("At least one chip is required.");
+	for(int i = 0; i < chips.length; i++) {
+	    Objects.requireNonNull(chips[i], "Chip "+i+" is null.");
+	    if(chips[i].getSyncGpio() == null)
+		throw new IllegalArgumentException("Chip "+i+" has no SYNC/PDWN GPIO. Construct it with crtPdwnGpio true.");
+	    if(chips[i].getSyncGpio() != chips[0].getSyncGpio())
+		throw new IllegalArgumentException("Chip "+i+" does not share chip 0's SYNC/PDWN GPIO.");
+	    for(int j = 0; j < i; j++)
+		if(chips[j] == chips[i])
+		    throw new IllegalArgumentException("Chip "+i+" is the same as chip "+j+".");
+	}
+	this.chips = chips.clone();
+	this.syncGpio = chips[0].getSyncGpio();
+	this.positiveInputs = new int[chips.length];
+	this.negativeInputs = new int[chips.length];
+	Arrays.fill(negativeInputs, MuxValue.AINCOM.channelNumber());
+	this.marks = new long[chips.length];
+	this.values = new int[chips.length];
+	this.conversionNanos = new long[chips.length];
+    }//end constructor
+
+    /**
+     * Specify the input pair which a chip converts in each frame. Defaults to AIN0 against AINCOM.
+     * @param chipIndex Index of the chip as given to the constructor
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @since Oct 18, 2026
+     */
+    public void setInputPair(int chipIndex, int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	Objects.checkIndex(chipIndex, chips.length);
+	final int numInputs = chips[chipIndex].getNumAnalogPins();
+	if(!isInput(analogPositiveInputNumber, numInputs))
+	    throw new IllegalArgumentException("Positive input out of range of [0,"+(numInputs-1)+"] or AINCOM. Got "+analogPositiveInputNumber);
+	if(!isInput(analogNegativeInputNumber, numInputs))
+	    throw new IllegalArgumentException("Negative input out of range of [0,"+(numInputs-1)+"] or AINCOM. Got "+analogNegativeInputNumber);
+	positiveInputs[chipIndex] = analogPositiveInputNumber;
+	negativeInputs[chipIndex] = analogNegativeInputNumber;
+    }//end setInputPair(...)
+
+    private static boolean isInput(int analogInputNumber, int numInputs) {
+	return (analogInputNumber >= 0 && analogInputNumber < numInputs) || analogInputNumber == MuxValue.AINCOM.channelNumber();
+    }
+
+    /**
+     * Convert each chip's input pair once, all chips starting together.
+     * @param frame Receives one reading per chip, in chip order
+     * @throws InterruptedException
+     * @throws IllegalStateException If the frame failed MAX_CONSECUTIVE_RESYNCS times in a row, as when the data rate is
+     * too high to read every chip within one conversion period
+     * @since Oct 18, 2026
+     */
+    public void sample(int [] frame) throws InterruptedException {
+	if(frame.length < chips.length)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than number of chips "+chips.length);
+	beginAll();
+	try {
+	    synchronize();
+	    acquireFrame();
+	    System.arraycopy(values, 0, frame, 0, chips.length);
+	} finally {endAll();}
+    }//end sample(...)
+
+    /**
+     * Convert a series of aligned frames, synchronizing the chips once at the start.
+     * @param frames Receives each chip's readings; frames[chip][offset + i] is the reading of frame i
+     * @param offset
+     * @param count Number of frames
+     * @throws InterruptedException
+     * @throws IllegalStateException If a frame failed MAX_CONSECUTIVE_RESYNCS times in a row, as when the data rate is
+     * too high to read every chip within one conversion period
+     * @since Oct 18, 2026
+     */
+    public void sample(int [][] frames, int offset, int count) throws InterruptedException {
+	if(frames.length != chips.length)
+	    throw new IllegalArgumentException("Expected one array per chip. Got "+frames.length+" for "+chips.length+" chips.");
+	for(int [] chipFrames : frames)
+	    Objects.checkFromIndexSize(offset, count, chipFrames.length);
+	if(count == 0)
+	    return;
+	beginAll();
+	try {
+	    synchronize();
+	    for(int i = 0; i < count; i++) {
+		acquireFrame();
+		for(int c = 0; c < chips.length; c++)
+		    frames[c][offset + i] = values[c];
+	    }
+	} finally {endAll();}
+    }//end sample(...)
+
+    private void beginAll() throws InterruptedException {
+	int begun = 0;
+	try {
+	    for(; begun < chips.length; begun++)
+		chips[begun].beginSynchronized(positiveInputs[begun], negativeInputs[begun]);
+	} catch(RuntimeException | InterruptedException e) {
+	    for(int i = 0; i < begun; i++)
+		chips[i].endSynchronized();
+	    throw e;
+	}
+    }//end beginAll()
+
+    private void endAll() throws InterruptedException {
+	for(AbstractADS125x chip : chips)
+	    chip.endSynchronized();
+    }
+
+    /**
+     * Pulse SYNC/PDWN, restarting every chip's conversion on its rising edge. The chips' edge marks are taken while
+     * conversions are halted, so any conversion completing before the pulse is not mistaken for the first one after.
+     * The pulse must stay well short of 20 conversion periods, after which the chips would power down.
+     * @since Oct 18, 2026
+     */
+    private void synchronize() {
+	syncGpio.low();
+	for(int c = 0; c < chips.length; c++)
+	    marks[c] = chips[c].getFallingEdgeCount();
+	syncGpio.high();
+    }
+
+    /**
+     * Read the next conversion of every chip into values, re-synchronizing and repeating the frame if any chip
+     * completed a conversion which was not read.
+     * @throws InterruptedException
+     * @throws IllegalStateException If the frame failed MAX_CONSECUTIVE_RESYNCS times in a row
+     * @since Oct 18, 2026
+     */
+    private void acquireFrame() throws InterruptedException {
+	for(int resyncs = 0; !readFrame(); resyncs++) {
+	    //Reading every chip takes longer than a conversion, so each retry would fail the same way
+	    if(resyncs == MAX_CONSECUTIVE_RESYNCS)
+		throw new IllegalStateException("Could not read all "+chips.length+" chips within one conversion period at "+
+			chips[0].getDataRate()+" after "+MAX_CONSECUTIVE_RESYNCS+" re-synchronizations. Lower the data rate or sample fewer chips.");
+	    resyncCount++;
+	    synchronize();
+	}
+	long first = Long.MAX_VALUE, last = Long.MIN_VALUE;
+	for(int c = 0; c < chips.length; c++) {
+	    marks[c]++;
+	    first = Math.min(first, conversionNanos[c]);
+	    last = Math.max(last, conversionNanos[c]);
+	}
+	lastSkewNanos = last - first;
+    }//end acquireFrame()
+
+    /**
+     * @return false if a chip's count shows that the conversion read was not the one following its mark
+     */
+    private boolean readFrame() throws InterruptedException {
+	for(int c = 0; c < chips.length; c++) {
+	    final AbstractADS125x chip = chips[c];
+	    if(chip.awaitSynchronized(marks[c]) == marks[c])
+		throw new IllegalStateException("Chip "+c+" did not signal DRDY after SYNC/PDWN.");
+	    conversionNanos[c] = chip.getLastConversionNanos();
+	    values[c] = chip.readSynchronized();
+	    if(chip.getFallingEdgeCount() != marks[c] + 1)
+		return false;
+	}
+	return true;
+    }//end readFrame()
+
+    /**
+     * Spread of the DRDY edge timestamps of the chips' conversions in the most recent frame. This includes the
+     * latency with which each edge was received, so it bounds the skew between the chips' sampling instants from above.
+     * @return Nanoseconds between the earliest and latest DRDY edges, or 0 if no frame has been sampled
+     * @since Oct 18, 2026
+     */
+    public long getLastSkewNanos() {
+	return lastSkewNanos;
+    }
+
+    /**
+     * Number of times a series was re-synchronized because a chip's conversion went unread, since construction.
+     * Frequent resyncs indicate a data rate too high for the number of chips on the bus.
+     * @return The count
+     * @since Oct 18, 2026
+     */
+    public long getResyncCount() {
+	return resyncCount;
+    }
+
+    public int getNumChips() {
+	return chips.length;
+    }
+}//end ADS125xGroupSampler
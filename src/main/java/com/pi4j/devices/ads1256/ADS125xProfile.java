@@ -0,0 +1,113 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xProfile.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.ads1256;
+
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+
+/**
+ * Immutable gain, data rate and input buffer setting to apply while converting one input pair of an ADS125xScanList,
+ * such as a thermocouple at GAIN_64 and 15SPS scanned alongside potentiometers at GAIN_1 and 1000SPS.
+ * Pairs without a profile are converted with the configuration set by configADC(...).
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS125xProfile {
+    private final Gain gain;
+    private final DataRate dataRate;
+    private final boolean bufferEnabled;
+
+    /**
+     *
+     * @param gain
+     * @param dataRate
+     * @param bufferEnabled true to enable the analog input buffer
+     * @since Oct 18, 2026
+     */
+    public ADS125xProfile(Gain gain, DataRate dataRate, boolean bufferEnabled) {
+	if(gain == null || dataRate == null)
+	    throw new NullPointerException("Gain and data rate must not be null. Got "+gain+", "+dataRate);
+	if(dataRate == DataRate.DRATE_MAX)
+	    throw new IllegalArgumentException("DRATE_MAX is not a data rate.");
+	this.gain = gain;
+	this.dataRate = dataRate;
+	this.bufferEnabled = bufferEnabled;
+    }
+
+    public Gain getGain() {
+	return gain;
+    }
+
+    public DataRate getDataRate() {
+	return dataRate;
+    }
+
+    public boolean isBufferEnabled() {
+	return bufferEnabled;
+    }
+
+    /**
+     * Query whether this profile specifies the given configuration.
+     * @param gain
+     * @param dataRate
+     * @param bufferEnabled
+     * @return true if all three match
+     * @since Oct 18, 2026
+     */
+    public boolean matches(Gain gain, DataRate dataRate, boolean bufferEnabled) {
+	return this.gain == gain && this.dataRate == dataRate && this.bufferEnabled == bufferEnabled;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if(!(obj instanceof ADS125xProfile))
+	    return false;
+	final ADS125xProfile other = (ADS125xProfile)obj;
+	return other.matches(gain, dataRate, bufferEnabled);
+    }
+
+    @Override
+    public int hashCode() {
+	return (gain.ordinal() * 31 + dataRate.ordinal()) * 2 + (bufferEnabled ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+	return "ADS125xProfile[" + gain + " " + dataRate + (bufferEnabled ? " buffered" : "") + "]";
+    }
+}//end ADS125xProfile
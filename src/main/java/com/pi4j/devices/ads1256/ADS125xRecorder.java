@@ -0,0 +1,327 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xRecorder.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.pi4j.devices.base_util.stream.SampleRecordConsumer;
+
+/**
+ * Records timestamped, tagged ADS125x samples, such as those drained from an ADS125xStreamReader's buffer, to
+ * compact binary files. Samples are gathered in a direct buffer and written through a FileChannel in large writes
+ * aligned to 4KiB, so that hours of 30kSPS data can be logged to an SD card without formatting text.<br>
+ * Files are named PREFIX-NNNNN.ads in the given directory, numbered from the first unused number, and are rolled
+ * when they reach a maximum size or span a maximum time. Existing files are never overwritten.
+ *
+ * File layout, little-endian:
+ * <pre>
+ * Offset Size
+ *   0    8   Magic "ADS125xR"
+ *   8    2   Format version, 1
+ *  10    2   Record length, 12
+ *  12    4   Header length, 4096; records follow
+ *  16    4   File number within the recording
+ *  20    4   Number of channels in the channel table
+ *  24    8   Wall clock at opening, epoch milliseconds
+ *  32    8   System.nanoTime() at opening, relating record timestamps to the wall clock
+ *  40    8   Chip data rate, samples per second (double)
+ *  48    8   Reference voltage, volts (double)
+ *  56    4   Configured PGA gain (1-64)
+ *  60    4   Chip DRATE register value
+ *  64    8   Number of records, or -1 if the file was not closed
+ *  72  4*N   Channel table: the ADS125xSampleTag of each channel, in order of first appearance
+ * Records:
+ *   0    8   System.nanoTime() based timestamp of the sample
+ *   8    4   Sample value in bits 8-31 (sign-extended by an arithmetic shift), channel table index in bits 0-7
+ * </pre>
+ * A file which was not closed, as after a power failure, still holds every record written before, and the channel
+ * table is written ahead of the records which refer to it; its record count is then found from its length. Samples are saturated to the 24-bit range, as produced by the chip.<br>
+ * Not thread-safe: record from one thread, such as the one draining the stream's buffer.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xRecorder implements SampleRecordConsumer, Closeable {
+    public static final String FILE_SUFFIX = ".ads";
+    public static final int HEADER_LENGTH = 4096;
+    public static final int RECORD_LENGTH = 12;
+    public static final int MAX_CHANNELS = 255;
+    public static final short FORMAT_VERSION = 1;
+    static final byte [] MAGIC = "ADS125xR".getBytes(StandardCharsets.US_ASCII);
+    static final int CHANNEL_COUNT_OFFSET = 20, VREF_OFFSET = 48, GAIN_OFFSET = 56, DRATE_OFFSET = 60,
+	    RECORD_COUNT_OFFSET = 64, CHANNEL_TABLE_OFFSET = 72;
+    //Whole records and whole 4KiB blocks, so that every full write leaves the file position aligned
+    static final int WRITE_BUFFER_LENGTH = 16 * RECORD_LENGTH * 4096;
+    private static final int NUM_TAGS = ADS125x.Gain.values().length << 8;
+
+    private final ADS125x ads;
+    private final Path directory;
+    private final String prefix;
+    private final long maxFileBytes, maxFileNanos;
+    private final ByteBuffer header = ByteBuffer.allocateDirect(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer records = ByteBuffer.allocateDirect(WRITE_BUFFER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    private final short [] channelOfTag = new short[NUM_TAGS];
+    private FileChannel channel;
+    private Path file;
+    private int fileNumber = 0, channelCount;
+    private long fileRecordCount, firstTimestampNanos, recordCount = 0;
+    private boolean headerDirty;
+
+    /**
+     * Create a recorder and open its first file. Header values are taken from the chip as each file is opened.
+     * @param ads Chip whose data rate, gain and reference voltage describe the recording
+     * @param directory Directory in which to create the files
+     * @param prefix File name prefix
+     * @param maxFileBytes Roll to a new file before exceeding this length, or 0 for no limit
+     * @param maxFileNanos Roll to a new file once a file's samples span this time, or 0 for no limit
+     * @throws IOException If the first file could not be created
+     * @since Oct 18, 2026
+     */
+    public ADS125xRecorder(ADS125x ads, Path directory, String prefix, long maxFileBytes, long maxFileNanos) throws IOException {
+	super();
+	this.ads = Objects.requireNonNull(ads, "ads");
+	this.directory = Objects.requireNonNull(directory, "directory");
+	this.prefix = Objects.requireNonNull(prefix, "prefix");
+	if(maxFileBytes < 0 || (maxFileBytes > 0 && maxFileBytes < HEADER_LENGTH + RECORD_LENGTH))
+	    throw new IllegalArgumentException("maxFileBytes must be 0 or at least "+(HEADER_LENGTH + RECORD_LENGTH)+". Got "+maxFileBytes);
+	if(maxFileNanos < 0)
+	    throw new IllegalArgumentException("maxFileNanos must not be negative. Got "+maxFileNanos);
+	this.maxFileBytes = maxFileBytes;
+	this.maxFileNanos = maxFileNanos;
+	openFile();
+    }//end constructor
+
+    /**
+     * Record one sample. See record(...)
+     * @throws UncheckedIOException If the sample could not be written
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void accept(long timestampNanos, int value, int tag) {
+	try {record(timestampNanos, value, tag);}
+	catch(IOException e) {throw new UncheckedIOException(e);}
+    }
+
+    /**
+     * Record one sample, rolling to a new file first if the current one is full.
+     * @param timestampNanos System.nanoTime() based timestamp, e.g. of the DRDY edge
+     * @param value Sign-extended conversion value
+     * @param tag ADS125xSampleTag of the sample's input pair and gain
+     * @throws IOException
+     * @throws IllegalArgumentException If the tag is not a valid ADS125xSampleTag
+     * @since Oct 18, 2026
+     */
+    public void record(long timestampNanos, int value, int tag) throws IOException {
+	if(channel == null)
+	    throw new IllegalStateException("This recorder is closed.");
+	if(fileRecordCount > 0 && ((maxFileBytes > 0 && HEADER_LENGTH + (fileRecordCount + 1) * RECORD_LENGTH > maxFileBytes) ||
+		(maxFileNanos > 0 && timestampNanos - firstTimestampNanos >= maxFileNanos))) {
+	    closeFile();
+	    openFile();
+	}
+	if(fileRecordCount == 0)
+	    firstTimestampNanos = timestampNanos;
+	final int channelIndex = channelOf(tag);
+	final int saturated = Math.max(-0x800000, Math.min(0x7FFFFF, value));
+	records.putLong(timestampNanos);
+	records.putInt((saturated << 8) | channelIndex);
+	fileRecordCount++;
+	recordCount++;
+	if(!records.hasRemaining())
+	    writeRecords();
+    }//end record(...)
+
+    /**
+     * Record samples as drained by SampleRingBuffer.drain(long[], int[], int[], int, int).
+     * @param timestampsNanos
+     * @param values
+     * @param tags
+     * @param offset
+     * @param count
+     * @throws IOException
+     * @since Oct 18, 2026
+     */
+    public void record(long [] timestampsNanos, int [] values, int [] tags, int offset, int count) throws IOException {
+	Objects.checkFromIndexSize(offset, count, timestampsNanos.length);
+	Objects.checkFromIndexSize(offset, count, values.length);
+	Objects.checkFromIndexSize(offset, count, tags.length);
+	for(int i = offset; i < offset + count; i++)
+	    record(timestampsNanos[i], values[i], tags[i]);
+    }
+
+    private int channelOf(int tag) {
+	//NUM_TAGS is not a power of two, so the tag is range-checked rather than masked
+	if(tag < 0 || tag >= NUM_TAGS)
+	    throw new IllegalArgumentException("Tag out of range of [0,"+(NUM_TAGS - 1)+"]. Got "+tag);
+	final int channel = channelOfTag[tag];
+	if(channel != 0)
+	    return channel - 1;
+	if(channelCount == MAX_CHANNELS)
+	    throw new IllegalStateException("A recording may hold at most "+MAX_CHANNELS+" distinct input pair and gain tags.");
+	header.putInt(CHANNEL_TABLE_OFFSET + 4 * channelCount, tag);
+	channelOfTag[tag] = (short)(++channelCount);
+	header.putInt(CHANNEL_COUNT_OFFSET, channelCount);
+	headerDirty = true;
+	return channelCount - 1;
+    }//end channelOf(...)
+
+    /**
+     * Write the buffered records and any change to the header. The next full write is then no longer aligned
+     * to 4KiB, so this is best left to close() and to file rolls unless the data must reach the file sooner.
+     * @throws IOException
+     * @since Oct 18, 2026
+     */
+    public void flush() throws IOException {
+	if(channel == null)
+	    return;
+	writeRecords();
+    }
+
+    private void writeRecords() throws IOException {
+	//The channel table must reach the file before any record which refers to it
+	writeHeader();
+	records.flip();
+	while(records.hasRemaining())
+	    channel.write(records);
+	records.clear();
+    }
+
+    private void writeHeader() throws IOException {
+	if(!headerDirty)
+	    return;
+	header.clear();
+	while(header.hasRemaining())
+	    channel.write(header, header.position());
+	headerDirty = false;
+    }
+
+    private void openFile() throws IOException {
+	FileChannel newChannel = null;
+	Path newFile = null;
+	while(newChannel == null) {
+	    newFile = directory.resolve(String.format("%s-%05d%s", prefix, fileNumber, FILE_SUFFIX));
+	    try {newChannel = FileChannel.open(newFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);}
+	    catch(FileAlreadyExistsException e) {fileNumber++;}
+	}
+	channel = newChannel;
+	file = newFile;
+	fileRecordCount = 0;
+	channelCount = 0;
+	Arrays.fill(channelOfTag, (short)0);
+	for(int i = 0; i < HEADER_LENGTH; i += 8)
+	    header.putLong(i, 0);
+	header.clear();
+	header.put(MAGIC);
+	header.putShort(FORMAT_VERSION);
+	header.putShort((short)RECORD_LENGTH);
+	header.putInt(HEADER_LENGTH);
+	header.putInt(fileNumber);
+	header.putInt(0);
+	header.putLong(System.currentTimeMillis());
+	header.putLong(System.nanoTime());
+	header.putDouble(ads.getDataRate().getDataRateSPS());
+	header.putDouble(ads.getVRefVolts());
+	header.putInt(ads.getGain().getGainScalar());
+	header.putInt(ads.getDataRate().asRegisterValue() & 0xFF);
+	header.putLong(-1);
+	headerDirty = true;
+	writeHeader();
+	channel.position(HEADER_LENGTH);
+	fileNumber++;
+    }//end openFile()
+
+    private void closeFile() throws IOException {
+	try {
+	    writeRecords();
+	    header.putLong(RECORD_COUNT_OFFSET, fileRecordCount);
+	    headerDirty = true;
+	    writeHeader();
+	    channel.force(true);
+	} finally {
+	    channel.close();
+	    channel = null;
+	}
+    }//end closeFile()
+
+    /**
+     * Write the remaining samples, complete the header, and close the current file.
+     * @throws IOException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void close() throws IOException {
+	if(channel != null)
+	    closeFile();
+    }
+
+    /**
+     *
+     * @return The file currently being written, or the last one written if closed.
+     * @since Oct 18, 2026
+     */
+    public Path getFile() {
+	return file;
+    }
+
+    /**
+     *
+     * @return Number of samples recorded since construction, across all files.
+     * @since Oct 18, 2026
+     */
+    public long getRecordCount() {
+	return recordCount;
+    }
+
+    public long getMaxFileBytes() {
+	return maxFileBytes;
+    }
+
+    public long getMaxFileNanos() {
+	return maxFileNanos;
+    }
+}//end ADS125xRecorder
@@ -0,0 +1,191 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xRecorderTest.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+
+/**
+ * Hardware-free round trip of ADS125xRecorder and ReplayADS125x. Samples are recorded at every gain, both for one
+ * input pair shared by all gains and for a pair of their own, across several rolled files; the replay must return
+ * every value, tag and gain-scaled reading in order, and the header's gain, data rate and reference voltage.
+ * A recording whose recorder was never closed must replay every record written to it, and one with a record of a
+ * channel missing from its channel table must be rejected.
+ * Also checks that ReplayADS125x.ofCsv(...) finds a heading after comment lines.<br>
+ * Exits with status 1 if any check fails.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xRecorderTest {
+    private static final int ROUNDS = 20, SHARED_POSITIVE = 0, SHARED_NEGATIVE = 1, AINCOM = 8;
+    private static final double VREF = 3.3;
+    private static int failures = 0;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+	final Path directory = Files.createTempDirectory("ads125x-recorder-test");
+	try {
+	    run(directory);
+	} finally {
+	    try(Stream<Path> files = Files.list(directory)) {
+		for(Path file : (Iterable<Path>)files::iterator)
+		    Files.delete(file);
+	    }
+	    Files.delete(directory);
+	}
+	System.out.println(failures == 0 ? "PASS" : "FAIL: "+failures+" failures");
+	System.exit(failures == 0 ? 0 : 1);
+    }//end main()
+
+    private static void run(Path directory) throws IOException, InterruptedException {
+	//Any ADS125x supplies the header; a one-sample CSV replay needs no hardware. Its heading follows a comment.
+	final Path csv = directory.resolve("source.csv");
+	Files.writeString(csv, "# Header source\n\ntimestamp,positive,negative,value\n0,AIN0,AIN1,0\n");
+	final ReplayADS125x source = ReplayADS125x.ofCsv(csv, Gain.GAIN_1, DataRate.SPS_30000, 2.5);
+	check("CSV heading after comment", source.readAnalogDifferential(0, 1) == 0);
+	final Path badCsv = directory.resolve("bad.csv");
+	Files.writeString(badCsv, "timestamp,positive,negative,value\n0,AIN0,AIN1,0\n1,AIN0,AIN1,x\n");
+	boolean badLineRejected = false;
+	try {ReplayADS125x.ofCsv(badCsv, Gain.GAIN_1, DataRate.SPS_30000, 2.5);}
+	catch(IOException e) {badLineRejected = true;}
+	check("CSV bad line rejected", badLineRejected);
+	source.configADC(Gain.GAIN_4, DataRate.SPS_1000, false, false);
+	source.setVRefVolts(VREF);
+
+	//Record each gain on the shared pair and on a pair of its own, rolling every 50 records
+	final Gain [] gains = Gain.values();
+	final List<int[]> shared = new ArrayList<>(), own = new ArrayList<>();//{tag, value}
+	final ADS125xRecorder recorder = new ADS125xRecorder(source, directory, "rt", ADS125xRecorder.HEADER_LENGTH + 50 * ADS125xRecorder.RECORD_LENGTH, 0);
+	long timestampNanos = 1_000_000;
+	for(int round = 0; round < ROUNDS; round++) {
+	    for(Gain gain : gains) {
+		final int sign = round % 2 == 0 ? 1 : -1;
+		final int sharedTag = ADS125xSampleTag.of(SHARED_POSITIVE, SHARED_NEGATIVE, gain);
+		final int sharedValue = sign * (round * 100_000 + gain.ordinal() * 1_000 + 1);
+		recorder.record(timestampNanos += 1000, sharedValue, sharedTag);
+		shared.add(new int[] {sharedTag, sharedValue});
+		final int ownTag = ADS125xSampleTag.of(gain.ordinal(), AINCOM, gain);
+		final int ownValue = round == 0 ? 0x7FFFFF : round == 1 ? -0x800000 : -sharedValue;
+		recorder.record(timestampNanos += 1000, ownValue, ownTag);
+		own.add(new int[] {ownTag, ownValue});
+	    }
+	}
+	boolean rejected = false;
+	try {recorder.record(timestampNanos, 0, Gain.values().length << 8);}
+	catch(IllegalArgumentException e) {rejected = true;}
+	check("out of range tag rejected", rejected);
+	recorder.close();
+	check("records counted", recorder.getRecordCount() == 2L * ROUNDS * gains.length);
+
+	//Replay
+	final ReplayADS125x replay = ReplayADS125x.ofRecording(directory, "rt");
+	replay.setSpeed(Double.POSITIVE_INFINITY);
+	check("header gain", replay.getGain() == Gain.GAIN_4);
+	check("header data rate", replay.getDataRate() == DataRate.SPS_1000);
+	check("header vref", replay.getVRefVolts() == VREF);
+	verify(replay, "shared pair", SHARED_POSITIVE, SHARED_NEGATIVE, shared);
+	for(Gain gain : gains) {
+	    final List<int[]> expected = new ArrayList<>();
+	    for(int [] sample : own)
+		if(ADS125xSampleTag.getGain(sample[0]) == gain)
+		    expected.add(sample);
+	    verify(replay, gain+" pair", gain.ordinal(), AINCOM, expected);
+	}
+
+	//A record of a channel missing from the table is rejected when loading
+	final byte [] corrupt = Files.readAllBytes(directory.resolve("rt-00000.ads"));
+	corrupt[ADS125xRecorder.HEADER_LENGTH + 3 * ADS125xRecorder.RECORD_LENGTH + 8] = (byte)0xFE;
+	Files.write(directory.resolve("cr-00000.ads"), corrupt);
+	boolean corruptRejected = false;
+	try {ReplayADS125x.ofRecording(directory, "cr");}
+	catch(IOException e) {corruptRejected = e.getMessage().contains("cr-00000.ads") && e.getMessage().contains("record 3");}
+	check("corrupt channel index rejected", corruptRejected);
+
+	//A recorder which is never closed, as after a power failure, leaves every full write replayable
+	final ADS125xRecorder unclosed = new ADS125xRecorder(source, directory, "uc", 0, 0);
+	final int written = ADS125xRecorder.WRITE_BUFFER_LENGTH / ADS125xRecorder.RECORD_LENGTH;
+	final int [] unclosedTags = {ADS125xSampleTag.of(2, 3, Gain.GAIN_2), ADS125xSampleTag.of(4, 5, Gain.GAIN_8)};
+	final List<int[]> evens = new ArrayList<>(), odds = new ArrayList<>();
+	for(int i = 0; i < written + 10; i++) {
+	    unclosed.record(timestampNanos += 1000, i, unclosedTags[i % 2]);
+	    if(i < written)
+		(i % 2 == 0 ? evens : odds).add(new int[] {unclosedTags[i % 2], i});
+	}
+	final ReplayADS125x unclosedReplay = ReplayADS125x.ofRecording(directory, "uc");
+	unclosedReplay.setSpeed(Double.POSITIVE_INFINITY);
+	verify(unclosedReplay, "unclosed even pair", 2, 3, evens);
+	verify(unclosedReplay, "unclosed odd pair", 4, 5, odds);
+	unclosed.close();
+    }//end run(...)
+
+    /**
+     * Read the pair's samples back, alternating raw and volt reads, and compare each with its recorded value and tag.
+     */
+    private static void verify(ReplayADS125x replay, String name, int positive, int negative, List<int[]> expected) throws InterruptedException {
+	int errors = 0;
+	for(int i = 0; i < expected.size(); i++) {
+	    final int tag = expected.get(i)[0], value = expected.get(i)[1];
+	    final Gain gain = ADS125xSampleTag.getGain(tag);
+	    if(i % 2 == 0) {
+		if(replay.readAnalogDifferential(positive, negative) != value)
+		    errors++;
+	    } else if(replay.readAnalogDifferentialVolts(positive, negative) != 2 * VREF * (value / gain.getFullScaleCounts()))
+		errors++;
+	    if(replay.getLastConversionTag() != tag)
+		errors++;
+	}
+	check(name+" values, tags and scaling", errors == 0);
+	boolean ended = false;
+	try {replay.readAnalogDifferential(positive, negative);}
+	catch(IllegalStateException e) {ended = true;}
+	check(name+" sample count", ended);
+    }//end verify(...)
+
+    private static void check(String name, boolean passed) {
+	if(!passed) {
+	    System.out.println("FAILED: "+name);
+	    failures++;
+	}
+    }
+}//end ADS125xRecorderTest
@@ -0,0 +1,136 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xSampleBatch.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+/**
+ * Consecutive conversions of one input pair as published by AsyncADS125x.publishContinuous(...).
+ * Each batch owns its arrays, so it may be retained and read from any thread once received.
+ * Batches are numbered by the position of their first sample among those published, so that a subscriber can
+ * detect batches dropped because it fell behind. Gaps where the stream yielded to other requests show in the timestamps.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS125xSampleBatch {
+    private final long firstSampleNumber;
+    private final int tag;
+    private final long [] timestampNanos;
+    private final int [] values;
+    private final int size;
+
+    ADS125xSampleBatch(long firstSampleNumber, int tag, long [] timestampNanos, int [] values, int size) {
+	this.firstSampleNumber = firstSampleNumber;
+	this.tag = tag;
+	this.timestampNanos = timestampNanos;
+	this.values = values;
+	this.size = size;
+    }
+
+    /**
+     *
+     * @return Number of samples published on this stream before this batch.
+     * @since Oct 18, 2026
+     */
+    public long getFirstSampleNumber() {
+	return firstSampleNumber;
+    }
+
+    /**
+     *
+     * @return The input pair and gain of the samples, packed as per ADS125xSampleTag
+     * @since Oct 18, 2026
+     */
+    public int getTag() {
+	return tag;
+    }
+
+    public int size() {
+	return size;
+    }
+
+    /**
+     *
+     * @param index
+     * @return The sign-extended, non-normalized conversion at the specified index
+     * @since Oct 18, 2026
+     */
+    public int getValue(int index) {
+	checkIndex(index);
+	return values[index];
+    }
+
+    /**
+     *
+     * @param index
+     * @return System.nanoTime() of the DRDY edge which announced the conversion at the specified index
+     * @since Oct 18, 2026
+     */
+    public long getTimestampNanos(int index) {
+	checkIndex(index);
+	return timestampNanos[index];
+    }
+
+    /**
+     * Copy the conversions into a caller-supplied buffer.
+     * @param dest
+     * @param offset
+     * @since Oct 18, 2026
+     */
+    public void getValues(int [] dest, int offset) {
+	System.arraycopy(values, 0, dest, offset, size);
+    }
+
+    /**
+     * Copy the timestamps into a caller-supplied buffer.
+     * @param dest
+     * @param offset
+     * @since Oct 18, 2026
+     */
+    public void getTimestampNanos(long [] dest, int offset) {
+	System.arraycopy(timestampNanos, 0, dest, offset, size);
+    }
+
+    private void checkIndex(int index) {
+	if(index < 0 || index >= size)
+	    throw new IndexOutOfBoundsException("Index "+index+" out of range of [0,"+size+")");
+    }
+
+    @Override
+    public String toString() {
+	return "ADS125xSampleBatch[first="+firstSampleNumber+", size="+size+", "+ADS125xSampleTag.toString(tag)+"]";
+    }
+}//end ADS125xSampleBatch
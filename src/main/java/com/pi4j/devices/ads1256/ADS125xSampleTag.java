@@ -0,0 +1,98 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xSampleTag.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import com.pi4j.devices.ads1256.ADS125x.Gain;
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+
+/**
+ * Packs the input pair and PGA gain of a conversion into an int, so that streamed samples can carry
+ * them alongside their value and timestamp without allocation.<br>
+ * Bits 0-7 hold the MUX register value (positive input in the upper nibble) and bits 8-10 hold the
+ * Gain ordinal, as written to the ADCON register's PGA bits.
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS125xSampleTag {
+    private static final Gain [] GAINS = Gain.values();
+    private static final MuxValue [] INPUTS = MuxValue.values();
+
+    private ADS125xSampleTag() {}
+
+    /**
+     *
+     * @param muxRegisterValue MUX register value, positive input in the upper nibble.
+     * @param gain
+     * @return The packed tag
+     * @since Oct 18, 2026
+     */
+    public static int of(byte muxRegisterValue, Gain gain) {
+	return (gain.ordinal() << 8) | (muxRegisterValue & 0xFF);
+    }
+
+    /**
+     *
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @param gain
+     * @return The packed tag
+     * @since Oct 18, 2026
+     */
+    public static int of(int analogPositiveInputNumber, int analogNegativeInputNumber, Gain gain) {
+	return of((byte)(((analogPositiveInputNumber & 0xf) << 4) | (analogNegativeInputNumber & 0xf)), gain);
+    }
+
+    public static byte getMuxRegisterValue(int tag) {
+	return (byte)tag;
+    }
+
+    public static MuxValue getPositive(int tag) {
+	return INPUTS[Math.min((tag >> 4) & 0xF, INPUTS.length - 1)];
+    }
+
+    public static MuxValue getNegative(int tag) {
+	return INPUTS[Math.min(tag & 0xF, INPUTS.length - 1)];
+    }
+
+    public static Gain getGain(int tag) {
+	return GAINS[Math.min((tag >> 8) & 0x7, GAINS.length - 1)];
+    }
+
+    public static String toString(int tag) {
+	return getPositive(tag)+"/"+getNegative(tag)+" "+getGain(tag);
+    }
+}//end ADS125xSampleTag
@@ -0,0 +1,222 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xScanList.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+
+/**
+ * Ordered list of positive/negative input pairs to be converted in one pass by ADS125x.scan(...).
+ * The MUX register value of each pair is computed once when the pair is added.<br>
+ * Pairs may carry an ADS125xProfile of their own. Readings are always stored in list order, but pairs sharing
+ * a profile are converted consecutively so that each pass changes the gain and data rate as few times as possible.
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS125xScanList {
+    private MuxValue [] positives = new MuxValue[8];
+    private MuxValue [] negatives = new MuxValue[8];
+    private byte [] muxRegisterValues = new byte[8];
+    private ADS125xProfile [] profiles = new ADS125xProfile[8];
+    private int [] conversionOrder = null;//Computed when first needed
+    private int size = 0, numProfiled = 0;
+
+    /**
+     * Append a differential input pair to the end of this list.
+     * @param positive
+     * @param negative
+     * @return This list, for chaining
+     * @since Oct 18, 2026
+     */
+    public ADS125xScanList add(MuxValue positive, MuxValue negative) {
+	return add(positive, negative, null);
+    }
+
+    /**
+     * Append a differential input pair to be converted with its own gain, data rate and buffer setting.
+     * @param positive
+     * @param negative
+     * @param profile The profile to apply, or null to use the chip's configuration
+     * @return This list, for chaining
+     * @since Oct 18, 2026
+     */
+    public ADS125xScanList add(MuxValue positive, MuxValue negative, ADS125xProfile profile) {
+	if(positive == null || negative == null)
+	    throw new NullPointerException("Input pair must not contain null. Got "+positive+"/"+negative);
+	if(size == positives.length) {
+	    positives = Arrays.copyOf(positives, size * 2);
+	    negatives = Arrays.copyOf(negatives, size * 2);
+	    muxRegisterValues = Arrays.copyOf(muxRegisterValues, size * 2);
+	    profiles = Arrays.copyOf(profiles, size * 2);
+	}
+	positives[size] = positive;
+	negatives[size] = negative;
+	muxRegisterValues[size] = (byte)(((positive.channelNumber() & 0xf) << 4) | (negative.channelNumber() & 0xf));
+	profiles[size] = profile;
+	if(profile != null)
+	    numProfiled++;
+	conversionOrder = null;
+	size++;
+	return this;
+    }//end add(...)
+
+    /**
+     * Append a single-ended input, measured against AINCOM, to the end of this list.
+     * @param positive
+     * @return This list, for chaining
+     * @since Oct 18, 2026
+     */
+    public ADS125xScanList addOneSided(MuxValue positive) {
+	return add(positive, MuxValue.AINCOM);
+    }
+
+    /**
+     * Append a single-ended input, measured against AINCOM, to be converted with its own gain, data rate and buffer setting.
+     * @param positive
+     * @param profile The profile to apply, or null to use the chip's configuration
+     * @return This list, for chaining
+     * @since Oct 18, 2026
+     */
+    public ADS125xScanList addOneSided(MuxValue positive, ADS125xProfile profile) {
+	return add(positive, MuxValue.AINCOM, profile);
+    }
+
+    /**
+     * Create a list of every single-ended input of the given chip against AINCOM, in ascending order.
+     * @param ads
+     * @return A new scan list
+     * @since Oct 18, 2026
+     */
+    public static ADS125xScanList allOneSided(ADS125x ads) {
+	final ADS125xScanList result = new ADS125xScanList();
+	final MuxValue [] values = MuxValue.values();
+	for(int i = 0; i < ads.getNumAnalogPins(); i++)
+	    result.addOneSided(values[i]);
+	return result;
+    }
+
+    public int size() {
+	return size;
+    }
+
+    public MuxValue getPositive(int index) {
+	checkIndex(index);
+	return positives[index];
+    }
+
+    public MuxValue getNegative(int index) {
+	checkIndex(index);
+	return negatives[index];
+    }
+
+    /**
+     * Query the value to be written to the MUX register for the pair at the given index.
+     * @param index
+     * @return MUX register value, positive channel in the upper nibble.
+     * @since Oct 18, 2026
+     */
+    public byte getMuxRegisterValue(int index) {
+	checkIndex(index);
+	return muxRegisterValues[index];
+    }
+
+    /**
+     * Query the profile of the pair at the given index.
+     * @param index
+     * @return The pair's profile, or null if it is converted with the chip's configuration.
+     * @since Oct 18, 2026
+     */
+    public ADS125xProfile getProfile(int index) {
+	checkIndex(index);
+	return profiles[index];
+    }
+
+    /**
+     *
+     * @return true if any pair of this list has a profile.
+     * @since Oct 18, 2026
+     */
+    public boolean hasProfiles() {
+	return numProfiled > 0;
+    }
+
+    /**
+     * Order in which to convert the pairs: grouped by profile, groups in order of first appearance,
+     * pairs in list order within a group. Pairs without a profile form one group.
+     * The returned array is shared and must not be modified.
+     * @return Indices of this list's pairs, in conversion order
+     * @since Oct 18, 2026
+     */
+    int [] getConversionOrder() {
+	if(conversionOrder != null)
+	    return conversionOrder;
+	final int [] order = new int[size];
+	final boolean [] placed = new boolean[size];
+	int position = 0;
+	for(int i = 0; i < size; i++) {
+	    if(placed[i])
+		continue;
+	    for(int j = i; j < size; j++) {
+		if(!placed[j] && Objects.equals(profiles[i], profiles[j])) {
+		    order[position++] = j;
+		    placed[j] = true;
+		}
+	    }
+	}//end for(i)
+	return conversionOrder = order;
+    }//end getConversionOrder()
+
+    private void checkIndex(int index) {
+	if(index < 0 || index >= size)
+	    throw new IndexOutOfBoundsException("Scan list index must be in range [0,"+(size-1)+"]. Got "+index);
+    }
+
+    @Override
+    public String toString() {
+	final StringBuilder sb = new StringBuilder("ADS125xScanList[");
+	for(int i = 0; i < size; i++) {
+	    if(i > 0)
+		sb.append(", ");
+	    sb.append(positives[i]).append('/').append(negatives[i]);
+	    if(profiles[i] != null)
+		sb.append(' ').append(profiles[i]);
+	}
+	return sb.append(']').toString();
+    }
+}//end ADS125xScanList
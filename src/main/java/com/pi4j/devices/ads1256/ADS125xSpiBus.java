@@ -0,0 +1,221 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xSpiBus.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.pi4j.context.Context;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiChipSelect;
+import com.pi4j.io.spi.SpiMode;
+
+/**
+ * One SPI handle shared by several ADS125x chips on the same bus, each selected by its own CS GPIO and announcing
+ * conversions on its own DRDY GPIO. Each chip select transaction holds the bus, so chips on one bus may be driven
+ * from different threads.<br>
+ * scan(...) interleaves the chips' pipelined scans on the calling thread: all chips convert at once, and whichever
+ * chip's DRDY has fallen is read and switched to its next input, so one chip's settling time is spent reading the
+ * others, and chips with different scan lists, profiles or data rates do not wait for one another. Four ADS1256 on
+ * one bus scan 32 single-ended inputs in little more time than one chip scans eight.<br>
+ * Chips may share a RESET line, in which case only the first chip constructed should be asked to reset,
+ * as a reset of one resets the configuration of all.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xSpiBus {
+    private final Spi spi;
+    private final SpiBus spiBus;
+    private final SpiChipSelect chipSelect;
+    private final ReentrantLock transactionLock = new ReentrantLock();
+    //scan(...) spins this long for a DRDY edge before parking between polls
+    private static final long POLL_SPIN_NANOS = 5_000, MAX_POLL_PARK_NANOS = 1_000_000;
+
+    /**
+     *
+     * @param pi4j
+     * @param spiBus
+     * @param chipSelect Chip select under which the SPI handle is opened. The chips' own CS GPIOs select them.
+     * @since Oct 18, 2026
+     */
+    @SuppressWarnings("exports")
+    public ADS125xSpiBus(Context pi4j, SpiBus spiBus, SpiChipSelect chipSelect) {
+	super();
+	this.spiBus = spiBus;
+	this.chipSelect = chipSelect;
+	var spiConfig = Spi.newConfigBuilder(pi4j)
+	    .id("SPI" + spiBus + " " + chipSelect)
+	    .name("A/D converter")
+	    .bus(spiBus)
+	    .chipSelect(chipSelect)
+	    .flags(0b0000000000000011100001L)  // Ux CE not used, MM mode 1
+	    .baud(976563) //Spi.DEFAULT_BAUD)
+	    .mode(SpiMode.MODE_1)
+	    .provider("pigpio-spi")
+	    .build();
+	this.spi = pi4j.create(spiConfig);
+    }//end constructor
+
+    /**
+     * Convert each chip's scan list into its frame, interleaving the chips' conversions. Each chip's frame
+     * is as ADS125x.scan(ADS125xScanList, int[]) would produce, including any change of profile.
+     * @param chips Chips on this bus, each appearing once
+     * @param scanLists The scan list of each chip
+     * @param frames Receives each chip's readings. Each must be at least as long as the chip's scan list.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    public void scan(AbstractADS125x [] chips, ADS125xScanList [] scanLists, int [][] frames) throws InterruptedException {
+	if(chips.length != scanLists.length || chips.length != frames.length)
+	    throw new IllegalArgumentException("Expected one scan list and frame per chip. Got "+chips.length+" chips, "+
+		    scanLists.length+" scan lists and "+frames.length+" frames.");
+	for(int i = 0; i < chips.length; i++) {
+	    if(chips[i].getBus() != this)
+		throw new IllegalArgumentException("Chip "+i+" is not on this bus.");
+	    if(frames[i].length < scanLists[i].size())
+		throw new IllegalArgumentException("Frame "+i+" length "+frames[i].length+" is shorter than scan list size "+scanLists[i].size());
+	}
+	final boolean [] converting = new boolean[chips.length];
+	int remaining = 0;
+	try {
+	    for(int i = 0; i < chips.length; i++) {
+		if(scanLists[i].size() == 0)
+		    continue;
+		chips[i].beginPipelined(scanLists[i], null, scanLists[i].size(), 0);
+		converting[i] = true;
+		remaining++;
+	    }
+	    //Service whichever chip's DRDY has fallen, so a chip with a slower profile or data rate holds up no other
+	    long idleSince = System.nanoTime();
+	    while(remaining > 0) {
+		boolean stepped = false;
+		for(int i = 0; i < chips.length; i++) {
+		    if(converting[i] && chips[i].isPipelinedReady()) {
+			stepped = true;
+			if(step(chips[i], frames[i])) {
+			    converting[i] = false;
+			    remaining--;
+			}
+		    }
+		}
+		if(stepped) {
+		    idleSince = System.nanoTime();
+		    continue;
+		}
+		final long idleNanos = System.nanoTime() - idleSince;
+		if(idleNanos < POLL_SPIN_NANOS)
+		    Thread.onSpinWait();
+		else if(idleNanos < longestDrdyTimeoutNanos(chips, converting)) {
+		    //Sleep in proportion to the wait so far, bounding the added latency to a fraction of the conversion time
+		    LockSupport.parkNanos(Math.min(Math.max(idleNanos >> 4, POLL_SPIN_NANOS), MAX_POLL_PARK_NANOS));
+		    if(Thread.interrupted())
+			throw new InterruptedException("Interrupted while awaiting DRDY.");
+		} else {
+		    //No chip signalled in time. Let the first chip's own timed wait re-synchronize it to its DRDY pin.
+		    for(int i = 0; i < chips.length; i++) {
+			if(converting[i]) {
+			    if(step(chips[i], frames[i])) {
+				converting[i] = false;
+				remaining--;
+			    }
+			    break;
+			}
+		    }
+		    idleSince = System.nanoTime();
+		}
+	    }//end while(remaining)
+	} finally {
+	    for(int i = 0; i < chips.length; i++)
+		if(converting[i])
+		    chips[i].endPipelined();
+	}
+    }//end scan(...)
+
+    /**
+     * @return true if the chip's sequence completed and was ended
+     */
+    private static boolean step(AbstractADS125x chip, int [] frame) throws InterruptedException {
+	if(!chip.stepPipelined(frame))
+	    return false;
+	chip.endPipelined();
+	return true;
+    }
+
+    private static long longestDrdyTimeoutNanos(AbstractADS125x [] chips, boolean [] converting) {
+	long result = 0;
+	for(int i = 0; i < chips.length; i++)
+	    if(converting[i])
+		result = Math.max(result, chips[i].getDrdyTimeoutNanos());
+	return result;
+    }
+
+    /**
+     * Take the bus for one chip select transaction. Reentrant.
+     * @since Oct 18, 2026
+     */
+    void beginTransaction() {
+	transactionLock.lock();
+    }
+
+    void endTransaction() {
+	transactionLock.unlock();
+    }
+
+    Spi getSpi() {
+	return spi;
+    }
+
+    @SuppressWarnings("exports")
+    public SpiBus getSpiBus() {
+	return spiBus;
+    }
+
+    @SuppressWarnings("exports")
+    public SpiChipSelect getChipSelect() {
+	return chipSelect;
+    }
+
+    /**
+     * Close the SPI handle, once no chip on this bus will be used again.
+     * @since Oct 18, 2026
+     */
+    public void close() {
+	spi.close();
+    }
+}//end ADS125xSpiBus
@@ -0,0 +1,171 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xStreamReader.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import com.pi4j.devices.base_util.filter.SampleFilter;
+import com.pi4j.devices.base_util.stream.SampleRingBuffer;
+
+/**
+ * Streams one input pair of an ADS125x into a SampleRingBuffer from a dedicated acquisition thread.
+ * The thread does nothing but wait for DRDY, read the frame and publish it, so that logging and processing
+ * done by the buffer's consumer no longer hold up the RDATAC read loop.<br>
+ * Each sample is published with the timestamp of the DRDY edge which announced it and an
+ * ADS125xSampleTag of its input pair and gain.<br>
+ * The buffer's OverflowPolicy decides what happens when the consumer falls behind: OVERWRITE_OLDEST keeps
+ * acquiring and discards the oldest samples, BACK_PRESSURE stalls acquisition, so samples are instead lost
+ * at the chip. The buffer is closed when the stream ends.<br>
+ * An optional SampleFilter is applied on the acquisition thread before publishing, so that a decimating filter
+ * also reduces the rate at which the buffer must be drained. Conversions are collected into blocks of the filter's
+ * decimation, each filtered in place in one call and its output published as soon as the block is full, so no
+ * latency is added. A decimated sample carries the timestamp of the last conversion which contributed to it.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ADS125xStreamReader {
+    private final ADS125x ads;
+    private final SampleRingBuffer buffer;
+    private final SampleFilter filter;
+    private final int [] filterBlock;
+    private int filterBlockCount;
+    private Thread acquisitionThread;
+    private volatile RuntimeException failure;
+
+    public ADS125xStreamReader(ADS125x ads, SampleRingBuffer buffer) {
+	this(ads, buffer, null);
+    }
+
+    /**
+     *
+     * @param ads
+     * @param buffer
+     * @param filter Filter to apply before publishing, or null for none
+     * @since Oct 18, 2026
+     */
+    public ADS125xStreamReader(ADS125x ads, SampleRingBuffer buffer, SampleFilter filter) {
+	super();
+	if(ads == null || buffer == null)
+	    throw new NullPointerException("ads and buffer must not be null.");
+	this.ads = ads;
+	this.buffer = buffer;
+	this.filter = filter;
+	this.filterBlock = filter != null ? new int[filter.getDecimation()] : null;
+    }//end constructor
+
+    /**
+     * Start streaming the specified input pair on a new acquisition thread. May only be called once,
+     * as the buffer is closed when the stream ends.
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @since Oct 18, 2026
+     */
+    public synchronized void start(int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	if(acquisitionThread != null)
+	    throw new IllegalStateException("This reader has already been started.");
+	acquisitionThread = new Thread(()->{
+	    try {
+		ads.readContinuous(analogPositiveInputNumber, analogNegativeInputNumber, (value)->{
+		    try {
+			if(filter == null) {
+			    buffer.put(ads.getLastConversionNanos(), value, ads.getLastConversionTag());
+			    return;
+			}
+			filterBlock[filterBlockCount++] = value;
+			if(filterBlockCount < filterBlock.length)
+			    return;
+			//The block ends with this conversion, so its output is stamped with this conversion's time
+			final int outputCount = filter.process(filterBlock, 0, filterBlockCount);
+			filterBlockCount = 0;
+			final long timestampNanos = ads.getLastConversionNanos();
+			final int tag = ads.getLastConversionTag();
+			for(int i = 0; i < outputCount; i++)
+			    buffer.put(timestampNanos, filterBlock[i], tag);
+		    } catch(InterruptedException e) {Thread.currentThread().interrupt();}//Ends the stream
+		});
+	    } catch(InterruptedException e) {
+	    } catch(RuntimeException e) {
+		failure = e;
+	    } finally {buffer.close();}
+	}, "ADS125xStreamReader");
+	acquisitionThread.setDaemon(true);
+	acquisitionThread.setPriority(Thread.MAX_PRIORITY);
+	acquisitionThread.start();
+    }//end start(...)
+
+    /**
+     * End the stream and wait for the acquisition thread to finish. Samples already published remain in the buffer.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    public void stop() throws InterruptedException {
+	final Thread thread;
+	synchronized(this) {thread = acquisitionThread;}
+	if(thread == null)
+	    return;
+	ads.stopContinuousRead();
+	thread.interrupt();//In case it is blocked on a full buffer
+	thread.join();
+    }//end stop()
+
+    public boolean isRunning() {
+	final Thread thread;
+	synchronized(this) {thread = acquisitionThread;}
+	return thread != null && thread.isAlive();
+    }
+
+    public SampleRingBuffer getBuffer() {
+	return buffer;
+    }
+
+    /**
+     *
+     * @return The filter applied before publishing, or null if none.
+     * @since Oct 18, 2026
+     */
+    public SampleFilter getFilter() {
+	return filter;
+    }
+
+    /**
+     *
+     * @return The exception which ended the stream, or null if none.
+     * @since Oct 18, 2026
+     */
+    public RuntimeException getFailure() {
+	return failure;
+    }
+}//end ADS125xStreamReader
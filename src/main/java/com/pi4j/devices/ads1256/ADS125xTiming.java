@@ -0,0 +1,162 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS125xTiming.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+/**
+ * Serial interface delays applied between the steps of an ADS125x SPI command.
+ * Values are derived from the datasheet timing characteristics (Table 1, Figures 1 and 2),
+ * all of which are expressed in multiples of the master clock period tCLKIN.<br>
+ * Delays shorter than a millisecond are applied as busy-waits since Thread.sleep() cannot
+ * resolve them.
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS125xTiming {
+    /**
+     * Master clock frequency of the Waveshare High Precision AD/DA board and most ADS1256 modules.
+     */
+    public static final double DEFAULT_CLKIN_HZ = 7.68E6;
+
+    /**
+     * Minimum delays per the datasheet with the default 7.68MHz master clock.
+     */
+    public static final ADS125xTiming DATASHEET = fromClock(DEFAULT_CLKIN_HZ);
+
+    /**
+     * Millisecond delays between every step, as used prior to timing profiles being introduced.
+     * Useful for troubleshooting marginal wiring.
+     */
+    public static final ADS125xTiming LEGACY = new ADS125xTiming(1_000_000L, 1_000_000L, 1_000_000L, 1_000_000L, 1_000_000L, 500L);
+
+    private final long csSetupNanos, t6Nanos, t11ShortNanos, t11LongNanos, t10Nanos, drdyDebounceMicros;
+
+    /**
+     *
+     * @param csSetupNanos Delay after CS goes low before the first SCLK.
+     * @param t6Nanos Delay from the last SCLK of RDATA, RDATAC or RREG to the first SCLK of returned data.
+     * @param t11ShortNanos Delay after RREG, WREG or RDATA before the next command.
+     * @param t11LongNanos Delay after RDATAC, RESET or SYNC before the next command.
+     * @param t10Nanos Delay from the final SCLK to CS going high.
+     * @param drdyDebounceMicros Debounce applied to the DRDY input. Must be well under one conversion period for continuous reads.
+     */
+    public ADS125xTiming(long csSetupNanos, long t6Nanos, long t11ShortNanos, long t11LongNanos, long t10Nanos, long drdyDebounceMicros) {
+	this.csSetupNanos = csSetupNanos;
+	this.t6Nanos = t6Nanos;
+	this.t11ShortNanos = t11ShortNanos;
+	this.t11LongNanos = t11LongNanos;
+	this.t10Nanos = t10Nanos;
+	this.drdyDebounceMicros = drdyDebounceMicros;
+    }
+
+    /**
+     * Derive the datasheet minimum delays for the given master clock.
+     * @param clkinHz Master clock (CLKIN) frequency in Hertz
+     * @return A new timing profile
+     * @since Oct 18, 2026
+     */
+    public static ADS125xTiming fromClock(double clkinHz) {
+	if(clkinHz <= 0)
+	    throw new IllegalArgumentException("clkinHz must be positive. Got "+clkinHz);
+	final double tClkInNanos = 1E9 / clkinHz;
+	return new ADS125xTiming(
+		0L,
+		(long)Math.ceil(50 * tClkInNanos),   //t6
+		(long)Math.ceil(4 * tClkInNanos),    //t11 RREG, WREG, RDATA
+		(long)Math.ceil(24 * tClkInNanos),   //t11 RDATAC, RESET, SYNC
+		(long)Math.ceil(8 * tClkInNanos),    //t10
+		0L);
+    }//end fromClock(...)
+
+    /**
+     * Wait at least the specified number of nanoseconds. Spins for sub-millisecond delays, else sleeps.
+     * @param nanos
+     * @since Oct 18, 2026
+     */
+    public static void delayNanos(long nanos) {
+	if(nanos <= 0)
+	    return;
+	if(nanos >= 1_000_000L) {
+	    try {Thread.sleep(nanos / 1_000_000L, (int)(nanos % 1_000_000L));}
+	    catch(InterruptedException e) {Thread.currentThread().interrupt();}
+	    return;
+	}
+	final long end = System.nanoTime() + nanos;
+	while(System.nanoTime() - end < 0)
+	    Thread.onSpinWait();
+    }//end delayNanos(...)
+
+    /**
+     * Query the t11 delay which applies after the given command byte.
+     * @param command ADS125x command byte
+     * @return Delay in nanoseconds
+     * @since Oct 18, 2026
+     */
+    public long getT11Nanos(int command) {
+	switch(command & 0xFF) {
+	case ADS125x.RDDATC:
+	case ADS125x.RESET:
+	case ADS125x.SYNC:
+	    return t11LongNanos;
+	default:
+	    return t11ShortNanos;
+	}
+    }//end getT11Nanos(...)
+
+    public long getCsSetupNanos() {
+        return csSetupNanos;
+    }
+
+    public long getT6Nanos() {
+        return t6Nanos;
+    }
+
+    public long getT11ShortNanos() {
+        return t11ShortNanos;
+    }
+
+    public long getT11LongNanos() {
+        return t11LongNanos;
+    }
+
+    public long getT10Nanos() {
+        return t10Nanos;
+    }
+
+    public long getDrdyDebounceMicros() {
+        return drdyDebounceMicros;
+    }
+}//end ADS125xTiming
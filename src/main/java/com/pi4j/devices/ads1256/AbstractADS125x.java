@@ -36,12 +36,15 @@
 
 package com.pi4j.devices.ads1256;
 
+import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.pi4j.context.Context;
+import com.pi4j.devices.base_util.gpio.DigitalEdgeCounter;
 import com.pi4j.devices.base_util.gpio.InputTransitionBarrier;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.DigitalInput;
@@ -50,11 +53,14 @@ import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.io.spi.Spi;
 import com.pi4j.io.spi.SpiBus;
 import com.pi4j.io.spi.SpiChipSelect;
-import com.pi4j.io.spi.SpiMode;
 import com.pi4j.util.Console;
 
 public abstract class AbstractADS125x implements ADS125x {
     private static final boolean DEBUG = false;
+    private static final int NUM_REGISTERS = ADS125x.REG_FSC2 + 1;
+    private static final int CALIBRATION_REGISTERS = ((1 << NUM_REGISTERS) - 1) & -(1 << ADS125x.REG_OFC0);
+    private static final int CONFIGURATION_REGISTERS = (1 << ADS125x.REG_STATUS) | (1 << ADS125x.REG_ADCON) | (1 << ADS125x.REG_DRATE);
+    private static final Gain [] GAINS = Gain.values();
 
     /**
      * See ADS1256App.java help text to explain these parms
@@ -77,23 +83,77 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     @SuppressWarnings("exports")
     public AbstractADS125x(Context pi4j, SpiBus spiBus, SpiChipSelect chipSelect, boolean reset, int drdyPin, int csPin, int rstPin, boolean crtRstGpio, int pdwnPin, boolean crtPdwnGpio, Console console, String traceLevel, double vref, DataRate sampleRate, boolean useBuffer) throws InterruptedException {
+        this(pi4j, spiBus, chipSelect, reset, drdyPin, csPin, rstPin, crtRstGpio, pdwnPin, crtPdwnGpio, console, traceLevel, vref, sampleRate, useBuffer, ADS125xTiming.DATASHEET);
+    }
+
+    /**
+     * See ADS1256App.java help text to explain these parms
+     *
+     * @param pi4j
+     * @param spiBus
+     * @param chipSelect
+     * @param reset
+     * @param drdyPin
+     * @param csPin
+     * @param rstPin
+     * @param crtRstGpio
+     * @param pdwnPin
+     * @param crtPdwnGpio
+     * @param console
+     * @param traceLevel
+     * @param vref
+     * @param sampleRate 
+     * @param timing Serial interface delays to apply between SPI command steps
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @SuppressWarnings("exports")
+    public AbstractADS125x(Context pi4j, SpiBus spiBus, SpiChipSelect chipSelect, boolean reset, int drdyPin, int csPin, int rstPin, boolean crtRstGpio, int pdwnPin, boolean crtPdwnGpio, Console console, String traceLevel, double vref, DataRate sampleRate, boolean useBuffer, ADS125xTiming timing) throws InterruptedException {
+        this(pi4j, new ADS125xSpiBus(pi4j, spiBus, chipSelect), reset, drdyPin, csPin, rstPin, crtRstGpio, pdwnPin, crtPdwnGpio, console, traceLevel, vref, sampleRate, useBuffer, timing);
+    }
+
+    /**
+     * Create a chip on an SPI bus which may be shared with other chips, each with its own CS and DRDY pins.
+     * See ADS125xSpiBus.
+     *
+     * @param pi4j
+     * @param bus
+     * @param reset
+     * @param drdyPin
+     * @param csPin
+     * @param rstPin
+     * @param crtRstGpio Create the RESET output, or use the one already created by another chip with the same rstPin
+     * @param pdwnPin
+     * @param crtPdwnGpio
+     * @param console
+     * @param traceLevel
+     * @param vref
+     * @param sampleRate 
+     * @param timing Serial interface delays to apply between SPI command steps
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @SuppressWarnings("exports")
+    public AbstractADS125x(Context pi4j, ADS125xSpiBus bus, boolean reset, int drdyPin, int csPin, int rstPin, boolean crtRstGpio, int pdwnPin, boolean crtPdwnGpio, Console console, String traceLevel, double vref, DataRate sampleRate, boolean useBuffer, ADS125xTiming timing) throws InterruptedException {
         super();
+        this.timing = timing;
         this.console = console;
         this.pi4j = pi4j;
-        this.chipSelect = chipSelect;
+        this.bus = bus;
+        this.spi = bus.getSpi();
         this.resetChip = reset;
-        this.spiBus = spiBus;
         this.csPinNum = csPin;
         this.rstPinNum = rstPin;
         this.crtRstGpio = crtRstGpio;
         this.drdyPinNum = drdyPin;
-        //this.pdwnPinNum = pdwnPin;
-        //this.crtPdwnGpio = crtPdwnGpio;
+        this.pdwnPinNum = pdwnPin;
+        this.crtPdwnGpio = crtPdwnGpio;
         this.traceLevel = traceLevel;
         this.sampleRate = sampleRate;
         this.useBuffer = useBuffer;
 
         this.vref = vref;
+        updateVoltsPerCount();
         // "trace", "debug", "info", "warn", "error" or "off"). If not specified, defaults to "info"
         //  must fully qualify logger as others exist and the slf4 code will use the first it
         //  encounters if using the defaultLogLevel
@@ -103,31 +163,19 @@ public abstract class AbstractADS125x implements ADS125x {
     }
 
     /**
-     * Creates the SPI and requested GPIOs.
+     * Creates the requested GPIOs, with ids distinguished by pin number so that chips may share a Context.
      * Do reset if so requested by app
      * Configure chip Gain and speed.
      *
      * @throws InterruptedException
      */
     private void init() throws InterruptedException {
-        var spiConfig = Spi.newConfigBuilder(pi4j)
-            .id("SPI" + this.spiBus + " " + this.chipSelect)
-            .name("A/D converter")
-            .bus(this.spiBus)
-            .chipSelect(this.chipSelect)
-            .flags(0b0000000000000011100001L)  // Ux CE not used, MM mode 1
-            .baud(976563) //Spi.DEFAULT_BAUD)
-            .mode(SpiMode.MODE_1)
-            .provider("pigpio-spi")
-            .build();
-        this.spi = this.pi4j.create(spiConfig);
-
         // required all configs
         var drdyConfig = DigitalInput.newConfigBuilder(pi4j)
-            .id("DRDY_pin")
+            .id("DRDY_pin" + this.drdyPinNum)
             .name("DRDY")
             .address(this.drdyPinNum)
-            .debounce(500L)
+            .debounce(timing.getDrdyDebounceMicros())
             .provider("gpiod-digital-input"); //               .pull(PullResistance.PULL_UP)
         try {
             this.drdyGpio = pi4j.create(drdyConfig);
@@ -138,7 +186,7 @@ public abstract class AbstractADS125x implements ADS125x {
         }
         // required all configs
         var csConfig = DigitalOutput.newConfigBuilder(pi4j)
-            .id("CS_pin")
+            .id("CS_pin" + this.csPinNum)
             .name("CS")
             .address(this.csPinNum)
             .shutdown(DigitalState.HIGH)
@@ -152,9 +200,11 @@ public abstract class AbstractADS125x implements ADS125x {
             System.exit(202);
         }
         // not always required, see README
-        if (this.crtRstGpio) {
+        if (this.crtRstGpio && pi4j.registry().exists("RST_pin" + this.rstPinNum)) {
+            this.rstGpio = pi4j.registry().get("RST_pin" + this.rstPinNum, DigitalOutput.class);//Shared with another chip
+        } else if (this.crtRstGpio) {
             var rstConfig = DigitalOutput.newConfigBuilder(pi4j)
-                .id("RST_pin")
+                .id("RST_pin" + this.rstPinNum)
                 .name("RESET")
                 .address(this.rstPinNum)
                 .shutdown(DigitalState.HIGH)
@@ -172,9 +222,11 @@ public abstract class AbstractADS125x implements ADS125x {
         }
 
         // not always required, see README
-        /*if (this.crtPdwnGpio) {
+        if (this.crtPdwnGpio && pi4j.registry().exists("PDWN_pin" + this.pdwnPinNum)) {
+            this.pdwnGpio = pi4j.registry().get("PDWN_pin" + this.pdwnPinNum, DigitalOutput.class);//Shared with another chip
+        } else if (this.crtPdwnGpio) {
             var pdwnConfig = DigitalOutput.newConfigBuilder(pi4j)
-                .id("PDWN_pin")
+                .id("PDWN_pin" + this.pdwnPinNum)
                 .name("PDWN")
                 .address(this.pdwnPinNum)
                 .shutdown(DigitalState.HIGH)
@@ -187,9 +239,9 @@ public abstract class AbstractADS125x implements ADS125x {
                 console.println("create DigOut PDWN failed");
                 System.exit(203);
             }
-        } else
+        } else {
             if(DEBUG) this.logger.trace("PDWN Gpio not requested/created");
-        */
+        }
         if (this.resetChip)
             this.reset();
         
@@ -206,6 +258,7 @@ public abstract class AbstractADS125x implements ADS125x {
 	    barrier.setNumAnticipatedToggles(barrier.getNumAnticipatedToggles()-1);
 	    return true;});
         drdyBarrier.setAwaitToggleConflictHandler((barrier,state,state1)->{return false;});
+        drdyEdges = new DigitalEdgeCounter(drdyGpio);
         
         configADC(Gain.GAIN_1, sampleRate, true, useBuffer);
         
@@ -225,7 +278,7 @@ public abstract class AbstractADS125x implements ADS125x {
         int id = 0;
         if(DEBUG) this.logger.trace(">>> Enter displayProgramID");
         console.title("<-- The Pi4J Project -->", "SPI test program using ADS1256 AtoD Chip");
-        id = (readRegData(ADS125x.REG_STATUS) >> 4) & 0x0F;
+        id = readChipID();
         if (id != ADS125x.CHIP_ID) {
             if(DEBUG) logger.trace("Incorrect chip ID : " + id);
             return id;
@@ -234,6 +287,17 @@ public abstract class AbstractADS125x implements ADS125x {
         return null;
     }//end validateChipID()
 
+    /**
+     * Read the chip ID from the upper nibble of the STATUS register.
+     * @return The chip ID, ADS125x.CHIP_ID if valid
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public int readChipID() throws InterruptedException {
+	return (readRegData(ADS125x.REG_STATUS) >> 4) & 0x0F;
+    }
+
     /**
      * Get the currently-set VREF volt property used for calculating A/D voltage readings.
      * This property defaults to 2.5V if not set.
@@ -254,6 +318,23 @@ public abstract class AbstractADS125x implements ADS125x {
     @Override
     public void setVRefVolts(double vRefVolts) {
         this.vref = vRefVolts;
+        updateVoltsPerCount();
+    }
+
+    private void updateVoltsPerCount() {
+	for(Gain gain : Gain.values())
+	    voltsPerCount[gain.ordinal()] = 2 * vref * gain.getNormalizedPerCount();
+    }
+
+    /**
+     * Volts represented by one count of a conversion value at the specified gain and the current VREF, for use with
+     * ADS125xConversionDecoder.decodeVolts(...)
+     * @param gain
+     * @return Volts per count
+     * @since Oct 18, 2026
+     */
+    public double getVoltsPerCount(Gain gain) {
+	return voltsPerCount[gain.ordinal()];
     }
     
     @Override
@@ -262,7 +343,10 @@ public abstract class AbstractADS125x implements ADS125x {
     }
 
     /**
-     * Set chip Gain and speed
+     * Set chip Gain and speed<br>
+     * Only registers whose values change are written. If none change, nothing is written and there is no DRDY wait,
+     * so an unchanged configADC(...) no longer re-triggers the ACAL self-calibration which a register write causes.
+     * Use calibrate(Calibration.SELF) to recalibrate without changing the configuration.
      *
      * @param gain
      * @param drate
@@ -270,26 +354,18 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     @Override
     public void configADC(Gain gain, DataRate drate, boolean autoCalibrate, boolean useBuffer) throws InterruptedException {
-	//When configured, DRDY will by HIGH then LOW.
-	drdyBarrier.anticipateToggles(true, 1);
+	ensureNotReadingContinuous();
 	this.pgaGain  = gain;
 	this.dataRate = drate;
 	this.autoCalibrate = autoCalibrate;
-	// set ACAL bit
-	workBuffer4[0] = (byte)((autoCalibrate?ADS125x.STATUS_ACAL:0x0) | (useBuffer?0x01:0x00)); //STATUS_REG
-	workBuffer4[1] = (byte) (0b00000000 | (((0 & 0xf) << 4)) | 8);         // MUX_REG   initial: AIN0/AINCOM
-	workBuffer4[2] = (byte)(pgaGain.ordinal()&0x07);       // ADCON_REG CLK/SENSOR off
-	workBuffer4[3] = dataRate.asRegisterValue();
-	// DRATE_REG
-	this.csGpio.low();
-	sleepMS(2);
-	this.spi.write(ADS125x.WREG | 0);
-	sleepMS(2);
-	this.spi.write(0x03);  // writing 4 bytes data
-	sleepMS(2);
-	spi.write(workBuffer4);
-	this.csGpio.high();
-	sleepMS(1);
+	this.bufferEnabled = useBuffer;
+	stageConfiguration(pgaGain, dataRate, bufferEnabled);
+	stageRegister(ADS125x.REG_MUX, (byte) (0b00000000 | (((0 & 0xf) << 4)) | 8));         // MUX_REG   initial: AIN0/AINCOM
+	if(registerDirty == 0)
+	    return;//Already configured so nothing to write; skip the DRDY wait
+	//When configured, DRDY will by HIGH then LOW.
+	drdyBarrier.anticipateToggles(true, 1);
+	flushRegisters(false);
 	try {drdyBarrier.awaitAnticipatedToggles(false,250);}
 	catch(TimeoutException e) {}
     }//end configADC(...)
@@ -316,6 +392,7 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     public void reset() throws InterruptedException {
         if(DEBUG) this.logger.trace(">>> Enter reset");
+        invalidateRegisterCache();
         if (this.rstGpio != null) {
             this.rstGpio.high();
             sleepMS(200);
@@ -332,28 +409,28 @@ public abstract class AbstractADS125x implements ADS125x {
 
     private void writeCmd(int cmd) {
         if(DEBUG) this.logger.trace(">>> Enter writeCmd  cmd " + cmd);
-        this.csGpio.low();
-        sleepMS(1);
+        select();
+        delayNanos(timing.getCsSetupNanos());
         this.spi.write(cmd);
-        sleepMS(1);
-        this.csGpio.high();
+        delayNanos(timing.getT11Nanos(cmd));
+        deselect();
+        if(cmd == ADS125x.RESET)
+            invalidateRegisterCache();
+        else if((cmd & 0xF8) == ADS125x.SELFCAL)
+            registerShadowValid &= ~CALIBRATION_REGISTERS;
         if(DEBUG) this.logger.trace("<<< Exit writeCmd");
     }
 
 
+    /**
+     * Write one register, followed by STANDBY, unless the shadow copy shows that it already holds the value.
+     * @param reg
+     * @param data
+     */
     private void writeReg(int reg, int data) {
         if(DEBUG) this.logger.trace(">>> Enter writeReg  reg :  " + reg + " data " + String.format("0X%02x: ", data & 0xff));
-        this.csGpio.low();
-        sleepMS(1);
-        workBuffer3[0] = (byte) (ADS125x.WREG | reg);
-        workBuffer3[1] = 0x00;
-        workBuffer3[2] = (byte) data;
-        spi.write(workBuffer3);
-        sleepMS(1);
-        spi.write(ADS125x.STANDBY);
-        sleepMS(1);
-        this.csGpio.high();
-        
+        stageRegister(reg, (byte) data);
+        flushRegisters(true);
         if(DEBUG) this.logger.trace("<<< Exit writeReg");
     }//end writeReg
 
@@ -362,27 +439,180 @@ public abstract class AbstractADS125x implements ADS125x {
 	catch(InterruptedException | TimeoutException e) {}
         if(DEBUG) this.logger.trace(">>> Enter readReg register# : " + reg);
         byte rval = 42;
-        this.csGpio.low();
-        sleepMS(1);
+        select();
+        delayNanos(timing.getCsSetupNanos());
         workBuffer2[0] = (byte) (ADS125x.RREG | reg);
         workBuffer2[1] = 0x00;
         this.spi.write(workBuffer2);
-        sleepMS(1);
+        delayNanos(timing.getT6Nanos());
         rval = this.spi.readByte();
-        sleepMS(1);
+        delayNanos(timing.getT11ShortNanos());
         spi.write(ADS125x.STANDBY);
-        sleepMS(1);
-        this.csGpio.high();
-        sleepMS(1);  // let chip quiet
+        delayNanos(timing.getT10Nanos());
+        deselect();
+        delayNanos(timing.getT11ShortNanos());  // let chip quiet
+        if((registerDirty & (1 << reg)) == 0) {
+            //Only the writable bits of STATUS are kept, so that staged values compare equal
+            registerShadow[reg] = reg == ADS125x.REG_STATUS ? (byte)(rval & 0x0E) : rval;
+            registerShadowValid |= 1 << reg;
+        }
         if(DEBUG) this.logger.trace("<<< Exit readReg  : " + String.format("0X%02x: ", rval & 0xff));
         return (byte) (rval & 0xff);
     }
+
+    ////// Register shadow //////
+
+    /**
+     * Read a register for read-modify-write purposes, from the shadow copy if its contents are known.
+     * Not suitable for the STATUS register's DRDY bit or the IO register's input levels, which the chip changes on its own.
+     * @param reg
+     * @return The register value
+     * @since Oct 18, 2026
+     */
+    private byte readRegisterCached(int reg) {
+	if((registerShadowValid & (1 << reg)) != 0)
+	    return registerShadow[reg];
+	return readRegData(reg);
+    }
+
+    /**
+     * Record a new register value in the shadow copy, to be written by the next flushRegisters(...).
+     * A value which the register is already known to hold is not marked dirty.
+     * @param reg
+     * @param value
+     * @since Oct 18, 2026
+     */
+    private void stageRegister(int reg, byte value) {
+	final int bit = 1 << reg;
+	if((registerShadowValid & bit) != 0 && registerShadow[reg] == value)
+	    return;
+	registerShadow[reg] = value;
+	registerShadowValid |= bit;
+	registerDirty |= bit;
+    }
+
+    /**
+     * Stage the STATUS, ADCON and DRATE values for the specified configuration, keeping the current auto-calibrate setting.
+     * @param gain
+     * @param drate
+     * @param buffer true to enable the analog input buffer
+     * @since Oct 18, 2026
+     */
+    private void stageConfiguration(Gain gain, DataRate drate, boolean buffer) {
+	stageRegister(ADS125x.REG_STATUS, statusValueOf(buffer));
+	stageRegister(ADS125x.REG_ADCON, (byte)(gain.ordinal()&0x07));       // ADCON_REG CLK/SENSOR off
+	stageRegister(ADS125x.REG_DRATE, drate.asRegisterValue());
+    }
+
+    /**
+     * Query whether the chip is known to hold the specified configuration, such that stageConfiguration(...) would write nothing.
+     * @param gain
+     * @param drate
+     * @param buffer
+     * @return true if the STATUS, ADCON and DRATE shadow copies are valid and match
+     * @since Oct 18, 2026
+     */
+    private boolean isConfiguredAs(Gain gain, DataRate drate, boolean buffer) {
+	return (registerShadowValid & CONFIGURATION_REGISTERS) == CONFIGURATION_REGISTERS &&
+		registerShadow[ADS125x.REG_STATUS] == statusValueOf(buffer) &&
+		registerShadow[ADS125x.REG_ADCON] == (byte)(gain.ordinal()&0x07) &&
+		registerShadow[ADS125x.REG_DRATE] == drate.asRegisterValue();
+    }
+
+    private byte statusValueOf(boolean buffer) {
+	return (byte)((autoCalibrate?ADS125x.STATUS_ACAL:0x0) | (buffer?ADS125x.STATUS_BUFEN:0x0));
+    }
+
+    /**
+     * Write all dirty registers in one chip select transaction.
+     * @param standby true to follow the writes with STANDBY, as writeReg(...) does
+     * @since Oct 18, 2026
+     */
+    private void flushRegisters(boolean standby) {
+	if(registerDirty == 0)
+	    return;
+	select();
+	delayNanos(timing.getCsSetupNanos());
+	writeDirtyRegisters();
+	if(standby) {
+	    delayNanos(timing.getT11ShortNanos());
+	    spi.write(ADS125x.STANDBY);
+	    delayNanos(timing.getT10Nanos());
+	    deselect();
+	} else {
+	    delayNanos(timing.getT10Nanos());
+	    deselect();
+	    delayNanos(timing.getT11ShortNanos());
+	}
+    }//end flushRegisters(...)
+
+    /**
+     * Write all dirty registers within the caller's chip select transaction. Dirty registers separated only by
+     * registers of known contents are coalesced into one WREG burst, which rewrites the known registers in between
+     * with their current values.
+     * @since Oct 18, 2026
+     */
+    private void writeDirtyRegisters() {
+	boolean firstBurst = true;
+	while(registerDirty != 0) {
+	    final int first = Integer.numberOfTrailingZeros(registerDirty);
+	    int last = first;
+	    for(int reg = first + 1; reg < NUM_REGISTERS && (registerShadowValid & (1 << reg)) != 0; reg++)
+		if((registerDirty & (1 << reg)) != 0)
+		    last = reg;
+	    if(!firstBurst)
+		delayNanos(timing.getT11ShortNanos());
+	    writeRegisterBurst(first, last);
+	    registerDirty &= -1 << (last + 1);
+	    firstBurst = false;
+	}
+    }//end writeDirtyRegisters()
+
+    private void writeRegisterBurst(int first, int last) {
+	final int count = last - first + 1;
+	registerBurstBuffer[0] = (byte) (ADS125x.WREG | first);
+	registerBurstBuffer[1] = (byte) (count - 1);
+	System.arraycopy(registerShadow, first, registerBurstBuffer, 2, count);
+	spi.write(registerBurstBuffer, 0, count + 2);
+	if(first <= ADS125x.REG_MUX && last >= ADS125x.REG_MUX)
+	    convertingMux = registerShadow[ADS125x.REG_MUX];
+	if(first <= ADS125x.REG_ADCON && last >= ADS125x.REG_ADCON)
+	    convertingGain = GAINS[Math.min(registerShadow[ADS125x.REG_ADCON] & 0x07, GAINS.length - 1)];
+	if(last >= ADS125x.REG_DRATE && first <= ADS125x.REG_DRATE)
+	    convertingDataRate = Objects.requireNonNullElse(DataRate.ofRegisterValue(registerShadow[ADS125x.REG_DRATE]), convertingDataRate);
+	//With ACAL set, the chip recalibrates after a change to STATUS, ADCON or DRATE
+	if(first <= ADS125x.REG_DRATE && (registerShadow[ADS125x.REG_STATUS] & ADS125x.STATUS_ACAL) != 0)
+	    registerShadowValid &= ~CALIBRATION_REGISTERS;
+    }//end writeRegisterBurst(...)
+
+    /**
+     * Forget the shadow copy of the chip's registers, so that each is read from the chip before it is next modified.
+     * Call this if the chip may have been reset or reconfigured other than through this object.
+     * @since Oct 18, 2026
+     */
+    public void invalidateRegisterCache() {
+	registerShadowValid = 0;
+	registerDirty = 0;
+    }
     
     private static void sleepMS(long ms) {
 	try {Thread.sleep(ms);}
 	catch(InterruptedException e) {}
     }
 
+    private static void delayNanos(long nanos) {
+	ADS125xTiming.delayNanos(nanos);
+    }
+
+    /**
+     * Query the serial interface delays applied between SPI command steps.
+     * @return The timing profile supplied at construction
+     * @since Oct 18, 2026
+     */
+    public ADS125xTiming getTiming() {
+	return timing;
+    }
+
     /**
      * Name pairs pChannel and nChannel written into chips MUX register
      *
@@ -393,6 +623,8 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     private void mapMux(short pChannel, short nChannel) throws IOException, InterruptedException {
         if(DEBUG) this.logger.trace(">>> Enter mapMux  channel : " + pChannel + "/" + nChannel);
+        //Restores the configured gain and data rate if a profiled scan changed them
+        stageConfiguration(pgaGain, dataRate, bufferEnabled);
         this.writeReg(ADS125x.REG_MUX, (((pChannel & 0xf) << 4) | nChannel));
         if(DEBUG) this.logger.trace("<<< Exit mapMux ");
     }//end mapMux(...)
@@ -447,12 +679,12 @@ public abstract class AbstractADS125x implements ADS125x {
     
     @Override
     public double readAnalogDifferentialNormalized(int analogPositiveInputNumber, int analogNegativeInputNumber) throws InterruptedException {
-	return read((short)analogPositiveInputNumber, (short)analogNegativeInputNumber) / (pgaGain.getGainScalar() * 8.38861E6);
+	return read((short)analogPositiveInputNumber, (short)analogNegativeInputNumber) * pgaGain.getNormalizedPerCount();
     }
     
     @Override
     public double readAnalogDifferentialVolts(int analogPositiveInputNumber, int negativeInputNumber) throws InterruptedException {
-	return (2*getVRefVolts()) * read((short)analogPositiveInputNumber, (short)negativeInputNumber) / (pgaGain.getGainScalar() * 8.38861E6);
+	return read((short)analogPositiveInputNumber, (short)negativeInputNumber) * voltsPerCount[pgaGain.ordinal()];
     }
     
     
@@ -483,21 +715,22 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     public int getConversionValue(short pChannel, short nChannel) throws IOException, InterruptedException {
         if(DEBUG) this.logger.trace(">>> Enter getConversionValue  channel : " + pChannel + "/" + nChannel);
+        ensureNotReadingContinuous();
         
-        drdyBarrier.anticipateToggles(true, 1);//mapMux goes high->low for drdy
-        this.mapMux(pChannel, nChannel);
-        if(DEBUG)logger.debug("before getConversionValue.SYNC, drdyState="+drdyBarrier.getLastReceivedState());
-        this.writeCmd(ADS125x.SYNC);
-        if(DEBUG)logger.debug("before getConversionValue.WAKEUP, drdyState="+drdyBarrier.getLastReceivedState());
-        this.writeCmd(ADS125x.WAKEUP);
-        try {drdyBarrier.awaitAnticipatedToggles(false, 250);}
-        catch(TimeoutException e) {}
-        int adcValue = doRDATA();
-        if(DEBUG)logger.debug("RDATA complete; enter STANDBY....");
-        drdyBarrier.anticipateToggles(false, 1);
-        this.writeCmd(ADS125x.STANDBY);
-        try {drdyBarrier.awaitAnticipatedToggles(true, 250);}
-        catch(TimeoutException e) {}
+        long mark = beginEdgeCounting();
+        int adcValue;
+        try {
+            this.mapMux(pChannel, nChannel);
+            if(DEBUG)logger.debug("before getConversionValue.SYNC, drdyState="+drdyEdges.getLastReceivedState());
+            this.writeCmd(ADS125x.SYNC);
+            mark = drdyEdges.getFallingEdgeCount();//Conversions are halted, so the next edge is the new one
+            if(DEBUG)logger.debug("before getConversionValue.WAKEUP, drdyState="+drdyEdges.getLastReceivedState());
+            this.writeCmd(ADS125x.WAKEUP);
+            awaitDataReady(mark);
+            adcValue = doRDATA();
+            if(DEBUG)logger.debug("RDATA complete; enter STANDBY....");
+            enterStandby();
+        } finally {endEdgeCounting();}
         
         if(DEBUG) {
             this.logger.debug("Channel  :" + pChannel + "/" + nChannel + "  value  :" + adcValue); //String.format(" | %06f", value)); // print
@@ -523,6 +756,387 @@ public abstract class AbstractADS125x implements ADS125x {
 	return this.getConversionValue((byte)positivePin, (byte)negativePin);
     }
 
+    @Override
+    public int[] scan(ADS125xScanList scanList) throws InterruptedException {
+	final int [] frame = new int[scanList.size()];
+	scan(scanList, frame);
+	return frame;
+    }
+
+    /**
+     * Convert every pair of the scan list using the cycling-through-inputs sequence
+     * of the datasheet (Figure 19). Each pass costs one DRDY wait per pair plus one
+     * to prime the first conversion.
+     * @param scanList
+     * @param frame
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void scan(ADS125xScanList scanList, int[] frame) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	if(size == 0)
+	    return;
+	if(DEBUG) this.logger.trace(">>> Enter scan " + scanList);
+	pipelinedConvert(scanList, null, size, frame, 0);
+	if(DEBUG) this.logger.trace("<<< Exit scan");
+    }//end scan(...)
+
+    /**
+     * Cycling-through-inputs conversion shared by scan(...) and the bulk one-sided reads.
+     * MUX values come from the scan list if not null, else from analogInputNumbers against AINCOM.<br>
+     * If the scan list has profiles, its pairs are converted in its conversion order, starting with the group
+     * whose profile the chip already holds. A change of profile is written in the same transaction as the MUX
+     * change, so it costs no more than the new data rate's settling time.
+     * @param scanList
+     * @param analogInputNumbers
+     * @param count Number of pairs to convert
+     * @param out
+     * @param outOffset
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    private void pipelinedConvert(ADS125xScanList scanList, int [] analogInputNumbers, int count, int [] out, int outOffset) throws InterruptedException {
+	beginPipelined(scanList, analogInputNumbers, count, outOffset);
+	try {
+	    while(!stepPipelined(out));
+	} finally {endPipelined();}
+    }//end pipelinedConvert(...)
+
+    /**
+     * Start the first conversion of a pipelined sequence, to be continued by stepPipelined(...) and ended by
+     * endPipelined(). Split into steps so that ADS125xSpiBus can interleave the sequences of several chips.
+     * Parameters are as per pipelinedConvert(...).
+     * @since Oct 18, 2026
+     */
+    void beginPipelined(ADS125xScanList scanList, int [] analogInputNumbers, int count, int outOffset) {
+	ensureNotReadingContinuous();
+	if(pipelinedActive)
+	    throw new IllegalStateException("A pipelined conversion is already in progress.");
+	pipelinedScanList = scanList;
+	pipelinedInputs = analogInputNumbers;
+	pipelinedOrder = scanList != null && scanList.hasProfiles() ? scanList.getConversionOrder() : null;
+	pipelinedStart = pipelinedOrder != null ? findConfiguredStart(scanList, pipelinedOrder) : 0;
+	pipelinedCount = count;
+	pipelinedOffset = outOffset;
+	pipelinedPosition = 0;
+	pipelinedMark = beginEdgeCounting();
+	pipelinedActive = true;
+	try {
+	    stageEntry(scanList, analogInputNumbers, entryAt(pipelinedOrder, pipelinedStart, count, 0));
+	    flushRegisters(true);
+	    this.writeCmd(ADS125x.SYNC);
+	    pipelinedMark = drdyEdges.getFallingEdgeCount();
+	    this.writeCmd(ADS125x.WAKEUP);
+	} catch(RuntimeException e) {
+	    endPipelined();
+	    throw e;
+	}
+    }//end beginPipelined(...)
+
+    /**
+     * Await the conversion in progress, read it into out, and start the next, if any.
+     * @param out
+     * @return true if that was the last conversion of the sequence, in which case the chip is in STANDBY.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    boolean stepPipelined(int [] out) throws InterruptedException {
+	final int current = entryAt(pipelinedOrder, pipelinedStart, pipelinedCount, pipelinedPosition);
+	awaitDataReady(pipelinedMark);
+	if(pipelinedPosition == pipelinedCount - 1) {
+	    out[pipelinedOffset + current] = doRDATA();
+	    enterStandby();
+	    return true;
+	}
+	stageEntry(pipelinedScanList, pipelinedInputs, entryAt(pipelinedOrder, pipelinedStart, pipelinedCount, pipelinedPosition + 1));
+	pipelinedMark = switchAndRead(out, pipelinedOffset + current);
+	if(drdyEdges.getFallingEdgeCount() != pipelinedMark) {
+	    //DRDY fell during the transaction. Usually the previous input's conversion racing the MUX write, but if
+	    //preempted for longer than the settling time it was the new input's, and the value read may be of
+	    //either input. Convert the previous input again.
+	    stageEntry(pipelinedScanList, pipelinedInputs, current);
+	    pipelinedMark = switchAndRead(out, pipelinedOffset + current);
+	} else
+	    pipelinedPosition++;
+	return false;
+    }//end stepPipelined(...)
+
+    /**
+     * Query whether the conversion awaited by stepPipelined(...) has completed, so that it would not block.
+     * @return true if DRDY has fallen since the sequence's current mark
+     * @since Oct 18, 2026
+     */
+    boolean isPipelinedReady() {
+	return drdyEdges.getFallingEdgeCount() != pipelinedMark;
+    }
+
+    /**
+     * End a pipelined sequence, whether or not it completed. Has no effect if none is in progress.
+     * @since Oct 18, 2026
+     */
+    void endPipelined() {
+	if(!pipelinedActive)
+	    return;
+	pipelinedActive = false;
+	pipelinedScanList = null;
+	pipelinedInputs = null;
+	endEdgeCounting();
+    }
+
+    /**
+     * Prepare to convert the specified input pair in step with other chips sharing this chip's SYNC/PDWN GPIO.
+     * The chip is woken to convert continuously; ADS125xGroupSampler then pulses SYNC/PDWN to restart all the chips'
+     * conversions together. Paired with endSynchronized().
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    void beginSynchronized(int analogPositiveInputNumber, int analogNegativeInputNumber) throws InterruptedException {
+	ensureNotReadingContinuous();
+	if(pdwnGpio == null)
+	    throw new IllegalStateException("Synchronized sampling requires the SYNC/PDWN GPIO. Construct with crtPdwnGpio true.");
+	beginEdgeCounting();
+	try {
+	    this.mapMux((short)analogPositiveInputNumber, (short)analogNegativeInputNumber);
+	    this.writeCmd(ADS125x.WAKEUP);
+	} catch(RuntimeException e) {
+	    endEdgeCounting();
+	    throw e;
+	}
+    }//end beginSynchronized(...)
+
+    /**
+     * Await a conversion started by a SYNC/PDWN pulse or following one. See awaitDataReady(...)
+     * @since Oct 18, 2026
+     */
+    long awaitSynchronized(long fallingEdgeMark) throws InterruptedException {
+	return awaitDataReady(fallingEdgeMark);
+    }
+
+    int readSynchronized() throws InterruptedException {
+	return doRDATA();
+    }
+
+    /**
+     * Return the chip to STANDBY after synchronized sampling.
+     * @since Oct 18, 2026
+     */
+    void endSynchronized() throws InterruptedException {
+	try {enterStandby();}
+	finally {endEdgeCounting();}
+    }
+
+    long getFallingEdgeCount() {
+	return drdyEdges.getFallingEdgeCount();
+    }
+
+    /**
+     *
+     * @return The SYNC/PDWN GPIO, which may be shared with other chips, or null if it was not requested.
+     * @since Oct 18, 2026
+     */
+    DigitalOutput getSyncGpio() {
+	return pdwnGpio;
+    }
+
+    private static int entryAt(int [] order, int start, int count, int position) {
+	if(order == null)
+	    return position;
+	final int rotated = start + position;
+	return order[rotated < count ? rotated : rotated - count];
+    }
+
+    /**
+     * Find the first position in the conversion order whose pair's profile the chip already holds,
+     * so that a scan following a scan of the same list begins without a change of profile.
+     * As the order keeps each profile's pairs together, rotating it to any group's start keeps them together.
+     * @return The starting position, or 0 if no profile matches
+     * @since Oct 18, 2026
+     */
+    private int findConfiguredStart(ADS125xScanList scanList, int [] order) {
+	for(int position = 0; position < order.length; position++) {
+	    final ADS125xProfile profile = scanList.getProfile(order[position]);
+	    final boolean configured = profile == null ? isConfiguredAs(pgaGain, dataRate, bufferEnabled) :
+		isConfiguredAs(profile.getGain(), profile.getDataRate(), profile.isBufferEnabled());
+	    if(configured)
+		return position;
+	}
+	return 0;
+    }//end findConfiguredStart(...)
+
+    /**
+     * Stage the MUX value and configuration of the pair at the given index, to be written by the next switchAndRead(...)
+     * or flushRegisters(...).
+     * @since Oct 18, 2026
+     */
+    private void stageEntry(ADS125xScanList scanList, int [] analogInputNumbers, int index) {
+	final ADS125xProfile profile = scanList != null ? scanList.getProfile(index) : null;
+	if(profile != null)
+	    stageConfiguration(profile.getGain(), profile.getDataRate(), profile.isBufferEnabled());
+	else
+	    stageConfiguration(pgaGain, dataRate, bufferEnabled);
+	stageRegister(ADS125x.REG_MUX, muxValueAt(scanList, analogInputNumbers, index));
+    }
+
+    private static byte muxValueAt(ADS125xScanList scanList, int [] analogInputNumbers, int index) {
+	if(scanList != null)
+	    return scanList.getMuxRegisterValue(index);
+	return (byte)(((analogInputNumbers[index] & 0xf) << 4) | MuxValue.AINCOM.channelNumber());
+    }
+
+    private Gain gainAt(ADS125xScanList scanList, int index) {
+	final ADS125xProfile profile = scanList.getProfile(index);
+	return profile != null ? profile.getGain() : pgaGain;
+    }
+
+    /**
+     * Return the chip to STANDBY after a final RDATA, as the single-shot paths expect.
+     * @since Oct 18, 2026
+     */
+    private void enterStandby() throws InterruptedException {
+	this.writeCmd(ADS125x.STANDBY);
+	try {drdyEdges.awaitState(true, getDrdyTimeoutNanos());}
+	catch(TimeoutException e) {}
+    }
+
+    /**
+     * Read one conversion of each single-ended input, in order, into the caller's buffer.
+     * No per-call allocation is made; the inputs are converted with the pipelined scan sequence.
+     * @param analogInputNumbers
+     * @param out
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void readAnalogOneSided(int[] analogInputNumbers, int[] out) throws InterruptedException {
+	final int count = analogInputNumbers.length;
+	if(out.length < count)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+count);
+	for(int i = 0; i < count; i++)
+	    if(analogInputNumbers[i] < 0 || analogInputNumbers[i] >= getNumAnalogPins())
+		throw new IllegalArgumentException("Analog input pin number out of range of [0,"+(getNumAnalogPins()-1)+"]. Got "+analogInputNumbers[i]);
+	if(count == 0)
+	    return;
+	pipelinedConvert(null, analogInputNumbers, count, out, 0);
+    }//end readAnalogOneSided(...)
+
+    @Override
+    public void readAnalogOneSidedVolts(int[] analogInputNumbers, double[] out) throws InterruptedException {
+	final int count = analogInputNumbers.length;
+	if(out.length < count)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+count);
+	final int [] counts = getScanWorkBuffer(count);
+	readAnalogOneSided(analogInputNumbers, counts);
+	final double scale = voltsPerCount[pgaGain.ordinal()];
+	for(int i = 0; i < count; i++)
+	    out[i] = counts[i] * scale;
+    }//end readAnalogOneSidedVolts(...)
+
+    /**
+     * Read consecutive conversions of one input pair into the caller's buffer. The input is
+     * synchronized once and then read at the configured data rate without further MUX writes.
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @param out
+     * @param offset
+     * @param count
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void readAnalogDifferential(int analogPositiveInputNumber, int analogNegativeInputNumber, int[] out, int offset, int count) throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	if(count == 0)
+	    return;
+	ensureNotReadingContinuous();
+	long mark = beginEdgeCounting();
+	try {
+	    this.mapMux((short)analogPositiveInputNumber, (short)analogNegativeInputNumber);
+	    this.writeCmd(ADS125x.SYNC);
+	    mark = drdyEdges.getFallingEdgeCount();
+	    this.writeCmd(ADS125x.WAKEUP);
+	    final int last = offset + count - 1;
+	    for(int i = offset; i < last; i++) {
+		awaitDataReady(mark);
+		//Edges before the read are satisfied by it, as RDATA returns the latest conversion
+		mark = drdyEdges.getFallingEdgeCount();
+		out[i] = doRDATA();
+	    }
+	    awaitDataReady(mark);
+	    out[last] = doRDATA();
+	    enterStandby();
+	} finally {endEdgeCounting();}
+    }//end readAnalogDifferential(...)
+
+    @Override
+    public void readAnalogDifferentialVolts(int analogPositiveInputNumber, int analogNegativeInputNumber, double[] out, int offset, int count) throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	final int [] counts = getScanWorkBuffer(count);
+	readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber, counts, 0, count);
+	final double scale = voltsPerCount[pgaGain.ordinal()];
+	for(int i = 0; i < count; i++)
+	    out[offset + i] = counts[i] * scale;
+    }//end readAnalogDifferentialVolts(...)
+
+    @Override
+    public void scanNormalized(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	final int [] counts = getScanWorkBuffer(size);
+	scan(scanList, counts);
+	for(int i = 0; i < size; i++)
+	    frame[i] = counts[i] * gainAt(scanList, i).getNormalizedPerCount();
+    }
+
+    @Override
+    public void scanVolts(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	final int [] counts = getScanWorkBuffer(size);
+	scan(scanList, counts);
+	for(int i = 0; i < size; i++)
+	    frame[i] = counts[i] * voltsPerCount[gainAt(scanList, i).ordinal()];
+    }
+
+    private int [] getScanWorkBuffer(int minimumSize) {
+	if(scanWorkBuffer.length < minimumSize)
+	    scanWorkBuffer = new int[minimumSize];
+	return scanWorkBuffer;
+    }
+
+    /**
+     * Single transaction of the staged register writes (the MUX and, if it changed, the configuration), SYNC, WAKEUP
+     * and RDATA. The conversion read back is that of the previous setting; the new setting's conversion starts at WAKEUP.<br>
+     * The falling edge mark is taken before the register writes, so that if the thread is preempted anywhere in the
+     * transaction for longer than the settling time, the new setting's conversion is counted past the mark.
+     * If the count has passed the mark by the time this returns, the value read cannot be trusted.
+     * @param out Destination of the previous setting's sign-extended conversion value
+     * @param outIndex
+     * @return The falling edge mark to supply to awaitDataReady(...) for the new setting
+     * @since Oct 18, 2026
+     */
+    private long switchAndRead(int [] out, int outIndex) {
+	select();
+	delayNanos(timing.getCsSetupNanos());
+	final long mark = drdyEdges.getFallingEdgeCount();
+	writeDirtyRegisters();
+	delayNanos(timing.getT11ShortNanos());
+	spi.write(ADS125x.SYNC);
+	delayNanos(timing.getT11LongNanos());
+	spi.write(ADS125x.WAKEUP);
+	delayNanos(timing.getT11ShortNanos());
+	spi.write(ADS125x.RDATA);
+	delayNanos(timing.getT6Nanos());
+	out[outIndex] = readFrame();
+	return mark;
+    }//end switchAndRead(...)
+
     /**
      * Retrieve RDATA from chip
      *
@@ -532,29 +1146,237 @@ public abstract class AbstractADS125x implements ADS125x {
     private int doRDATA() throws InterruptedException {
         if(DEBUG) this.logger.trace(">>> Enter doRDATA ");
 
-        int adcValue = 0;
-        
-        sleepMS(1);
-
-        this.csGpio.low();
-        sleepMS(1);
+        select();
+        delayNanos(timing.getCsSetupNanos());
         this.spi.write(ADS125x.RDATA);
-        sleepMS(1);
+        delayNanos(timing.getT6Nanos());
         
         spi.read(workBuffer3);
-        this.csGpio.high();
-        adcValue = (workBuffer3[0] << 16) & 0x00FF0000;
-        adcValue |= (workBuffer3[1] << 8) & 0x0000FF00;
-        adcValue |= workBuffer3[2] & 0x000000FF;
-        adcValue &= 0x00ffffff;
-        //printf("%d  %d  %d \r\n",buf[0],buf[1],buf[2]);
-        if (adcValue >= 0x800000) {
-            adcValue -= 0x1000000; // negative value
-        }
+        deselect();
+        final int adcValue = decodeConversion(workBuffer3, 0);
         if(DEBUG) this.logger.trace("<<< Exit doRDATA ");
         return adcValue;
     }//end doRDATA()
-    
+
+    /**
+     * Stream conversions of the specified input pair using RDATAC. See ADS125x.readContinuous(...)
+     * @param analogPositiveInputNumber
+     * @param analogNegativeInputNumber
+     * @param sampleConsumer
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void readContinuous(int analogPositiveInputNumber, int analogNegativeInputNumber, IntConsumer sampleConsumer) throws InterruptedException {
+	if(sampleConsumer == null)
+	    throw new NullPointerException("sampleConsumer must not be null.");
+	ensureNotReadingContinuous();
+	if(DEBUG) this.logger.trace(">>> Enter readContinuous  channel : " + analogPositiveInputNumber + "/" + analogNegativeInputNumber);
+	stopContinuousRequested = false;
+	readingContinuous = true;
+	long mark = beginEdgeCounting();
+	try {
+	    this.mapMux((short)analogPositiveInputNumber, (short)analogNegativeInputNumber);
+	    this.writeCmd(ADS125x.SYNC);
+	    mark = drdyEdges.getFallingEdgeCount();
+	    this.writeCmd(ADS125x.WAKEUP);
+	    awaitDataReady(mark);
+	    //First frame follows the RDATAC command itself
+	    mark = drdyEdges.getFallingEdgeCount();
+	    select();
+	    delayNanos(timing.getCsSetupNanos());
+	    this.spi.write(ADS125x.RDDATC);
+	    delayNanos(timing.getT6Nanos());
+	    sampleConsumer.accept(readFrame());
+	    while(!stopContinuousRequested && !Thread.currentThread().isInterrupted()) {
+		awaitDataReady(mark);
+		mark = drdyEdges.getFallingEdgeCount();
+		select();
+		sampleConsumer.accept(readFrame());
+	    }//end while(!stop)
+	} finally {
+	    exitContinuousMode(mark);
+	    endEdgeCounting();
+	    readingContinuous = false;
+	    if(DEBUG) this.logger.trace("<<< Exit readContinuous");
+	}
+	if(Thread.interrupted())
+	    throw new InterruptedException("Interrupted during readContinuous(...)");
+    }//end readContinuous(...)
+
+    /**
+     * Request that a running readContinuous(...) stream end after the frame currently being awaited.
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void stopContinuousRead() {
+	stopContinuousRequested = true;
+    }
+
+    @Override
+    public boolean isReadingContinuous() {
+	return readingContinuous;
+    }
+
+    /**
+     * Clock out one 24-bit conversion frame and release chip select. The caller is expected
+     * to have already selected the chip.
+     * @return Sign-extended conversion value
+     * @since Oct 18, 2026
+     */
+    private int readFrame() {
+	spi.read(workBuffer3);
+	deselect();
+	return decodeConversion(workBuffer3, 0);
+    }//end readFrame()
+
+    /**
+     * Take the bus and chip select low. Every select() must be followed by deselect() on the same thread.
+     * @since Oct 18, 2026
+     */
+    private void select() {
+	bus.beginTransaction();
+	this.csGpio.low();
+    }
+
+    private void deselect() {
+	this.csGpio.high();
+	bus.endTransaction();
+    }
+
+    /**
+     *
+     * @return The bus this chip is on, which may be shared with other chips.
+     * @since Oct 18, 2026
+     */
+    public ADS125xSpiBus getBus() {
+	return bus;
+    }
+
+    /**
+     * Decode a 24-bit two's complement conversion result as clocked out by RDATA or RDATAC.
+     * @param frame Buffer holding the result, most significant byte first
+     * @param offset Index of the most significant byte
+     * @return Sign-extended conversion value
+     * @since Oct 18, 2026
+     */
+    public static int decodeConversion(byte [] frame, int offset) {
+	return ADS125xConversionDecoder.decode(frame, offset);
+    }
+
+    /**
+     * Leave RDATAC mode once DRDY is low, as SDATAC is only accepted between frames,
+     * then return the chip to STANDBY as expected by the single-shot paths.
+     * @since Oct 18, 2026
+     */
+    private void exitContinuousMode(long fallingEdgeMark) {
+	try {awaitDataReady(fallingEdgeMark);}
+	catch(InterruptedException e) {Thread.currentThread().interrupt();}
+	this.writeCmd(ADS125x.SDATAC);
+	try {enterStandby();}
+	catch(InterruptedException e) {Thread.currentThread().interrupt();}
+    }//end exitContinuousMode(...)
+
+    /**
+     * Block until DRDY has fallen since the given mark. A falling edge which arrived after the mark
+     * was taken, but before this call, returns immediately. If no edge arrives in time the current
+     * count is returned so that the caller re-synchronizes to the pin.<br>
+     * The mark should be taken immediately before the command or read after which a new conversion
+     * is wanted; a mark kept from an earlier wait would accept a conversion which completed while the
+     * caller was busy, such as one of a previous MUX setting.
+     * The DRDY edge's timestamp and the converting input pair and gain are recorded for
+     * getLastConversionNanos() and getLastConversionTag(), as the conversion it announces is the next one read.
+     * @param fallingEdgeMark A value from beginEdgeCounting() or drdyEdges.getFallingEdgeCount()
+     * @return The mark to supply to the next awaitDataReady(...)
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    private long awaitDataReady(long fallingEdgeMark) throws InterruptedException {
+	long count;
+	try {
+	    count = drdyEdges.awaitFallingEdge(fallingEdgeMark, getDrdyTimeoutNanos());
+	    lastConversionNanos = drdyEdges.getLastFallingEdgeNanos();
+	} catch(TimeoutException e) {
+	    count = drdyEdges.getFallingEdgeCount();
+	    lastConversionNanos = System.nanoTime();
+	}
+	lastConversionTag = ADS125xSampleTag.of(convertingMux, convertingGain);
+	return count;
+    }//end awaitDataReady(...)
+
+    /**
+     * Timestamp of the DRDY falling edge which announced the conversion most recently read, taken
+     * when its state change event was received rather than after the SPI transaction. Intended to be
+     * queried from the thread which performed the read, such as within a readContinuous(...) consumer.
+     * @return System.nanoTime() of the DRDY edge, or 0 if no conversion has been read
+     * @since Oct 18, 2026
+     */
+    @Override
+    public long getLastConversionNanos() {
+	return lastConversionNanos;
+    }
+
+    /**
+     * Input pair and gain of the conversion most recently read. Intended to be queried from the thread
+     * which performed the read, such as within a readContinuous(...) consumer.
+     * @return An ADS125xSampleTag
+     * @since Oct 18, 2026
+     */
+    @Override
+    public int getLastConversionTag() {
+	return lastConversionTag;
+    }
+
+    /**
+     * Hand DRDY tracking from the InputTransitionBarrier to the edge counter for a conversion sequence.
+     * Must be called before the command which starts the first conversion, and paired with endEdgeCounting().
+     * @return The falling edge mark to supply to the first awaitDataReady(...)
+     * @since Oct 18, 2026
+     */
+    private long beginEdgeCounting() {
+	drdyBarrier.setTrackToggleCounts(false);
+	return drdyEdges.getFallingEdgeCount();
+    }
+
+    /**
+     * Return DRDY tracking to the InputTransitionBarrier, re-synchronized to the pin's actual state.
+     * @since Oct 18, 2026
+     */
+    private void endEdgeCounting() {
+	drdyBarrier.reset();
+	drdyBarrier.setTrackToggleCounts(true);
+    }
+
+    long getDrdyTimeoutNanos() {
+	return getDrdyTimeoutMillis() * 1_000_000L;
+    }
+
+    /**
+     * DRDY waits must allow for the digital filter to settle at slow data rates, and for the
+     * self-calibration which ACAL performs after a change of configuration.
+     * @return Milliseconds to wait for DRDY before giving up.
+     * @since Oct 18, 2026
+     */
+    private long getDrdyTimeoutMillis() {
+	if(autoCalibrate)
+	    return getCalibrationTimeoutMillis();
+	return Math.max(250L, 2L * (long)Math.ceil(convertingDataRate.getSettlingTimeMS()));
+    }
+
+    /**
+     * Self-calibration takes up to about three settling times at the slowest data rates (datasheet Table 21).
+     * @return Milliseconds to wait for a calibration to complete before giving up.
+     * @since Oct 18, 2026
+     */
+    private long getCalibrationTimeoutMillis() {
+	return Math.max(250L, 4L * (long)Math.ceil(convertingDataRate.getSettlingTimeMS()));
+    }
+
+    private void ensureNotReadingContinuous() {
+	if(readingContinuous)
+	    throw new IllegalStateException("Operation not permitted while readContinuous(...) is streaming. Call stopContinuousRead() first.");
+    }
+
     /**
      * Get the gpio status byte from the I/O register, complete with direction
      * information on the more significant nibble.
@@ -618,6 +1440,80 @@ public abstract class AbstractADS125x implements ADS125x {
         return autoCalibrate;
     }
 
+    @Override
+    public Gain getGain() {
+	return pgaGain;
+    }
+
+    @Override
+    public DataRate getDataRate() {
+	return dataRate;
+    }
+
+    /**
+     * Perform an on-chip calibration. DRDY goes low when the calibration completes, after which the chip
+     * is returned to STANDBY. The shadow copies of the calibration registers are invalidated by writeCmd(...).
+     * @param calibration
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void calibrate(Calibration calibration) throws InterruptedException {
+	Objects.requireNonNull(calibration, "calibration");
+	ensureNotReadingContinuous();
+	if(DEBUG) this.logger.trace(">>> Enter calibrate " + calibration);
+	final long mark = beginEdgeCounting();
+	try {
+	    this.writeCmd(calibration.getCommand());
+	    try {drdyEdges.awaitFallingEdge(mark, getCalibrationTimeoutMillis() * 1_000_000L);}
+	    catch(TimeoutException e) {
+		throw new IllegalStateException("Calibration "+calibration+" did not complete within "+getCalibrationTimeoutMillis()+"ms");
+	    }
+	    enterStandby();
+	} finally {endEdgeCounting();}
+	if(DEBUG) this.logger.trace("<<< Exit calibrate");
+    }//end calibrate(...)
+
+    @Override
+    public int readOffsetCalibration() throws InterruptedException {
+	ensureNotReadingContinuous();
+	final int value = ((readRegisterCached(ADS125x.REG_OFC2) & 0xFF) << 16) |
+		((readRegisterCached(ADS125x.REG_OFC1) & 0xFF) << 8) | (readRegisterCached(ADS125x.REG_OFC0) & 0xFF);
+	return (value << 8) >> 8;
+    }
+
+    @Override
+    public int readFullScaleCalibration() throws InterruptedException {
+	ensureNotReadingContinuous();
+	return ((readRegisterCached(ADS125x.REG_FSC2) & 0xFF) << 16) |
+		((readRegisterCached(ADS125x.REG_FSC1) & 0xFF) << 8) | (readRegisterCached(ADS125x.REG_FSC0) & 0xFF);
+    }
+
+    /**
+     * Write both calibration coefficients. Only registers whose shadow copies differ are written,
+     * in a single WREG burst if more than one.
+     * @param offset
+     * @param fullScale
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void writeCalibration(int offset, int fullScale) {
+	if(offset < -0x800000 || offset > 0x7FFFFF)
+	    throw new IllegalArgumentException("Offset coefficient out of signed 24-bit range. Got "+offset);
+	if(fullScale < 0 || fullScale > 0xFFFFFF)
+	    throw new IllegalArgumentException("Full-scale coefficient out of unsigned 24-bit range. Got "+fullScale);
+	ensureNotReadingContinuous();
+	if(DEBUG) this.logger.trace(">>> Enter writeCalibration ofc " + offset + " fsc " + fullScale);
+	stageRegister(ADS125x.REG_OFC0, (byte) offset);
+	stageRegister(ADS125x.REG_OFC1, (byte) (offset >> 8));
+	stageRegister(ADS125x.REG_OFC2, (byte) (offset >> 16));
+	stageRegister(ADS125x.REG_FSC0, (byte) fullScale);
+	stageRegister(ADS125x.REG_FSC1, (byte) (fullScale >> 8));
+	stageRegister(ADS125x.REG_FSC2, (byte) (fullScale >> 16));
+	flushRegisters(true);
+	if(DEBUG) this.logger.trace("<<< Exit writeCalibration");
+    }//end writeCalibration(...)
+
     @SuppressWarnings("exports")
     public DigitalState readGpio(int gpioPinNumber) {
 	if(DEBUG) this.logger.trace(">>> Enter readGpio pin  " + gpioPinNumber);
@@ -643,7 +1539,7 @@ public abstract class AbstractADS125x implements ADS125x {
 	    throw new IllegalArgumentException("GPIO pin number out of bounds. Must be in range [0,"+(getNumGpioPins()-1)+"]. Got "+gpioPinNumber);
         if(DEBUG) this.logger.trace(">>> Enter setGpioDirOut pin  " + gpioPinNumber);
         // if(DEBUG) this.logger.trace("ADCON"  + this.readRegData(ADS125x.REG_ADCON));
-        byte regVal = this.readRegData(ADS125x.REG_IO);
+        byte regVal = this.readRegisterCached(ADS125x.REG_IO);
         regVal &= ~(0x10 << gpioPinNumber) & 0xff;
         this.writeReg(ADS125x.REG_IO, regVal);
         if(DEBUG) this.logger.trace("<<< Exit setGpioDirOut");
@@ -659,7 +1555,7 @@ public abstract class AbstractADS125x implements ADS125x {
 	if(gpioPinNumber >= getNumGpioPins() || gpioPinNumber < 0)
 	    throw new IllegalArgumentException("GPIO pin number out of bounds. Must be in range [0,"+(getNumGpioPins()-1)+"]. Got "+gpioPinNumber);
         if(DEBUG) this.logger.trace(">>> Enter setGpioDirIn pin  " + gpioPinNumber);
-        byte regVal = this.readRegData(ADS125x.REG_IO);
+        byte regVal = this.readRegisterCached(ADS125x.REG_IO);
         regVal |= (0x10 << gpioPinNumber) & 0xff;
         this.writeReg(ADS125x.REG_IO, regVal);
         if(DEBUG) this.logger.trace("<<< Exit setGpioDirIn  State");
@@ -680,7 +1576,7 @@ public abstract class AbstractADS125x implements ADS125x {
      * @since Dec 13, 2024
      */
     public void setGpio(int pin, boolean newState) {
-	byte regVal = this.readRegData(ADS125x.REG_IO);
+	byte regVal = this.readRegisterCached(ADS125x.REG_IO);
         if (ADS125x.isPinOutput(pin, regVal))
             this.setPinState(pin, newState?DigitalState.HIGH:DigitalState.LOW, regVal);
         else if(DEBUG) this.logger.trace("Pin " + pin + " not configured for output");
@@ -688,6 +1584,21 @@ public abstract class AbstractADS125x implements ADS125x {
         if(DEBUG) this.logger.trace("<<< Exit setGpio ");
     }//end setGpio(...)
 
+    /**
+     * Set the states of several gpio pins in one register write. Pins not configured for output are unaffected.
+     * @param pinMask Bit n set to modify GPIO pin n
+     * @param highPinMask Bit n set to drive GPIO pin n HIGH, clear to drive it LOW
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void setGpios(int pinMask, int highPinMask) {
+	if((pinMask & ~((1 << getNumGpioPins()) - 1)) != 0)
+	    throw new IllegalArgumentException("GPIO pin mask out of bounds. Must be within 0x"+Integer.toHexString((1 << getNumGpioPins()) - 1)+". Got 0x"+Integer.toHexString(pinMask));
+	final byte regVal = this.readRegisterCached(ADS125x.REG_IO);
+	final int outputs = pinMask & ~(regVal >> 4);
+	this.writeReg(ADS125x.REG_IO, (regVal & ~outputs) | (highPinMask & outputs));
+    }//end setGpios(...)
+
     /**
      * Set the specified gpio pin
      * @param pin The GPIO pin in question (D0, D1 ... Dx)
@@ -695,7 +1606,7 @@ public abstract class AbstractADS125x implements ADS125x {
      */
     public void setGpio(int pin, @SuppressWarnings("exports") DigitalState newState) {
         if(DEBUG) this.logger.trace(">>> Enter setGpio  pin " + pin + "  state : " + newState);
-        byte regVal = this.readRegData(ADS125x.REG_IO);
+        byte regVal = this.readRegisterCached(ADS125x.REG_IO);
         if (ADS125x.isPinOutput(pin, regVal)) {
             this.setPinState(pin, newState, regVal);
         } else {
@@ -716,14 +1627,15 @@ public abstract class AbstractADS125x implements ADS125x {
     }
     
     // file
-    private Spi spi;
+    private final ADS125xSpiBus bus;
+    private final Spi spi;
     private final Console console;
+    private final ADS125xTiming timing;
     private final String traceLevel;
     private final Logger logger;
     
     private double vref = 2.5;
-    private final SpiChipSelect chipSelect;
-    private final SpiBus spiBus;
+    private final double [] voltsPerCount = new double[Gain.values().length];//By Gain ordinal
 
     private final Context pi4j;
     private boolean resetChip = false;
@@ -736,21 +1648,39 @@ public abstract class AbstractADS125x implements ADS125x {
     private DigitalOutput rstGpio;
     private final int rstPinNum;     //  18
     private boolean crtRstGpio = false;
-    //private DigitalOutput pdwnGpio;
+    private DigitalOutput pdwnGpio;
     private final DataRate sampleRate;
 
-    //private final int pdwnPinNum;     //  27
-    //private boolean crtPdwnGpio = false;
+    private final int pdwnPinNum;     //  27
+    private boolean crtPdwnGpio = false;
     private boolean autoCalibrate;
     private final boolean useBuffer;
+    private boolean bufferEnabled;
     
     private Gain pgaGain;
     private DataRate dataRate;
     private final byte [] workBuffer2 = new byte[2];
     private final byte [] workBuffer3 = new byte[3];
-    private final byte [] workBuffer4 = new byte[4];
+    private final byte [] registerShadow = new byte[NUM_REGISTERS];
+    private final byte [] registerBurstBuffer = new byte[NUM_REGISTERS + 2];
+    private int registerShadowValid = 0, registerDirty = 0;//Bit per register
+    private int [] scanWorkBuffer = new int[8];
     
     private InputTransitionBarrier drdyBarrier;
+    private DigitalEdgeCounter drdyEdges;
+    private byte convertingMux = 0x08;
+    private Gain convertingGain = Gain.GAIN_1;
+    private DataRate convertingDataRate = DataRate.SPS_30000;
+    private long lastConversionNanos = 0;
+    private int lastConversionTag = 0;
+    private volatile boolean readingContinuous = false;
+    private volatile boolean stopContinuousRequested = false;
+    //Pipelined sequence in progress, see beginPipelined(...)
+    private ADS125xScanList pipelinedScanList;
+    private int [] pipelinedInputs, pipelinedOrder;
+    private int pipelinedStart, pipelinedCount, pipelinedOffset, pipelinedPosition;
+    private long pipelinedMark;
+    private boolean pipelinedActive = false;
 
 }//end ADS125X
 
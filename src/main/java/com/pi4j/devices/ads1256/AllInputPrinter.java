@@ -41,6 +41,9 @@ import java.text.DecimalFormat;
 public class AllInputPrinter {
     private final ADS125x ads;
     private PrintingUnits printingUnits = PrintingUnits.NORMALIZED;
+    private final ADS125xScanList scanList;
+    private final int [] countsFrame;
+    private final double [] valueFrame;
     
     public static enum PrintingUnits {
 	TWOS_COMPLEMENT,
@@ -50,6 +53,9 @@ public class AllInputPrinter {
     
     AllInputPrinter(ADS125x ads) {
 	this.ads = ads;
+	this.scanList = ADS125xScanList.allOneSided(ads);
+	this.countsFrame = new int[scanList.size()];
+	this.valueFrame = new double[scanList.size()];
 	
 	configureADSXXXForAllInputs();
     }
@@ -61,6 +67,7 @@ public class AllInputPrinter {
     
     /**
      * Print GPIO states and all single-sided AINx against AINCOM.
+     * The analog inputs are converted in a single pipelined scan pass.
      * @throws InterruptedException
      * @since Dec 2, 2024
      */
@@ -72,18 +79,30 @@ public class AllInputPrinter {
 	System.out.println();
 	
 	final DecimalFormat format = new DecimalFormat("0.000");
-	for(int ainPinIdx = 0; ainPinIdx < ads.getNumAnalogPins(); ainPinIdx++) {
+	switch(getPrintingUnits()) {
+	case TWOS_COMPLEMENT:
+	    ads.scan(scanList, countsFrame);
+	    break;
+	case NORMALIZED:
+	    ads.scanNormalized(scanList, valueFrame);
+	    break;
+	case VOLTS:
+	    ads.scanVolts(scanList, valueFrame);
+	    break;
+	default:
+	}//end switch block getPrintingUnits()
+	for(int ainPinIdx = 0; ainPinIdx < scanList.size(); ainPinIdx++) {
 	    String voltageString = "N/A";
 	    
 		switch(getPrintingUnits()) {
 		case TWOS_COMPLEMENT:
-		    voltageString = ads.readAnalogOneSided(ainPinIdx)+"";
+		    voltageString = countsFrame[ainPinIdx]+"";
 		    break;
 		case NORMALIZED:
-		    voltageString = format.format(ads.readAnalogOneSidedNormalized(ainPinIdx));
+		    voltageString = format.format(valueFrame[ainPinIdx]);
 		    break;
 		case VOLTS:
-		    voltageString = format.format(ads.readAnalogOneSidedVolts(ainPinIdx))+"V";
+		    voltageString = format.format(valueFrame[ainPinIdx])+"V";
 		    break;
 		default:
 		}//end switch block getPrintingUnits()
@@ -0,0 +1,353 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  AsyncADS125x.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous facade over an ADS125x. A single acquisition thread owns the chip and serves requests in the
+ * order submitted, so any number of callers may read concurrently without each parking a thread of its own
+ * while the conversion completes. Results are delivered through CompletableFutures, and continuous reads
+ * through a Flow.Publisher of ADS125xSampleBatch.<br>
+ * Futures are completed on the acquisition thread, as are any dependent stages attached without an executor;
+ * use the ...Async variants of CompletableFuture's methods for anything slow, as the chip is idle meanwhile.<br>
+ * The wrapped ADS125x must not be used directly until this object is closed.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class AsyncADS125x implements AutoCloseable {
+    private final ADS125x ads;
+    private final LinkedBlockingQueue<Request<?>> requests = new LinkedBlockingQueue<>();
+    private final Thread acquisitionThread;
+    private final List<SamplePublisher> publishers = new ArrayList<>();
+    private boolean closed = false;
+    private static final Request<?> SHUTDOWN = new Request<>(ads->null);
+
+    /**
+     * An operation performed on the acquisition thread with exclusive use of the ADS125x.
+     * @since Oct 18, 2026
+     */
+    @FunctionalInterface
+    public interface Operation<T> {
+	T apply(ADS125x ads) throws InterruptedException;
+    }
+
+    public AsyncADS125x(ADS125x ads) {
+	super();
+	if(ads == null)
+	    throw new NullPointerException("ads must not be null.");
+	this.ads = ads;
+	acquisitionThread = new Thread(this::serveRequests, "AsyncADS125x");
+	acquisitionThread.setDaemon(true);
+	acquisitionThread.setPriority(Thread.MAX_PRIORITY);
+	acquisitionThread.start();
+    }//end constructor
+
+    /**
+     * Queue an arbitrary operation, such as a configuration change, behind those already submitted.
+     * @param operation
+     * @return Completes with the operation's result, or exceptionally with whatever it threw.
+     * If cancelled before the operation starts, the operation is skipped.
+     * @throws IllegalStateException if this object has been closed
+     * @since Oct 18, 2026
+     */
+    public <T> CompletableFuture<T> submit(Operation<T> operation) {
+	if(operation == null)
+	    throw new NullPointerException("operation must not be null.");
+	final Request<T> request = new Request<>(operation);
+	enqueue(request);
+	return request.future;
+    }
+
+    /**
+     * See ADS125x.readAnalogDifferential(int, int)
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @return Completes with the non-normalized reading
+     * @since Oct 18, 2026
+     */
+    public CompletableFuture<Integer> readAsync(int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	return submit(ads->ads.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber));
+    }
+
+    /**
+     * See ADS125x.readAnalogDifferentialVolts(int, int)
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @return Completes with the reading in volts
+     * @since Oct 18, 2026
+     */
+    public CompletableFuture<Double> readVoltsAsync(int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	return submit(ads->ads.readAnalogDifferentialVolts(analogPositiveInputNumber, analogNegativeInputNumber));
+    }
+
+    /**
+     * See ADS125x.scan(ADS125xScanList)
+     * @param scanList
+     * @return Completes with one non-normalized reading per scan list entry
+     * @since Oct 18, 2026
+     */
+    public CompletableFuture<int[]> scanAsync(ADS125xScanList scanList) {
+	return submit(ads->ads.scan(scanList));
+    }
+
+    /**
+     * Create a publisher of continuous conversions of the specified input pair, read with ADS125x.readContinuous(...).
+     * Streaming starts when the first subscriber subscribes and ends once no subscribers remain, stop() is called,
+     * or this object is closed, after which the publisher completes.<br>
+     * Other requests are served between batches: the stream stops at the end of a batch while any are queued and
+     * resumes behind them, so a read may wait up to one batch period, and the stream has a gap for each.
+     * Batches are offered without blocking, so a subscriber which falls more than Flow.defaultBufferSize() batches
+     * behind loses the newest batches rather than stalling acquisition; see SamplePublisher.getDroppedBatchCount().
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @param batchSize Number of conversions per published batch
+     * @return A new publisher
+     * @since Oct 18, 2026
+     */
+    public SamplePublisher publishContinuous(int analogPositiveInputNumber, int analogNegativeInputNumber, int batchSize) {
+	if(batchSize < 1)
+	    throw new IllegalArgumentException("Batch size must be at least 1. Got "+batchSize);
+	final SamplePublisher result = new SamplePublisher(analogPositiveInputNumber, analogNegativeInputNumber, batchSize);
+	synchronized(this) {
+	    if(closed)
+		throw new IllegalStateException("This AsyncADS125x has been closed.");
+	    publishers.add(result);
+	}
+	return result;
+    }//end publishContinuous(...)
+
+    /**
+     * Cancel all queued requests, end any stream, and wait for the request in progress to complete.
+     * Every publisher completes, including one whose stream was waiting behind other requests.
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void close() {
+	final List<Request<?>> cancelled = new ArrayList<>();
+	synchronized(this) {
+	    if(closed)
+		return;
+	    closed = true;
+	    requests.drainTo(cancelled);
+	    requests.add(SHUTDOWN);
+	    for(SamplePublisher publisher : publishers)
+		publisher.stop();
+	    publishers.clear();
+	}
+	for(Request<?> request : cancelled) {
+	    request.future.completeExceptionally(new CancellationException("AsyncADS125x closed before the request was served."));
+	    //A stream which had yielded to other requests will not run again to complete its subscribers
+	    if(request.stream != null)
+		request.stream.publisher.close();
+	}
+	try {acquisitionThread.join();}
+	catch(InterruptedException e) {Thread.currentThread().interrupt();}
+    }//end close()
+
+    public synchronized boolean isClosed() {
+	return closed;
+    }
+
+    /**
+     *
+     * @return Number of requests waiting behind the one in progress.
+     * @since Oct 18, 2026
+     */
+    public int getQueuedRequestCount() {
+	return requests.size();
+    }
+
+    public ADS125x getDelegate() {
+	return ads;
+    }
+
+    private synchronized void enqueue(Request<?> request) {
+	if(closed)
+	    throw new IllegalStateException("This AsyncADS125x has been closed.");
+	requests.add(request);
+    }
+
+    private void serveRequests() {
+	try {
+	    while(true) {
+		final Request<?> request = requests.take();
+		if(request == SHUTDOWN)
+		    return;
+		request.serve(ads);
+	    }
+	} catch(InterruptedException e) {}
+    }//end serveRequests()
+
+    private static final class Request<T> {
+	private final Operation<T> operation;
+	private final CompletableFuture<T> future = new CompletableFuture<>();
+	private final SamplePublisher stream;//Publisher this request resumes, or null
+
+	Request(Operation<T> operation) {
+	    this(operation, null);
+	}
+
+	Request(Operation<T> operation, SamplePublisher stream) {
+	    this.operation = operation;
+	    this.stream = stream;
+	}
+
+	void serve(ADS125x ads) {
+	    if(future.isDone())
+		return;//Cancelled while queued
+	    try {future.complete(operation.apply(ads));}
+	    catch(Throwable e) {future.completeExceptionally(e);}
+	}
+    }//end Request
+
+    /**
+     * Publishes batches of continuous conversions of one input pair. See publishContinuous(...)
+     * @since Oct 18, 2026
+     */
+    public final class SamplePublisher implements Flow.Publisher<ADS125xSampleBatch> {
+	private final int analogPositiveInputNumber, analogNegativeInputNumber, batchSize;
+	private final SubmissionPublisher<ADS125xSampleBatch> publisher = new SubmissionPublisher<>();
+	private final AtomicBoolean started = new AtomicBoolean();
+	private final AtomicLong droppedBatches = new AtomicLong();
+	private volatile boolean stopRequested = false;
+	//Acquisition thread only
+	private long nextSampleNumber = 0;
+	private long [] timestamps;
+	private int [] values;
+	private int fill = 0, tag = 0;
+
+	private SamplePublisher(int analogPositiveInputNumber, int analogNegativeInputNumber, int batchSize) {
+	    this.analogPositiveInputNumber = analogPositiveInputNumber;
+	    this.analogNegativeInputNumber = analogNegativeInputNumber;
+	    this.batchSize = batchSize;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ADS125xSampleBatch> subscriber) {
+	    publisher.subscribe(subscriber);
+	    if(started.compareAndSet(false, true)) {
+		try {enqueue(new Request<>(this::stream, this));}
+		catch(IllegalStateException e) {publisher.close();}
+	    }
+	}//end subscribe(...)
+
+	/**
+	 * End the stream after the next conversion, publishing any partial batch, then complete.
+	 * @since Oct 18, 2026
+	 */
+	public void stop() {
+	    stopRequested = true;
+	    if(!started.getAndSet(true))
+		publisher.close();//Never subscribed
+	}
+
+	/**
+	 *
+	 * @return Number of batches which could not be delivered because a subscriber's buffer was full.
+	 * @since Oct 18, 2026
+	 */
+	public long getDroppedBatchCount() {
+	    return droppedBatches.get();
+	}
+
+	public int getBatchSize() {
+	    return batchSize;
+	}
+
+	/**
+	 * Stream until told to stop or until other requests are queued, in which case this resumes behind them.
+	 */
+	private Void stream(ADS125x ads) throws InterruptedException {
+	    if(stopRequested || publisher.getNumberOfSubscribers() == 0) {
+		publisher.close();
+		return null;
+	    }
+	    try {
+		ads.readContinuous(analogPositiveInputNumber, analogNegativeInputNumber, (value)->{
+		    if(fill == 0) {
+			timestamps = new long[batchSize];
+			values = new int[batchSize];
+		    }
+		    timestamps[fill] = ads.getLastConversionNanos();
+		    values[fill] = value;
+		    tag = ads.getLastConversionTag();
+		    if(stopRequested)
+			ads.stopContinuousRead();
+		    if(++fill == batchSize) {
+			publishBatch();
+			if(!requests.isEmpty() || publisher.getNumberOfSubscribers() == 0)
+			    ads.stopContinuousRead();
+		    }
+		});
+	    } catch(InterruptedException | RuntimeException e) {
+		publishBatch();
+		publisher.closeExceptionally(e);
+		throw e;
+	    }
+	    publishBatch();
+	    if(stopRequested || publisher.getNumberOfSubscribers() == 0)
+		publisher.close();
+	    else {
+		try {enqueue(new Request<>(this::stream, this));}
+		catch(IllegalStateException e) {publisher.close();}//Closed while streaming
+	    }
+	    return null;
+	}//end stream(...)
+
+	private void publishBatch() {
+	    if(fill == 0)
+		return;
+	    final ADS125xSampleBatch batch = new ADS125xSampleBatch(nextSampleNumber, tag, timestamps, values, fill);
+	    nextSampleNumber += fill;
+	    fill = 0;
+	    publisher.offer(batch, (subscriber, dropped)->{
+		droppedBatches.incrementAndGet();
+		return false;
+	    });
+	}//end publishBatch()
+    }//end SamplePublisher
+}//end AsyncADS125x
@@ -81,9 +81,7 @@ public class GPIOChaser {
      * @since Dec 15, 2024
      */
     public void updateStateToADS() {
-	for(int i = 0; i < ads.getNumGpioPins(); i++){
-	    ads.setGpio(i, (iterationIdx == i));
-	}
+	ads.setGpios((1 << ads.getNumGpioPins()) - 1, 1 << iterationIdx);
     }//end updateStateToADS()
 
     /**
@@ -0,0 +1,744 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ReplayADS125x.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * ADS125x which serves samples from a recording instead of a chip, so that processing downstream of an ADS125x can
+ * be run and load-tested without SPI hardware. Recordings are the binary files written by ADS125xRecorder, which are
+ * mapped read-only rather than loaded, or CSV files; see ofRecording(...) and ofCsv(...).<br>
+ * Each input pair is replayed in recorded order, independently of the others: a read of a pair returns that pair's
+ * next recorded sample, so reading the pairs in the order they were recorded reproduces the recording. Every sample
+ * is delivered, however slowly it is consumed; readings are never dropped as a chip would drop unread conversions.<br>
+ * Samples are released on the recording's own timing, scaled by setSpeed(...): a read waits until its sample is due,
+ * as a read of a chip waits for DRDY. The replay clock starts with the first read. getLastConversionNanos() reports
+ * when the sample was due on this clock and getLastRecordedNanos() its original timestamp.<br>
+ * Recorded values are replayed unchanged: configADC(...), calibration and GPIO calls are accepted and remembered but
+ * do not alter them. Normalized and volt readings are scaled by the gain each sample was recorded at.
+ * Replay cursors are unsynchronized, so instances are not safe for concurrent use, except for
+ * stopContinuousRead().
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class ReplayADS125x implements ADS125x {
+    private static final int AINCOM = MuxValue.AINCOM.channelNumber();
+    private static final int NUM_MUX_VALUES = 256;
+    private static final long SPIN_NANOS = 100_000;
+    private static final int RECORD_LENGTH = ADS125xRecorder.RECORD_LENGTH;
+
+    private final ByteBuffer [] segments;//Records of each file, little-endian
+    private final int [][] segmentTags;//Channel table of each file
+    private final int [] segmentCounts;
+    private final boolean [] recordedMux = new boolean[NUM_MUX_VALUES];
+    private final long originNanos, loopSpanNanos;
+    private final int [] cursorSegment = new int[NUM_MUX_VALUES], cursorRecord = new int[NUM_MUX_VALUES], cursorLoops = new int[NUM_MUX_VALUES];
+    private double speed = 1;
+    private boolean looping = false;
+    private boolean clockStarted = false;
+    private long clockStartNanos, clockStartOffsetNanos;
+    private double vRefVolts;
+    private Gain gain;
+    private DataRate dataRate;
+    private boolean autoCalibrate = false;
+    private int offsetCalibration = 0, fullScaleCalibration = 0x400000;
+    private byte gpioRaw = (byte)0xE0;
+    private long lastConversionNanos = 0, lastRecordedNanos = 0, lastOffsetNanos = 0;
+    private int lastConversionTag = 0;
+    private volatile boolean readingContinuous = false;
+    private volatile boolean stopContinuousRequested = false;
+
+    private ReplayADS125x(List<ByteBuffer> segments, List<int[]> segmentTags, List<Integer> segmentCounts, Gain gain, DataRate dataRate, double vRefVolts) {
+	super();
+	this.segments = segments.toArray(new ByteBuffer[segments.size()]);
+	this.segmentTags = segmentTags.toArray(new int[segmentTags.size()][]);
+	this.segmentCounts = new int[segmentCounts.size()];
+	long first = 0, last = 0;
+	boolean empty = true;
+	for(int s = 0; s < this.segments.length; s++) {
+	    this.segmentCounts[s] = segmentCounts.get(s);
+	    if(this.segmentCounts[s] == 0)
+		continue;
+	    if(empty)
+		first = this.segments[s].getLong(0);
+	    last = this.segments[s].getLong((this.segmentCounts[s] - 1) * RECORD_LENGTH);
+	    empty = false;
+	    for(int r = 0; r < this.segmentCounts[s]; r++)
+		recordedMux[tagAt(s, r) & 0xFF] = true;
+	}
+	if(empty)
+	    throw new IllegalArgumentException("The recording holds no samples.");
+	this.originNanos = first;
+	this.loopSpanNanos = last - first + (long)(1E9 / dataRate.getDataRateSPS());
+	this.gain = gain;
+	this.dataRate = dataRate;
+	this.vRefVolts = vRefVolts;
+    }//end constructor
+
+    /**
+     * Replay the files of a recording by ADS125xRecorder, in order. The first file's header supplies the gain, data
+     * rate and reference voltage. Each file must be under 2GiB, which -rollmb or ADS125xRecorder's maxFileBytes ensures.
+     * @param files
+     * @return A new ReplayADS125x
+     * @throws IOException If a file could not be read, is not a recording, or holds a record of a channel missing from
+     * its channel table
+     * @since Oct 18, 2026
+     */
+    public static ReplayADS125x ofRecording(Path ... files) throws IOException {
+	if(files.length == 0)
+	    throw new IllegalArgumentException("At least one file is required.");
+	final List<ByteBuffer> segments = new ArrayList<>();
+	final List<int[]> tags = new ArrayList<>();
+	final List<Integer> counts = new ArrayList<>();
+	Gain gain = Gain.GAIN_1;
+	DataRate dataRate = DataRate.SPS_30000;
+	double vRefVolts = 2.5;
+	for(int f = 0; f < files.length; f++) {
+	    final ByteBuffer file;
+	    try(FileChannel channel = FileChannel.open(files[f], StandardOpenOption.READ)) {
+		if(channel.size() > Integer.MAX_VALUE)
+		    throw new IOException(files[f]+" is over 2GiB. Record with a smaller maximum file size.");
+		file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+	    }
+	    final byte [] magic = new byte[ADS125xRecorder.MAGIC.length];
+	    if(file.remaining() < ADS125xRecorder.CHANNEL_TABLE_OFFSET)
+		throw new IOException(files[f]+" is too short to be an ADS125x recording.");
+	    file.get(magic);
+	    final short version = file.getShort();
+	    final short recordLength = file.getShort();
+	    final int headerLength = file.getInt();
+	    if(!Arrays.equals(magic, ADS125xRecorder.MAGIC))
+		throw new IOException(files[f]+" is not an ADS125x recording.");
+	    if(version != ADS125xRecorder.FORMAT_VERSION || recordLength != RECORD_LENGTH || headerLength > file.capacity())
+		throw new IOException(files[f]+" is of an unsupported format version "+version+", record length "+recordLength+
+			" or header length "+headerLength);
+	    final int channelCount = file.getInt(ADS125xRecorder.CHANNEL_COUNT_OFFSET);
+	    if(channelCount < 0 || channelCount > ADS125xRecorder.MAX_CHANNELS || ADS125xRecorder.CHANNEL_TABLE_OFFSET + 4 * channelCount > headerLength)
+		throw new IOException(files[f]+" has an invalid channel count "+channelCount);
+	    final int [] channelTags = new int[channelCount];
+	    for(int c = 0; c < channelCount; c++)
+		channelTags[c] = file.getInt(ADS125xRecorder.CHANNEL_TABLE_OFFSET + 4 * c);
+	    final long recordCount = file.getLong(ADS125xRecorder.RECORD_COUNT_OFFSET);
+	    //A file which was not closed holds as many whole records as its length allows
+	    final int available = (file.capacity() - headerLength) / RECORD_LENGTH;
+	    final int count = recordCount < 0 ? available : (int)Math.min(recordCount, available);
+	    //Checked here so that a truncated or corrupt file cannot fail later in tagAt(...)
+	    for(int r = 0; r < count; r++) {
+		final int channelIndex = file.getInt(headerLength + r * RECORD_LENGTH + 8) & 0xFF;
+		if(channelIndex >= channelCount)
+		    throw new IOException(files[f]+" record "+r+" refers to channel "+channelIndex+" of a table of "+channelCount);
+	    }
+	    if(f == 0) {
+		dataRate = Objects.requireNonNullElse(DataRate.ofRegisterValue((byte)file.getInt(ADS125xRecorder.DRATE_OFFSET)), dataRate);
+		vRefVolts = file.getDouble(ADS125xRecorder.VREF_OFFSET);
+		gain = gainOf(file.getInt(ADS125xRecorder.GAIN_OFFSET));
+	    }
+	    file.position(headerLength).limit(headerLength + count * RECORD_LENGTH);
+	    segments.add(file.slice().order(ByteOrder.LITTLE_ENDIAN));
+	    tags.add(channelTags);
+	    counts.add(count);
+	}//end for(files)
+	return new ReplayADS125x(segments, tags, counts, gain, dataRate, vRefVolts);
+    }//end ofRecording(...)
+
+    /**
+     * Replay every file of a recording by ADS125xRecorder, as named PREFIX-NNNNN.ads in the directory, in number order.
+     * @param directory
+     * @param prefix
+     * @return A new ReplayADS125x
+     * @throws IOException If no such files exist or one could not be read
+     * @since Oct 18, 2026
+     */
+    public static ReplayADS125x ofRecording(Path directory, String prefix) throws IOException {
+	final Path [] files;
+	try(Stream<Path> listing = Files.list(directory)) {
+	    files = listing.filter((p)->{
+		final String name = p.getFileName().toString();
+		return name.startsWith(prefix + "-") && name.endsWith(ADS125xRecorder.FILE_SUFFIX) &&
+			name.length() == prefix.length() + 6 + ADS125xRecorder.FILE_SUFFIX.length();
+	    }).sorted().toArray(Path[]::new);
+	}
+	if(files.length == 0)
+	    throw new IOException("No files "+prefix+"-NNNNN"+ADS125xRecorder.FILE_SUFFIX+" found in "+directory);
+	return ofRecording(files);
+    }//end ofRecording(...)
+
+    /**
+     * Replay a CSV file of lines of the form timestamp,positive,negative,value. The timestamp is in nanoseconds, or in
+     * seconds if written with a decimal point. Inputs are MuxValue names such as AIN0 or AINCOM, or their numbers.
+     * Values are sign-extended conversion values. Blank lines and lines starting with # are skipped, as is the first
+     * remaining line if it does not parse, taking it to be a heading.
+     * @param file
+     * @param gain Gain at which the values were converted
+     * @param dataRate Data rate at which the values were converted
+     * @param vRefVolts
+     * @return A new ReplayADS125x
+     * @throws IOException If the file could not be read or a line could not be parsed
+     * @since Oct 18, 2026
+     */
+    public static ReplayADS125x ofCsv(Path file, Gain gain, DataRate dataRate, double vRefVolts) throws IOException {
+	Objects.requireNonNull(gain, "gain");
+	Objects.requireNonNull(dataRate, "dataRate");
+	ByteBuffer records = ByteBuffer.allocate(RECORD_LENGTH * 4096).order(ByteOrder.LITTLE_ENDIAN);
+	final short [] channelOfTag = new short[Gain.values().length << 8];
+	int [] channelTags = new int[0];
+	int count = 0, lineNumber = 0;
+	boolean firstDataLine = true;//The first line which is neither blank nor a comment may be a heading
+	try(BufferedReader reader = Files.newBufferedReader(file)) {
+	    String line;
+	    while((line = reader.readLine()) != null) {
+		lineNumber++;
+		line = line.strip();
+		if(line.isEmpty() || line.startsWith("#"))
+		    continue;
+		final boolean mayBeHeading = firstDataLine;
+		firstDataLine = false;
+		final String [] fields = line.split("\\s*,\\s*");
+		final long timestampNanos;
+		final int tag, value;
+		try {
+		    if(fields.length != 4)
+			throw new NumberFormatException("Expected 4 fields. Got "+fields.length);
+		    timestampNanos = fields[0].contains(".") ? Math.round(Double.parseDouble(fields[0]) * 1E9) : Long.parseLong(fields[0]);
+		    tag = ADS125xSampleTag.of(inputOf(fields[1]), inputOf(fields[2]), gain);
+		    value = Integer.parseInt(fields[3]);
+		} catch(IllegalArgumentException e) {
+		    if(mayBeHeading)
+			continue;//Heading
+		    throw new IOException(file+" line "+lineNumber+": "+e.getMessage(), e);
+		}
+		if(channelOfTag[tag] == 0) {
+		    if(channelTags.length == ADS125xRecorder.MAX_CHANNELS)
+			throw new IOException(file+" holds more than "+ADS125xRecorder.MAX_CHANNELS+" input pairs.");
+		    channelTags = Arrays.copyOf(channelTags, channelTags.length + 1);
+		    channelTags[channelTags.length - 1] = tag;
+		    channelOfTag[tag] = (short)channelTags.length;
+		}
+		if(!records.hasRemaining())
+		    records = ByteBuffer.allocate(records.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN).put(records.flip());
+		records.putLong(timestampNanos);
+		records.putInt((Math.max(-0x800000, Math.min(0x7FFFFF, value)) << 8) | (channelOfTag[tag] - 1));
+		count++;
+	    }//end while(lines)
+	}
+	return new ReplayADS125x(List.of(records), List.<int[]>of(channelTags), List.of(count), gain, dataRate, vRefVolts);
+    }//end ofCsv(...)
+
+    private static int inputOf(String field) {
+	if(!field.isEmpty() && Character.isDigit(field.charAt(0))) {
+	    final int input = Integer.parseInt(field);
+	    if(input < 0 || input > AINCOM)
+		throw new IllegalArgumentException("Input number out of range of [0,"+AINCOM+"]. Got "+input);
+	    return input;
+	}
+	return MuxValue.valueOf(field.toUpperCase()).channelNumber();
+    }
+
+    private static Gain gainOf(int gainScalar) {
+	for(Gain g : Gain.values())
+	    if(g.getGainScalar() == gainScalar)
+		return g;
+	return Gain.GAIN_1;
+    }
+
+    private int tagAt(int segment, int record) {
+	return segmentTags[segment][segments[segment].getInt(record * RECORD_LENGTH + 8) & 0xFF];
+    }
+
+    ////// Replay //////
+
+    /**
+     * Advance the pair's cursor to its next sample and wait until it is due.
+     * @param mux MUX register value of the pair
+     * @return The sample value
+     * @throws IllegalArgumentException If the recording holds no samples of the pair
+     * @throws IllegalStateException If the pair's samples are exhausted and looping is off
+     */
+    private int readMux(int mux) throws InterruptedException {
+	final int value = nextSample(mux);
+	if(value == Integer.MIN_VALUE)
+	    throw new IllegalStateException("End of recording reached for "+muxString(mux)+". See setLooping(...)");
+	return value;
+    }
+
+    /**
+     * @return The sample value, or Integer.MIN_VALUE if the pair's samples are exhausted, which no 24-bit value can be.
+     */
+    private int nextSample(int mux) throws InterruptedException {
+	if(!recordedMux[mux])
+	    throw new IllegalArgumentException("The recording holds no samples of "+muxString(mux));
+	int segment = cursorSegment[mux], record = cursorRecord[mux];
+	while(true) {
+	    if(segment == segments.length) {
+		if(!looping)
+		    return Integer.MIN_VALUE;
+		segment = record = 0;
+		cursorLoops[mux]++;
+	    }
+	    final ByteBuffer records = segments[segment];
+	    final int [] tags = segmentTags[segment];
+	    for(final int count = segmentCounts[segment]; record < count; record++) {
+		final int packed = records.getInt(record * RECORD_LENGTH + 8);
+		final int tag = tags[packed & 0xFF];
+		if((tag & 0xFF) != mux)
+		    continue;
+		cursorSegment[mux] = segment;
+		cursorRecord[mux] = record + 1;
+		lastRecordedNanos = records.getLong(record * RECORD_LENGTH);
+		lastConversionTag = tag;
+		lastOffsetNanos = lastRecordedNanos - originNanos + cursorLoops[mux] * loopSpanNanos;
+		awaitDue(lastOffsetNanos);
+		return packed >> 8;
+	    }
+	    segment++;
+	    record = 0;
+	}
+    }//end nextSample(...)
+
+    private void awaitDue(long offsetNanos) throws InterruptedException {
+	final long now = System.nanoTime();
+	if(!clockStarted) {
+	    clockStarted = true;
+	    clockStartNanos = now;
+	    clockStartOffsetNanos = offsetNanos;
+	}
+	if(speed == Double.POSITIVE_INFINITY) {
+	    lastConversionNanos = now;
+	    return;
+	}
+	final long due = clockStartNanos + (long)((offsetNanos - clockStartOffsetNanos) / speed);
+	long remaining;
+	while((remaining = due - System.nanoTime()) > 0) {
+	    if(Thread.interrupted())
+		throw new InterruptedException("Interrupted while awaiting a replayed sample.");
+	    if(remaining > SPIN_NANOS)
+		LockSupport.parkNanos(remaining - SPIN_NANOS);
+	    else
+		Thread.onSpinWait();
+	}
+	lastConversionNanos = due;
+    }//end awaitDue(...)
+
+    private static String muxString(int mux) {
+	return ADS125xSampleTag.getPositive(mux)+"/"+ADS125xSampleTag.getNegative(mux);
+    }
+
+    private static int muxOf(int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	return ((analogPositiveInputNumber & 0xF) << 4) | (analogNegativeInputNumber & 0xF);
+    }
+
+    /**
+     * Rewind every pair to the start of the recording and restart the replay clock at the next read.
+     * @since Oct 18, 2026
+     */
+    public void restart() {
+	ensureNotReadingContinuous();
+	Arrays.fill(cursorSegment, 0);
+	Arrays.fill(cursorRecord, 0);
+	Arrays.fill(cursorLoops, 0);
+	clockStarted = false;
+    }
+
+    /**
+     * Set the replay speed relative to the recording, e.g. 1 for the recorded timing, 100 for a hundred times faster,
+     * or Double.POSITIVE_INFINITY to release every sample at once. Takes effect from the next read, continuing
+     * from the current position.
+     * @param speed
+     * @since Oct 18, 2026
+     */
+    public void setSpeed(double speed) {
+	if(!(speed > 0))
+	    throw new IllegalArgumentException("Speed must be positive. Got "+speed);
+	this.speed = speed;
+	if(clockStarted) {
+	    clockStartNanos = System.nanoTime();
+	    clockStartOffsetNanos = lastOffsetNanos;
+	}
+    }//end setSpeed(...)
+
+    public double getSpeed() {
+	return speed;
+    }
+
+    /**
+     * Specify whether a pair whose samples are exhausted starts again from the beginning of the recording,
+     * continuing the replay clock, or ends: reads then throw IllegalStateException and readContinuous(...) returns.
+     * Off by default.
+     * @param looping
+     * @since Oct 18, 2026
+     */
+    public void setLooping(boolean looping) {
+	this.looping = looping;
+    }
+
+    public boolean isLooping() {
+	return looping;
+    }
+
+    /**
+     * Query whether the recording holds samples of the specified pair.
+     * @param analogPositiveInputNumber The AINx pin number for the positive input, 8 for AINCOM.
+     * @param analogNegativeInputNumber The AINx pin number for the negative input, 8 for AINCOM.
+     * @return true if the pair can be read
+     * @since Oct 18, 2026
+     */
+    public boolean hasSamplesOf(int analogPositiveInputNumber, int analogNegativeInputNumber) {
+	return recordedMux[muxOf(analogPositiveInputNumber, analogNegativeInputNumber)];
+    }
+
+    /**
+     * Original timestamp of the sample most recently read, as recorded.
+     * @return System.nanoTime() based timestamp from the recording, or 0 if no sample has been read
+     * @since Oct 18, 2026
+     */
+    public long getLastRecordedNanos() {
+	return lastRecordedNanos;
+    }
+
+    ////// ADS125x //////
+
+    @Override
+    public Integer validateChipID() throws InterruptedException {
+	return null;
+    }
+
+    @Override
+    public int readChipID() throws InterruptedException {
+	return CHIP_ID;
+    }
+
+    @Override
+    public double getVRefVolts() {
+	return vRefVolts;
+    }
+
+    @Override
+    public void setVRefVolts(double vRefVolts) {
+	this.vRefVolts = vRefVolts;
+    }
+
+    @Override
+    public float getDigitalFilterSettlingTimeMillis() {
+	return dataRate.getSettlingTimeMS();
+    }
+
+    @Override
+    public void configADC(Gain gain, DataRate drate, boolean autoCalibrate, boolean useBuffer) throws InterruptedException {
+	ensureNotReadingContinuous();
+	this.gain = Objects.requireNonNull(gain, "gain");
+	this.dataRate = Objects.requireNonNull(drate, "drate");
+	this.autoCalibrate = autoCalibrate;
+    }
+
+    @Override
+    public int readAnalogOneSided(int analogInputNumber) throws InterruptedException {
+	checkAnalogInput(analogInputNumber);
+	return readAnalogDifferential(analogInputNumber, AINCOM);
+    }
+
+    @Override
+    public double readAnalogOneSidedNormalized(int analogInputNumber) throws InterruptedException {
+	checkAnalogInput(analogInputNumber);
+	return readAnalogDifferentialNormalized(analogInputNumber, AINCOM);
+    }
+
+    @Override
+    public double readAnalogOneSidedVolts(int analogInputNumber) throws InterruptedException {
+	checkAnalogInput(analogInputNumber);
+	return readAnalogDifferentialVolts(analogInputNumber, AINCOM);
+    }
+
+    @Override
+    public int readAnalogDifferential(int analogPositiveInputNumber, int analogNegativeInputNumber) throws InterruptedException {
+	ensureNotReadingContinuous();
+	return readMux(muxOf(analogPositiveInputNumber, analogNegativeInputNumber));
+    }
+
+    @Override
+    public double readAnalogDifferentialNormalized(int analogPositiveInputNumber, int analogNegativeInputNumber) throws InterruptedException {
+	final int value = readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber);
+	return value / fullScaleCounts(lastConversionTag);
+    }
+
+    @Override
+    public double readAnalogDifferentialVolts(int analogPositiveInputNumber, int negativeInputNumber) throws InterruptedException {
+	return (2*getVRefVolts()) * readAnalogDifferentialNormalized(analogPositiveInputNumber, negativeInputNumber);
+    }
+
+    @Override
+    public void readAnalogOneSided(int[] analogInputNumbers, int[] out) throws InterruptedException {
+	if(out.length < analogInputNumbers.length)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+analogInputNumbers.length);
+	for(int i = 0; i < analogInputNumbers.length; i++)
+	    out[i] = readAnalogOneSided(analogInputNumbers[i]);
+    }
+
+    @Override
+    public void readAnalogOneSidedVolts(int[] analogInputNumbers, double[] out) throws InterruptedException {
+	if(out.length < analogInputNumbers.length)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+analogInputNumbers.length);
+	for(int i = 0; i < analogInputNumbers.length; i++)
+	    out[i] = readAnalogOneSidedVolts(analogInputNumbers[i]);
+    }
+
+    @Override
+    public void readAnalogDifferential(int analogPositiveInputNumber, int analogNegativeInputNumber, int[] out, int offset, int count) throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	for(int i = offset; i < offset + count; i++)
+	    out[i] = readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber);
+    }
+
+    @Override
+    public void readAnalogDifferentialVolts(int analogPositiveInputNumber, int analogNegativeInputNumber, double[] out, int offset, int count) throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	for(int i = offset; i < offset + count; i++)
+	    out[i] = readAnalogDifferentialVolts(analogPositiveInputNumber, analogNegativeInputNumber);
+    }
+
+    @Override
+    public int[] scan(ADS125xScanList scanList) throws InterruptedException {
+	final int [] frame = new int[scanList.size()];
+	scan(scanList, frame);
+	return frame;
+    }
+
+    @Override
+    public void scan(ADS125xScanList scanList, int[] frame) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	ensureNotReadingContinuous();
+	for(int i = 0; i < size; i++)
+	    frame[i] = readMux(scanList.getMuxRegisterValue(i) & 0xFF);
+    }
+
+    @Override
+    public void scanNormalized(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	ensureNotReadingContinuous();
+	for(int i = 0; i < size; i++)
+	    frame[i] = readMux(scanList.getMuxRegisterValue(i) & 0xFF) / fullScaleCounts(lastConversionTag);
+    }
+
+    @Override
+    public void scanVolts(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	scanNormalized(scanList, frame);
+	final double scale = 2*getVRefVolts();
+	for(int i = 0; i < scanList.size(); i++)
+	    frame[i] *= scale;
+    }
+
+    private static double fullScaleCounts(int tag) {
+	return ADS125xSampleTag.getGain(tag).getFullScaleCounts();
+    }
+
+    /**
+     * Deliver the pair's samples on the replay clock until stopContinuousRead() is called, the calling thread is
+     * interrupted, or, if not looping, the pair's samples are exhausted.
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void readContinuous(int analogPositiveInputNumber, int analogNegativeInputNumber, IntConsumer sampleConsumer) throws InterruptedException {
+	if(sampleConsumer == null)
+	    throw new NullPointerException("sampleConsumer must not be null.");
+	ensureNotReadingContinuous();
+	final int mux = muxOf(analogPositiveInputNumber, analogNegativeInputNumber);
+	stopContinuousRequested = false;
+	readingContinuous = true;
+	try {
+	    while(!stopContinuousRequested && !Thread.currentThread().isInterrupted()) {
+		final int value = nextSample(mux);
+		if(value == Integer.MIN_VALUE)
+		    break;
+		sampleConsumer.accept(value);
+	    }
+	} finally {readingContinuous = false;}
+	if(Thread.interrupted())
+	    throw new InterruptedException("Interrupted during readContinuous(...)");
+    }//end readContinuous(...)
+
+    @Override
+    public void stopContinuousRead() {
+	stopContinuousRequested = true;
+    }
+
+    @Override
+    public boolean isReadingContinuous() {
+	return readingContinuous;
+    }
+
+    @Override
+    public long getLastConversionNanos() {
+	return lastConversionNanos;
+    }
+
+    @Override
+    public int getLastConversionTag() {
+	return lastConversionTag;
+    }
+
+    private void ensureNotReadingContinuous() {
+	if(readingContinuous)
+	    throw new IllegalStateException("Operation not permitted while readContinuous(...) is streaming. Call stopContinuousRead() first.");
+    }
+
+    private void checkAnalogInput(int analogInputNumber) {
+	if(analogInputNumber < 0 || analogInputNumber >= getNumAnalogPins())
+	    throw new IllegalArgumentException("Analog input pin number out of range of [0,"+(getNumAnalogPins()-1)+"]. Got "+analogInputNumber);
+    }
+
+    ////// Remembered settings //////
+
+    @Override
+    public void setGpio(int pin, boolean newState) {
+	checkGpio(pin);
+	setGpios(1 << pin, newState ? 1 << pin : 0);
+    }
+
+    @Override
+    public void setGpios(int pinMask, int highPinMask) {
+	//Only pins configured for output are affected
+	final int outputs = pinMask & ~(gpioRaw >> 4) & 0x0F;
+	gpioRaw = (byte)((gpioRaw & ~outputs) | (highPinMask & outputs));
+    }
+
+    @Override
+    public void setGpioRaw(byte regVal) {
+	gpioRaw = regVal;
+    }
+
+    @Override
+    public byte getGpioRaw() {
+	return gpioRaw;
+    }
+
+    @Override
+    public boolean isGpioHigh(int gpioPinNumber) {
+	checkGpio(gpioPinNumber);
+	return ADS125x.isGpioHigh(gpioPinNumber, gpioRaw);
+    }
+
+    @Override
+    public void setGpioDirOut(int gpioPinNumber) {
+	checkGpio(gpioPinNumber);
+	gpioRaw &= ~(0x10 << gpioPinNumber);
+    }
+
+    @Override
+    public void setGpioDirIn(int gpioPinNumber) {
+	checkGpio(gpioPinNumber);
+	gpioRaw |= 0x10 << gpioPinNumber;
+    }
+
+    private void checkGpio(int gpioPinNumber) {
+	if(gpioPinNumber >= getNumGpioPins() || gpioPinNumber < 0)
+	    throw new IllegalArgumentException("GPIO pin number out of bounds. Must be in range [0,"+(getNumGpioPins()-1)+"]. Got "+gpioPinNumber);
+    }
+
+    @Override
+    public int getNumGpioPins() {
+	return 4;
+    }
+
+    @Override
+    public int getNumAnalogPins() {
+	return 8;
+    }
+
+    @Override
+    public boolean isAutoCalibrateEnabled() {
+	return autoCalibrate;
+    }
+
+    @Override
+    public Gain getGain() {
+	return gain;
+    }
+
+    @Override
+    public DataRate getDataRate() {
+	return dataRate;
+    }
+
+    /**
+     * Does nothing, as recorded values are already calibrated.
+     * @since Oct 18, 2026
+     */
+    @Override
+    public void calibrate(Calibration calibration) throws InterruptedException {
+	Objects.requireNonNull(calibration, "calibration");
+	ensureNotReadingContinuous();
+    }
+
+    @Override
+    public int readOffsetCalibration() throws InterruptedException {
+	return offsetCalibration;
+    }
+
+    @Override
+    public int readFullScaleCalibration() throws InterruptedException {
+	return fullScaleCalibration;
+    }
+
+    @Override
+    public void writeCalibration(int offset, int fullScale) {
+	if(offset < -0x800000 || offset > 0x7FFFFF)
+	    throw new IllegalArgumentException("Offset coefficient out of signed 24-bit range. Got "+offset);
+	if(fullScale < 0 || fullScale > 0xFFFFFF)
+	    throw new IllegalArgumentException("Full-scale coefficient out of unsigned 24-bit range. Got "+fullScale);
+	ensureNotReadingContinuous();
+	offsetCalibration = offset;
+	fullScaleCalibration = fullScale;
+    }
+}//end ReplayADS125x
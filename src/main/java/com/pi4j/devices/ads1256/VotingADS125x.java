@@ -37,27 +37,77 @@
 package com.pi4j.devices.ads1256;
 
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+import com.pi4j.devices.base_util.filter.SlidingWindowMedian;
 
 /**
  * Wraps an ADS125x object for measurement error mitigation by performing an odd number of analog or GPIO reads (3 unless specified)
  * For analog values, the median value is returned. For digital values, result is determined by majority vote.
+ * Vote buffers are allocated once and reused, so instances are not safe for concurrent use.<br>
+ * In Mode.SLIDING_WINDOW, each read instead performs a single conversion and returns the median of the most recent
+ * conversions of the same input pair and gain, so that outliers are rejected at the full conversion rate rather than
+ * at a fraction of it. The window length is the number of read iterations, and windows are emptied when the
+ * ADC is reconfigured or recalibrated.
  * @author Chuck Ritola
  *
  */
 public class VotingADS125x implements ADS125x {
     private final ADS125x delegate;
     private final int numIterations;
+    private final int [] intVotes;
+    private final double [] doubleVotes;
+    private final int [] gpioVotes = new int[8];
+    private final int [][] intPasses;
+    private final double [][] doublePasses;
+    private final Mode mode;
+    private final SlidingWindowMedian [] windows;//By sample tag; null unless SLIDING_WINDOW
+    private static final int AINCOM = MuxValue.AINCOM.channelNumber();
+    
+    /**
+     * The source of the values over which each median is taken.
+     * @since Oct 18, 2026
+     */
+    public enum Mode {
+	/**
+	 * Each read performs the configured number of conversions.
+	 */
+	REREAD,
+	/**
+	 * Each read performs one conversion, taking the median over the configured number of most recent conversions
+	 * of the same input pair and gain.
+	 */
+	SLIDING_WINDOW
+    }//end Mode
     
     public VotingADS125x(ADS125x delegate) {
 	this(delegate, 3);
     } 
     
     public VotingADS125x(ADS125x delegate, int readIterations) {
+	this(delegate, readIterations, Mode.REREAD);
+    }
+    
+    /**
+     *
+     * @param delegate
+     * @param readIterations Number of conversions per read, or window length if SLIDING_WINDOW. Must be odd.
+     * @param mode
+     * @since Oct 18, 2026
+     */
+    public VotingADS125x(ADS125x delegate, int readIterations, Mode mode) {
 	super();
 	if(readIterations % 2 != 1)
 	    throw new IllegalArgumentException("readIterations must be odd number. Got "+readIterations);
 	this.delegate = delegate;
 	this.numIterations = readIterations;
+	this.mode = mode;
+	this.windows = mode == Mode.SLIDING_WINDOW ? new SlidingWindowMedian[Gain.values().length << 8] : null;
+	this.intVotes = new int[readIterations];
+	this.doubleVotes = new double[readIterations];
+	this.intPasses = new int[readIterations][8];
+	this.doublePasses = new double[readIterations][8];
     }
 
     public Integer validateChipID() throws InterruptedException {
@@ -80,79 +130,344 @@ public class VotingADS125x implements ADS125x {
 	    boolean autoCalibrate, boolean useBuffer)
 	    throws InterruptedException {
 	delegate.configADC(gain, drate, autoCalibrate, useBuffer);
+	clearWindows();
+    }
+
+    public int readChipID() throws InterruptedException {
+	return delegate.readChipID();
     }
 
     public int readAnalogOneSided(int analogInputNumber)
 	    throws InterruptedException {
+	if(windows != null)
+	    return windowOf(analogInputNumber, AINCOM, delegate.getGain()).add(delegate.readAnalogOneSided(analogInputNumber));
 	final int numIterations = this.numIterations;
 	final ADS125x delegate = this.delegate;
-	int [] values = new int[numIterations];
+	final int [] values = this.intVotes;
 	for(int i = 0 ; i < numIterations; i++)
 	    values[i] = delegate.readAnalogOneSided(analogInputNumber);
-	Arrays.sort(values);
-	return values[numIterations/2];
+	return medianOf(values);
     }
 
     public double readAnalogOneSidedNormalized(int analogInputNumber)
 	    throws InterruptedException {
+	if(windows != null)
+	    return readAnalogOneSided(analogInputNumber) / fullScaleCounts(delegate.getGain());
 	final int numIterations = this.numIterations;
-	double [] values = new double[numIterations];
+	final double [] values = this.doubleVotes;
 	final ADS125x delegate = this.delegate;
 	for(int i = 0 ; i < numIterations; i++)
 	    values[i] = delegate.readAnalogOneSidedNormalized(analogInputNumber);
-	Arrays.sort(values);
-	return values[numIterations/2];
+	return medianOf(values);
     }
 
     public double readAnalogOneSidedVolts(int analogInputNumber)
 	    throws InterruptedException {
+	if(windows != null)
+	    return 2 * getVRefVolts() * readAnalogOneSided(analogInputNumber) / fullScaleCounts(delegate.getGain());
 	final int numIterations = this.numIterations;
-	double [] values = new double[numIterations];
+	final double [] values = this.doubleVotes;
 	final ADS125x delegate = this.delegate;
 	for(int i = 0 ; i < numIterations; i++)
 	    values[i] = delegate.readAnalogOneSidedVolts(analogInputNumber);
-	Arrays.sort(values);
-	return values[numIterations/2];
+	return medianOf(values);
     }
 
     public int readAnalogDifferential(int analogPositiveInputNumber,
 	    int analogNegativeInputNumber) throws InterruptedException {
+	if(windows != null) {
+	    final SlidingWindowMedian window = windowOf(analogPositiveInputNumber, analogNegativeInputNumber, delegate.getGain());
+	    return window.add(delegate.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber));
+	}
 	final int numIterations = this.numIterations;
 	final ADS125x delegate = this.delegate;
-	int [] values = new int[numIterations];
+	final int [] values = this.intVotes;
 	for(int i = 0 ; i < numIterations; i++)
 	    values[i] = delegate.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber);
-	Arrays.sort(values);
-	return values[numIterations/2];
+	return medianOf(values);
     }
 
     public double readAnalogDifferentialNormalized(
 	    int analogPositiveInputNumber, int analogNegativeInputNumber)
 	    throws InterruptedException {
+	if(windows != null)
+	    return readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber) / fullScaleCounts(delegate.getGain());
 	final int numIterations = this.numIterations;
 	final ADS125x delegate = this.delegate;
-	double [] values = new double[numIterations];
+	final double [] values = this.doubleVotes;
 	for(int i = 0 ; i < numIterations; i++)
-	    values[i] = delegate.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber);
-	Arrays.sort(values);
-	return values[numIterations/2];
+	    values[i] = delegate.readAnalogDifferentialNormalized(analogPositiveInputNumber, analogNegativeInputNumber);
+	return medianOf(values);
     }
 
     public double readAnalogDifferentialVolts(int analogPositiveInputNumber,
 	    int analogNegativeInputNumber) throws InterruptedException {
+	if(windows != null)
+	    return 2 * getVRefVolts() * readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber) / fullScaleCounts(delegate.getGain());
 	final int numIterations = this.numIterations;
 	final ADS125x delegate = this.delegate;
-	double [] values = new double[numIterations];
+	final double [] values = this.doubleVotes;
 	for(int i = 0 ; i < numIterations; i++)
 	    values[i] = delegate.readAnalogDifferentialVolts(analogPositiveInputNumber, analogNegativeInputNumber);
+	return medianOf(values);
+    }
+
+    /**
+     * Performs the configured number of passes over the inputs and stores the per-input median into out.
+     */
+    public void readAnalogOneSided(int[] analogInputNumbers, int[] out)
+	    throws InterruptedException {
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	final int size = analogInputNumbers.length;
+	if(out.length < size)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+size);
+	if(windows != null) {
+	    delegate.readAnalogOneSided(analogInputNumbers, out);
+	    final Gain gain = delegate.getGain();
+	    for(int i = 0; i < size; i++)
+		out[i] = windowOf(analogInputNumbers[i], AINCOM, gain).add(out[i]);
+	    return;
+	}
+	final int [][] passes = getIntPasses(size);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.readAnalogOneSided(analogInputNumbers, passes[i]);
+	medianOfPasses(passes, out, 0, size);
+    }
+
+    public void readAnalogOneSidedVolts(int[] analogInputNumbers, double[] out)
+	    throws InterruptedException {
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	final int size = analogInputNumbers.length;
+	if(out.length < size)
+	    throw new IllegalArgumentException("Output length "+out.length+" is shorter than number of inputs "+size);
+	if(windows != null) {
+	    final int [] counts = getIntPasses(size)[0];
+	    readAnalogOneSided(analogInputNumbers, counts);
+	    final double scale = 2 * getVRefVolts() / fullScaleCounts(delegate.getGain());
+	    for(int i = 0; i < size; i++)
+		out[i] = counts[i] * scale;
+	    return;
+	}
+	final double [][] passes = getDoublePasses(size);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.readAnalogOneSidedVolts(analogInputNumbers, passes[i]);
+	medianOfPasses(passes, out, 0, size);
+    }
+
+    /**
+     * Performs the configured number of passes of count conversions and stores the median of each reading across
+     * the passes, so out[offset + i] is the median of conversions i, count + i, 2 * count + i and so on.
+     * In SLIDING_WINDOW mode each reading is instead the median of the most recent conversions of the pair up to it.
+     */
+    public void readAnalogDifferential(int analogPositiveInputNumber,
+	    int analogNegativeInputNumber, int[] out, int offset, int count)
+	    throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	if(windows != null) {
+	    delegate.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber, out, offset, count);
+	    final SlidingWindowMedian window = windowOf(analogPositiveInputNumber, analogNegativeInputNumber, delegate.getGain());
+	    for(int i = offset; i < offset + count; i++)
+		out[i] = window.add(out[i]);
+	    return;
+	}
+	final int [][] passes = getIntPasses(count);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber, passes[i], 0, count);
+	medianOfPasses(passes, out, offset, count);
+    }
+
+    /**
+     * As readAnalogDifferential(int, int, int[], int, int), in volts: each reading is the median across the passes
+     * of the conversions at its index.
+     */
+    public void readAnalogDifferentialVolts(int analogPositiveInputNumber,
+	    int analogNegativeInputNumber, double[] out, int offset, int count)
+	    throws InterruptedException {
+	Objects.checkFromIndexSize(offset, count, out.length);
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	if(windows != null) {
+	    final int [] counts = getIntPasses(count)[0];
+	    readAnalogDifferential(analogPositiveInputNumber, analogNegativeInputNumber, counts, 0, count);
+	    final double scale = 2 * getVRefVolts() / fullScaleCounts(delegate.getGain());
+	    for(int i = 0; i < count; i++)
+		out[offset + i] = counts[i] * scale;
+	    return;
+	}
+	final double [][] passes = getDoublePasses(count);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.readAnalogDifferentialVolts(analogPositiveInputNumber, analogNegativeInputNumber, passes[i], 0, count);
+	medianOfPasses(passes, out, offset, count);
+    }
+
+    public int[] scan(ADS125xScanList scanList) throws InterruptedException {
+	final int [] frame = new int[scanList.size()];
+	scan(scanList, frame);
+	return frame;
+    }
+
+    /**
+     * Performs the configured number of scan passes and stores the per-entry median into the frame.
+     */
+    public void scan(ADS125xScanList scanList, int[] frame) throws InterruptedException {
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	if(windows != null) {
+	    delegate.scan(scanList, frame);
+	    final Gain gain = delegate.getGain();
+	    for(int i = 0; i < size; i++)
+		frame[i] = windowOf(scanList.getMuxRegisterValue(i), gainAt(scanList, i, gain)).add(frame[i]);
+	    return;
+	}
+	final int [][] passes = getIntPasses(size);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.scan(scanList, passes[i]);
+	medianOfPasses(passes, frame, 0, size);
+    }//end scan(...)
+
+    public void scanNormalized(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	if(windows != null) {
+	    scanScaled(scanList, frame, 1);
+	    return;
+	}
+	final double [][] passes = getDoublePasses(size);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.scanNormalized(scanList, passes[i]);
+	medianOfPasses(passes, frame, 0, size);
+    }
+
+    public void scanVolts(ADS125xScanList scanList, double[] frame) throws InterruptedException {
+	final int numIterations = this.numIterations;
+	final ADS125x delegate = this.delegate;
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	if(windows != null) {
+	    scanScaled(scanList, frame, 2 * getVRefVolts());
+	    return;
+	}
+	final double [][] passes = getDoublePasses(size);
+	for(int i = 0 ; i < numIterations; i++)
+	    delegate.scanVolts(scanList, passes[i]);
+	medianOfPasses(passes, frame, 0, size);
+    }
+
+    /**
+     * Sliding-window scan, storing each entry's median scaled by fullScale / (gain * 2^23).
+     */
+    private void scanScaled(ADS125xScanList scanList, double [] frame, double fullScale) throws InterruptedException {
+	final int size = scanList.size();
+	if(frame.length < size)
+	    throw new IllegalArgumentException("Frame length "+frame.length+" is shorter than scan list size "+size);
+	final int [] counts = getIntPasses(size)[0];
+	scan(scanList, counts);
+	final Gain gain = delegate.getGain();
+	for(int i = 0; i < size; i++)
+	    frame[i] = counts[i] * fullScale / fullScaleCounts(gainAt(scanList, i, gain));
+    }//end scanScaled(...)
+
+    private static Gain gainAt(ADS125xScanList scanList, int index, Gain configuredGain) {
+	final ADS125xProfile profile = scanList.getProfile(index);
+	return profile != null ? profile.getGain() : configuredGain;
+    }
+
+    private static double fullScaleCounts(Gain gain) {
+	return gain.getFullScaleCounts();
+    }
+
+    private SlidingWindowMedian windowOf(int analogPositiveInputNumber, int analogNegativeInputNumber, Gain gain) {
+	return windowOf((byte)(((analogPositiveInputNumber & 0xf) << 4) | (analogNegativeInputNumber & 0xf)), gain);
+    }
+
+    private SlidingWindowMedian windowOf(byte muxRegisterValue, Gain gain) {
+	final int tag = ADS125xSampleTag.of(muxRegisterValue, gain);
+	SlidingWindowMedian window = windows[tag];
+	if(window == null)
+	    windows[tag] = window = new SlidingWindowMedian(numIterations);
+	return window;
+    }
+
+    /**
+     * Discard the conversions held for SLIDING_WINDOW medians, as when the inputs are known to have changed.
+     * Invoked automatically when the ADC is reconfigured or recalibrated. Has no effect in REREAD mode.
+     * @since Oct 18, 2026
+     */
+    public void clearWindows() {
+	if(windows == null)
+	    return;
+	for(SlidingWindowMedian window : windows)
+	    if(window != null)
+		window.clear();
+    }
+
+    public Mode getMode() {
+	return mode;
+    }
+
+    private int medianOf(int [] values) {
+	Arrays.sort(values);
+	return values[numIterations/2];
+    }
+
+    private double medianOf(double [] values) {
 	Arrays.sort(values);
 	return values[numIterations/2];
     }
 
+    private void medianOfPasses(int [][] passes, int [] out, int offset, int size) {
+	final int numIterations = this.numIterations;
+	final int [] values = this.intVotes;
+	for(int entry = 0; entry < size; entry++) {
+	    for(int i = 0 ; i < numIterations; i++)
+		values[i] = passes[i][entry];
+	    out[offset + entry] = medianOf(values);
+	}
+    }//end medianOfPasses(...)
+
+    private void medianOfPasses(double [][] passes, double [] out, int offset, int size) {
+	final int numIterations = this.numIterations;
+	final double [] values = this.doubleVotes;
+	for(int entry = 0; entry < size; entry++) {
+	    for(int i = 0 ; i < numIterations; i++)
+		values[i] = passes[i][entry];
+	    out[offset + entry] = medianOf(values);
+	}
+    }//end medianOfPasses(...)
+
+    /**
+     * Pass buffers are only reallocated when a larger read than any before is requested.
+     */
+    private int [][] getIntPasses(int minimumSize) {
+	if(intPasses[0].length < minimumSize)
+	    for(int i = 0; i < numIterations; i++)
+		intPasses[i] = new int[minimumSize];
+	return intPasses;
+    }
+
+    private double [][] getDoublePasses(int minimumSize) {
+	if(doublePasses[0].length < minimumSize)
+	    for(int i = 0; i < numIterations; i++)
+		doublePasses[i] = new double[minimumSize];
+	return doublePasses;
+    }
+
     public byte getGpioRaw() {
 	final int numIterations = this.numIterations;
 	final ADS125x delegate = this.delegate;
-	final double [] values = new double[8];
+	final int [] values = this.gpioVotes;
+	Arrays.fill(values, 0);
 	for(int i = 0 ; i < numIterations; i++) {
 	    byte raw = delegate.getGpioRaw();
 	    for(int j = 0 ; j < 8; j++)
@@ -186,6 +501,32 @@ public class VotingADS125x implements ADS125x {
 	return delegate.isAutoCalibrateEnabled();
     }
 
+    public Gain getGain() {
+	return delegate.getGain();
+    }
+
+    public DataRate getDataRate() {
+	return delegate.getDataRate();
+    }
+
+    public void calibrate(Calibration calibration) throws InterruptedException {
+	delegate.calibrate(calibration);
+	clearWindows();
+    }
+
+    public int readOffsetCalibration() throws InterruptedException {
+	return delegate.readOffsetCalibration();
+    }
+
+    public int readFullScaleCalibration() throws InterruptedException {
+	return delegate.readFullScaleCalibration();
+    }
+
+    public void writeCalibration(int offset, int fullScale) {
+	delegate.writeCalibration(offset, fullScale);
+	clearWindows();
+    }
+
     public void setGpioDirOut(int gpioPinNumber) {
 	delegate.setGpioDirOut(gpioPinNumber);
     }
@@ -194,6 +535,11 @@ public class VotingADS125x implements ADS125x {
 	delegate.setGpioDirIn(gpioPinNumber);
     }
 
+    @Override
+    public void setGpios(int pinMask, int highPinMask) {
+	delegate.setGpios(pinMask, highPinMask);
+    }
+
     @Override
     public void setGpio(int pin, boolean newState) {
 	delegate.setGpio(pin, newState);
@@ -203,5 +549,40 @@ public class VotingADS125x implements ADS125x {
     public void setGpioRaw(byte regVal) {
 	delegate.setGpioRaw(regVal);
     }
+
+    /**
+     * Streams are passed through to the delegate without voting, as each frame is a distinct conversion.
+     * In SLIDING_WINDOW mode, each sample is replaced by the median of the most recent samples.
+     */
+    @Override
+    public void readContinuous(int analogPositiveInputNumber,
+	    int analogNegativeInputNumber, IntConsumer sampleConsumer)
+	    throws InterruptedException {
+	if(windows != null) {
+	    final SlidingWindowMedian window = windowOf(analogPositiveInputNumber, analogNegativeInputNumber, delegate.getGain());
+	    delegate.readContinuous(analogPositiveInputNumber, analogNegativeInputNumber, sample->sampleConsumer.accept(window.add(sample)));
+	} else
+	    delegate.readContinuous(analogPositiveInputNumber, analogNegativeInputNumber, sampleConsumer);
+    }
+
+    @Override
+    public long getLastConversionNanos() {
+	return delegate.getLastConversionNanos();
+    }
+
+    @Override
+    public int getLastConversionTag() {
+	return delegate.getLastConversionTag();
+    }
+
+    @Override
+    public void stopContinuousRead() {
+	delegate.stopContinuousRead();
+    }
+
+    @Override
+    public boolean isReadingContinuous() {
+	return delegate.isReadingContinuous();
+    }
     
 }//end VotingADS125x
@@ -0,0 +1,642 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS1256Simulator.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.devices.ads1256.ADS125x;
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+
+/**
+ * Simulated ADS1256 for running the ADS125x driver without hardware, e.g. for soak tests and benchmarks in CI.
+ *
+ * newContext() returns a Pi4J Context whose SPI, digital input and digital output providers are registered
+ * under the same ids as the real ones AbstractADS125x requests, so the driver runs unmodified against the
+ * simulated chip on the configured DRDY, CS, RESET and SYNC/PDWN pins.<br>
+ * The simulator implements the STATUS, MUX, ADCON, DRATE, IO, OFC and FSC registers and the command set in ADS125x,
+ * including RDATAC. Conversions sample the ADS1256Waveform of each input selected by MUX, scaled by the PGA gain
+ * and VREF, with a simplified calibration model: OFC is subtracted and the result scaled by FSC / 0x400000.
+ *
+ * With Clock.REAL_TIME, conversions complete at the rate in DRATE on a dedicated thread, with the datasheet
+ * settling time after SYNC/WAKEUP, register writes and calibration, and DRDY is dispatched from that thread as gpiod
+ * would. Conversions which are not read before the next one completes are counted as overruns.<br>
+ * With Clock.INSTANT, a started conversion completes as soon as chip select is raised, and the next one as soon
+ * as chip select is raised after it is read, so that benchmarks measure only the driver's cost.
+ *
+ * DigitalStateChangeListeners on DRDY are invoked while the simulator's lock is held and must not use the SPI.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class ADS1256Simulator {
+    public static final String SPI_PROVIDER_ID = "pigpio-spi";
+    public static final String DIGITAL_INPUT_PROVIDER_ID = "gpiod-digital-input";
+    public static final String DIGITAL_OUTPUT_PROVIDER_ID = "gpiod-digital-output";
+    /**
+     * FSC value at which the simplified calibration model leaves the conversion result unscaled.
+     */
+    public static final int FSC_UNITY = 0x400000;
+
+    public enum Clock {
+	/**
+	 * Conversions complete at the configured data rate on a simulator thread.
+	 */
+	REAL_TIME,
+	/**
+	 * Conversions complete as soon as chip select is raised.
+	 */
+	INSTANT
+    }
+
+    private static final int IDLE = 0, WREG_COUNT = 1, WREG_DATA = 2, RREG_COUNT = 3;
+    private static final int NUM_INPUTS = 9;
+    private static final DataRate [] DATA_RATES = DataRate.values();
+
+    private final Object lock = new Object();
+    private final int drdyPinNumber, csPinNumber, rstPinNumber, pdwnPinNumber;
+    private final Clock clock;
+    private final long startNanos = System.nanoTime();
+    private final ADS1256Waveform [] waveforms = new ADS1256Waveform[NUM_INPUTS];
+    private final byte [] registers = new byte[11];
+    private final byte [] readQueue = new byte[16];
+    private volatile double vRefVolts = 2.5;
+    private volatile long spinThresholdNanos = 200_000;
+    private byte gpioInputs = 0;
+    //Serial interface state
+    private boolean csLow, resetHeld, syncHeld, resumeOnSync;
+    private int parseState = IDLE, registerAddress, registersRemaining;
+    private int readPosition, readLimit;
+    private boolean readQueueHoldsData, frameReadThisTransaction;
+    //Converter state
+    private boolean converting, conversionPending, continuous;
+    private long nextConversionNanos;
+    private int dataRegister;
+    private long conversionCount, overrunCount, queuedConversion;
+    private boolean dataUnread;
+    private SimulatedDigitalInput drdy;
+    private boolean drdyHigh = true;
+    private Thread clockThread;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Create a simulator whose conversions complete in real time.
+     * @param drdyPinNumber Address of the DRDY input, as given to the ADS125x constructor
+     * @param csPinNumber Address of the CS output, as given to the ADS125x constructor
+     * @param rstPinNumber Address of the RESET output, as given to the ADS125x constructor
+     */
+    public ADS1256Simulator(int drdyPinNumber, int csPinNumber, int rstPinNumber) {
+	this(drdyPinNumber, csPinNumber, rstPinNumber, Clock.REAL_TIME);
+    }
+
+    /**
+     *
+     * @param drdyPinNumber Address of the DRDY input, as given to the ADS125x constructor
+     * @param csPinNumber Address of the CS output, as given to the ADS125x constructor
+     * @param rstPinNumber Address of the RESET output, as given to the ADS125x constructor
+     * @param clock When conversions complete
+     */
+    public ADS1256Simulator(int drdyPinNumber, int csPinNumber, int rstPinNumber, Clock clock) {
+	this(drdyPinNumber, csPinNumber, rstPinNumber, -1, clock);
+    }
+
+    /**
+     *
+     * @param drdyPinNumber Address of the DRDY input, as given to the ADS125x constructor
+     * @param csPinNumber Address of the CS output, as given to the ADS125x constructor
+     * @param rstPinNumber Address of the RESET output, as given to the ADS125x constructor
+     * @param pdwnPinNumber Address of the SYNC/PDWN output, as given to the ADS125x constructor, or -1 for none
+     * @param clock When conversions complete
+     * @since Oct 18, 2026
+     */
+    public ADS1256Simulator(int drdyPinNumber, int csPinNumber, int rstPinNumber, int pdwnPinNumber, Clock clock) {
+	this.drdyPinNumber = drdyPinNumber;
+	this.csPinNumber = csPinNumber;
+	this.rstPinNumber = rstPinNumber;
+	this.pdwnPinNumber = pdwnPinNumber;
+	this.clock = clock;
+	Arrays.fill(waveforms, ADS1256Waveform.ZERO);
+	synchronized(lock) {
+	    resetRegisters();
+	    restartConversion();
+	}
+	if(clock == Clock.REAL_TIME) {
+	    clockThread = new Thread(this::runClock, "ADS1256Simulator");
+	    clockThread.setDaemon(true);
+	    clockThread.start();
+	}
+    }//end constructor
+
+    /**
+     * Create a Context which provides this simulator in place of the pigpio SPI and gpiod digital I/O providers.
+     * Digital I/O created from the Context on other addresses are plain SimulatedDigitalInputs and SimulatedDigitalOutputs.
+     * @return A new Context
+     * @since Oct 18, 2026
+     */
+    public Context newContext() {
+	return newContext(this);
+    }
+
+    /**
+     * Create a Context in which several simulators share one SPI bus, as chips constructed with a common ADS125xSpiBus do.
+     * Each simulator receives the bus traffic while its CS pin is low, and drives its own DRDY address.
+     * Simulators sharing a RESET or SYNC/PDWN address are all reset or synchronized by it.
+     * @param simulators
+     * @return A new Context
+     * @since Oct 18, 2026
+     */
+    public static Context newContext(ADS1256Simulator ... simulators) {
+	if(simulators.length == 0)
+	    throw new IllegalArgumentException("At least one simulator is required.");
+	return Pi4J.newContextBuilder()
+		.add(new SimulatedSpiProvider(simulators), new SimulatedDigitalInputProvider(simulators), new SimulatedDigitalOutputProvider(simulators))
+		.build();
+    }
+
+    /**
+     * Stop the conversion thread. The simulator no longer converts afterwards.
+     * @since Oct 18, 2026
+     */
+    public void shutdown() {
+	shutdown = true;
+	if(clockThread != null)
+	    LockSupport.unpark(clockThread);
+    }
+
+    /**
+     * Specify the voltage presented on an analog input.
+     * @param input
+     * @param waveform
+     * @return This simulator, for chaining
+     * @since Oct 18, 2026
+     */
+    public ADS1256Simulator setWaveform(MuxValue input, ADS1256Waveform waveform) {
+	if(waveform == null)
+	    throw new NullPointerException("Waveform must not be null.");
+	synchronized(lock) {
+	    waveforms[input.channelNumber()] = waveform;
+	}
+	return this;
+    }
+
+    public ADS1256Waveform getWaveform(MuxValue input) {
+	synchronized(lock) {
+	    return waveforms[input.channelNumber()];
+	}
+    }
+
+    public double getVRefVolts() {
+	return vRefVolts;
+    }
+
+    public void setVRefVolts(double vRefVolts) {
+	this.vRefVolts = vRefVolts;
+    }
+
+    /**
+     * Specify the level presented on one of the chip's GPIO pins, seen when it is configured as an input.
+     * @param gpioPinNumber 0 to 3
+     * @param high
+     * @since Oct 18, 2026
+     */
+    public void setGpioInput(int gpioPinNumber, boolean high) {
+	if(gpioPinNumber < 0 || gpioPinNumber > 3)
+	    throw new IllegalArgumentException("GPIO pin number must be in range [0,3]. Got "+gpioPinNumber);
+	synchronized(lock) {
+	    if(high)
+		gpioInputs |= 1 << gpioPinNumber;
+	    else
+		gpioInputs &= ~(1 << gpioPinNumber);
+	}
+    }
+
+    /**
+     *
+     * @param address
+     * @return The value of the specified register as the chip would report it.
+     * @since Oct 18, 2026
+     */
+    public byte getRegister(int address) {
+	synchronized(lock) {
+	    return readRegister(address);
+	}
+    }
+
+    /**
+     *
+     * @return The number of conversions completed since creation.
+     * @since Oct 18, 2026
+     */
+    public long getConversionCount() {
+	synchronized(lock) {
+	    return conversionCount;
+	}
+    }
+
+    /**
+     *
+     * @return The number of conversions which were replaced by the next before being read.
+     * @since Oct 18, 2026
+     */
+    public long getOverrunCount() {
+	synchronized(lock) {
+	    return overrunCount;
+	}
+    }
+
+    public long getSpinThresholdNanos() {
+	return spinThresholdNanos;
+    }
+
+    /**
+     * Specify how far ahead of a conversion the REAL_TIME clock thread stops parking and busy-waits.
+     * Larger values give more accurate conversion timing at the cost of CPU time.
+     * @param spinThresholdNanos
+     * @since Oct 18, 2026
+     */
+    public void setSpinThresholdNanos(long spinThresholdNanos) {
+	this.spinThresholdNanos = spinThresholdNanos;
+    }
+
+    public Clock getClock() {
+	return clock;
+    }
+
+    ////// Pi4J I/O hooks //////
+
+    void inputCreated(Integer address, SimulatedDigitalInput input) {
+	if(address == null || address != drdyPinNumber)
+	    return;
+	synchronized(lock) {
+	    drdy = input;
+	    input.setState(drdyHigh);
+	}
+    }
+
+    void outputChanged(Integer address, boolean high) {
+	if(address == null)
+	    return;
+	if(address == csPinNumber)
+	    chipSelect(!high);
+	else if(address == rstPinNumber)
+	    resetPin(high);
+	else if(address == pdwnPinNumber)
+	    syncPin(high);
+    }
+
+    boolean isChipSelected() {
+	synchronized(lock) {
+	    return csLow;
+	}
+    }
+
+    byte transferByte(byte toWrite) {
+	synchronized(lock) {
+	    final byte result = readByte();
+	    writeByte(toWrite);
+	    return result;
+	}
+    }
+
+    ////// Serial interface //////
+
+    private void chipSelect(boolean low) {
+	synchronized(lock) {
+	    csLow = low;
+	    if(low) {
+		frameReadThisTransaction = false;
+		if(continuous)//The output register shifts out whether or not DRDY is low
+		    queueData();
+		return;
+	    }
+	    //Raising CS resets the serial interface
+	    parseState = IDLE;
+	    readPosition = readLimit = 0;
+	    if(clock == Clock.INSTANT && !resetHeld) {
+		if(conversionPending || (converting && frameReadThisTransaction)) {
+		    conversionPending = false;
+		    converting = true;
+		    completeConversion(System.nanoTime());
+		}
+	    }
+	}
+    }//end chipSelect(...)
+
+    private void resetPin(boolean high) {
+	synchronized(lock) {
+	    if(!high) {
+		resetHeld = true;
+		converting = conversionPending = false;
+		setDrdy(true);
+	    } else if(resetHeld) {
+		resetHeld = false;
+		resetRegisters();
+		restartConversion();
+	    }
+	}
+    }
+
+    /**
+     * SYNC/PDWN low halts conversion, and its rising edge restarts the conversion which was in progress, if any.
+     * Power-down after 20 conversion periods low is not simulated.
+     */
+    private void syncPin(boolean high) {
+	synchronized(lock) {
+	    if(!high) {
+		if(syncHeld)
+		    return;
+		syncHeld = true;
+		resumeOnSync = converting || conversionPending;
+		converting = conversionPending = false;
+		setDrdy(true);
+	    } else if(syncHeld) {
+		syncHeld = false;
+		if(resumeOnSync)
+		    restartConversion();
+	    }
+	}
+    }//end syncPin(...)
+
+    void writeByte(byte b) {
+	synchronized(lock) {
+	    if(resetHeld)
+		return;
+	    switch(parseState) {
+	    case WREG_COUNT:
+		registersRemaining = (b & 0x0F) + 1;
+		parseState = WREG_DATA;
+		return;
+	    case WREG_DATA:
+		writeRegister(registerAddress++, b);
+		if(--registersRemaining == 0)
+		    parseState = IDLE;
+		return;
+	    case RREG_COUNT:
+		queueRegisters(registerAddress, (b & 0x0F) + 1);
+		parseState = IDLE;
+		return;
+	    default:
+		command(b & 0xFF);
+	    }
+	}
+    }//end writeByte(...)
+
+    byte readByte() {
+	synchronized(lock) {
+	    if(readPosition >= readLimit)
+		return 0;
+	    final byte result = readQueue[readPosition++];
+	    if(readQueueHoldsData && readPosition == readLimit) {
+		frameReadThisTransaction = true;
+		//A conversion which completed during the frame remains unread
+		if(queuedConversion == conversionCount) {
+		    dataUnread = false;
+		    setDrdy(true);
+		}
+	    }
+	    return result;
+	}
+    }//end readByte()
+
+    private void command(int command) {
+	switch(command & 0xF0) {
+	case ADS125x.RREG:
+	    registerAddress = command & 0x0F;
+	    parseState = RREG_COUNT;
+	    return;
+	case ADS125x.WREG:
+	    registerAddress = command & 0x0F;
+	    parseState = WREG_COUNT;
+	    return;
+	default:
+	}
+	switch(command) {
+	case ADS125x.WAKEUP:
+	case ADS125x.WAKEUPb:
+	    if(!converting && !conversionPending)
+		restartConversion();
+	    break;
+	case ADS125x.SYNC:
+	    converting = conversionPending = resumeOnSync = false;
+	    break;
+	case ADS125x.STANDBY:
+	    converting = conversionPending = resumeOnSync = false;
+	    setDrdy(true);
+	    break;
+	case ADS125x.SELFCAL:
+	case ADS125x.SELFOCAL:
+	case ADS125x.SELFGCAL:
+	case ADS125x.SYSOCAL:
+	case ADS125x.SYSGCAL:
+	    restartConversion();
+	    break;
+	case ADS125x.RDATA:
+	    queueData();
+	    break;
+	case ADS125x.RDDATC:
+	    continuous = true;
+	    queueData();
+	    break;
+	case ADS125x.SDATAC:
+	    continuous = false;
+	    break;
+	case ADS125x.RESET:
+	    resetRegisters();
+	    restartConversion();
+	    break;
+	default:
+	}
+    }//end command(...)
+
+    private void resetRegisters() {
+	registers[ADS125x.REG_STATUS] = (byte)(ADS125x.CHIP_ID << 4 | ADS125x.STATUS_ACAL);
+	registers[ADS125x.REG_MUX] = 0x01;
+	registers[ADS125x.REG_ADCON] = 0x20;
+	registers[ADS125x.REG_DRATE] = (byte)0xF0;
+	registers[ADS125x.REG_IO] = (byte)0xE0;
+	registers[ADS125x.REG_OFC0] = registers[ADS125x.REG_OFC1] = registers[ADS125x.REG_OFC2] = 0;
+	registers[ADS125x.REG_FSC0] = (byte)FSC_UNITY;
+	registers[ADS125x.REG_FSC1] = (byte)(FSC_UNITY >> 8);
+	registers[ADS125x.REG_FSC2] = (byte)(FSC_UNITY >> 16);
+	continuous = false;
+    }//end resetRegisters()
+
+    private void writeRegister(int address, byte value) {
+	if(address >= registers.length)
+	    return;
+	switch(address) {
+	case ADS125x.REG_STATUS://ID and DRDY bits are read-only
+	    registers[address] = (byte)((registers[address] & 0xF1) | (value & 0x0E));
+	    break;
+	case ADS125x.REG_MUX:
+	case ADS125x.REG_ADCON:
+	case ADS125x.REG_DRATE:
+	    registers[address] = value;
+	    //The digital filter restarts when the input or its scaling changes
+	    if(converting || conversionPending)
+		restartConversion();
+	    break;
+	default:
+	    registers[address] = value;
+	}
+    }//end writeRegister(...)
+
+    private byte readRegister(int address) {
+	if(address >= registers.length)
+	    return 0;
+	final byte value = registers[address];
+	switch(address) {
+	case ADS125x.REG_STATUS:
+	    return (byte)((value & 0xFE) | (drdyHigh ? 1 : 0));
+	case ADS125x.REG_IO://Pins set as inputs read the external level
+	    final int inputMask = (value >> 4) & 0x0F;
+	    return (byte)((value & 0xF0) | (value & ~inputMask & 0x0F) | (gpioInputs & inputMask));
+	default:
+	    return value;
+	}
+    }//end readRegister(...)
+
+    private void queueRegisters(int address, int count) {
+	readPosition = readLimit = 0;
+	readQueueHoldsData = false;
+	for(int i = 0; i < count && readLimit < readQueue.length; i++)
+	    readQueue[readLimit++] = readRegister(address + i);
+    }
+
+    private void queueData() {
+	readQueue[0] = (byte)(dataRegister >> 16);
+	readQueue[1] = (byte)(dataRegister >> 8);
+	readQueue[2] = (byte)dataRegister;
+	readPosition = 0;
+	readLimit = 3;
+	readQueueHoldsData = true;
+	queuedConversion = conversionCount;
+    }
+
+    ////// Converter //////
+
+    private DataRate getDataRate() {
+	final byte drate = registers[ADS125x.REG_DRATE];
+	for(DataRate rate : DATA_RATES)
+	    if(rate != DataRate.DRATE_MAX && rate.asRegisterValue() == drate)
+		return rate;
+	return DataRate.SPS_30000;
+    }
+
+    /**
+     * Begin a new conversion, completing after the digital filter's settling time. Invalidates any unread data.
+     */
+    private void restartConversion() {
+	setDrdy(true);
+	dataUnread = false;
+	if(syncHeld) {//Starts when SYNC/PDWN rises
+	    resumeOnSync = true;
+	    return;
+	}
+	if(clock == Clock.INSTANT) {
+	    conversionPending = true;
+	    return;
+	}
+	converting = true;
+	nextConversionNanos = System.nanoTime() + (long)(getDataRate().getSettlingTimeMS() * 1E6);
+	if(clockThread != null)
+	    LockSupport.unpark(clockThread);
+    }//end restartConversion()
+
+    private void runClock() {
+	while(!shutdown) {
+	    final long remaining;
+	    synchronized(lock) {
+		if(converting) {
+		    final long now = System.nanoTime();
+		    remaining = nextConversionNanos - now;
+		    if(remaining <= 0) {
+			final long periodNanos = (long)(1E9 / getDataRate().getDataRateSPS());
+			final long missedPeriods = -remaining / periodNanos;
+			overrunCount += missedPeriods;
+			conversionCount += missedPeriods;
+			nextConversionNanos += missedPeriods * periodNanos;
+			completeConversion(nextConversionNanos);
+			nextConversionNanos += periodNanos;
+			continue;
+		    }
+		} else
+		    remaining = -1;
+	    }//end sync(lock)
+	    if(remaining < 0)
+		LockSupport.park(this);
+	    else if(remaining > spinThresholdNanos)
+		LockSupport.parkNanos(this, remaining - spinThresholdNanos);
+	    else
+		Thread.onSpinWait();
+	}//end while(!shutdown)
+    }//end runClock()
+
+    private void completeConversion(long conversionNanos) {
+	final double seconds = (conversionNanos - startNanos) / 1E9;
+	final int mux = registers[ADS125x.REG_MUX];
+	final int positive = Math.min((mux >> 4) & 0x0F, NUM_INPUTS - 1);
+	final int negative = Math.min(mux & 0x0F, NUM_INPUTS - 1);
+	final double volts = waveforms[positive].voltsAt(seconds) - waveforms[negative].voltsAt(seconds);
+	final int gain = 1 << (registers[ADS125x.REG_ADCON] & 0x07);
+	final double counts = volts * gain * 0x7FFFFF / (2 * vRefVolts);
+	final int ofc = ((registers[ADS125x.REG_OFC2] << 16) | ((registers[ADS125x.REG_OFC1] & 0xFF) << 8) | (registers[ADS125x.REG_OFC0] & 0xFF));
+	final int fsc = ((registers[ADS125x.REG_FSC2] & 0xFF) << 16) | ((registers[ADS125x.REG_FSC1] & 0xFF) << 8) | (registers[ADS125x.REG_FSC0] & 0xFF);
+	final double calibrated = (counts - ofc) * fsc / FSC_UNITY;
+	dataRegister = (int)Math.round(Math.max(-0x800000, Math.min(0x7FFFFF, calibrated)));
+	conversionCount++;
+	if(dataUnread)
+	    overrunCount++;
+	dataUnread = true;
+	if(continuous && !csLow)//RDATAC clocks out each result without a command
+	    queueData();
+	//DRDY pulses high if the previous result was not read
+	setDrdy(true);
+	setDrdy(false);
+    }//end completeConversion(...)
+
+    private void setDrdy(boolean high) {
+	if(drdyHigh == high)
+	    return;
+	drdyHigh = high;
+	if(drdy != null)
+	    drdy.setState(high);
+    }
+}//end ADS1256Simulator
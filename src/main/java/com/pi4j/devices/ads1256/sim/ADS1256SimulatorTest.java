@@ -0,0 +1,136 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS1256SimulatorTest.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import com.pi4j.context.Context;
+import com.pi4j.devices.ads1256.ADS1256;
+import com.pi4j.devices.ads1256.ADS125x.DataRate;
+import com.pi4j.devices.ads1256.ADS125x.MuxValue;
+import com.pi4j.devices.ads1256.ADS125xScanList;
+import com.pi4j.io.spi.SpiBus;
+import com.pi4j.io.spi.SpiChipSelect;
+import com.pi4j.util.Console;
+
+/**
+ * Hardware-free soak test of the ADS1256 driver against an ADS1256Simulator running in real time.
+ * AIN1 through AIN7 are held at 0.25V steps and AIN0 carries a 10Hz sine. The driver scans all inputs
+ * for half of the run and streams AIN1 with RDATAC for the other half; every value is checked against the
+ * simulated input.<br>
+ * Exits with status 1 if any value is wrong or the stream falls more than 5% short of the data rate.
+ * The rate is only reported when a single processor is available, as the driver then competes
+ * with the simulator's clock thread.
+ *
+ * parms: [dataRate] [seconds]    e.g. SPS_30000 10
+ * @author Chuck Ritola
+ *
+ */
+public class ADS1256SimulatorTest {
+    private static final int DRDY_PIN = 17, CS_PIN = 22, RST_PIN = 18, PDWN_PIN = 27;
+    private static final double VREF = 2.5, STEP_VOLTS = .25, TOLERANCE_VOLTS = 1E-4;
+
+    public static void main(String[] args) throws InterruptedException {
+	final DataRate dataRate = args.length > 0 ? DataRate.valueOf(args[0]) : DataRate.SPS_30000;
+	final double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 10;
+
+	final ADS1256Simulator simulator = new ADS1256Simulator(DRDY_PIN, CS_PIN, RST_PIN);
+	final MuxValue [] inputs = MuxValue.values();
+	simulator.setWaveform(MuxValue.AIN0, ADS1256Waveform.sine(1, 10, 0));
+	for(int i = 1; i < 8; i++)
+	    simulator.setWaveform(inputs[i], ADS1256Waveform.constant(i * STEP_VOLTS));
+	final Context pi4j = simulator.newContext();
+	final ADS1256 ads = new ADS1256(pi4j, SpiBus.BUS_0, SpiChipSelect.CS_0, false, DRDY_PIN, CS_PIN, RST_PIN, true, PDWN_PIN, false,
+		new Console(), "info", VREF, dataRate, false);
+	int failures = 0;
+	if(ads.validateChipID() != null) {
+	    System.out.println("Invalid chip ID");
+	    failures++;
+	}
+
+	//Scan
+	final ADS125xScanList scanList = ADS125xScanList.allOneSided(ads);
+	final double [] frame = new double[scanList.size()];
+	long scans = 0;
+	final long scanEnd = System.nanoTime() + (long)(seconds * 5E8);
+	while(System.nanoTime() - scanEnd < 0) {
+	    ads.scanVolts(scanList, frame);
+	    scans++;
+	    for(int i = 1; i < frame.length; i++)
+		if(Math.abs(frame[i] - i * STEP_VOLTS) > TOLERANCE_VOLTS) {
+		    if(failures++ < 10)
+			System.out.println("Scan "+scans+" AIN"+i+" expected "+(i * STEP_VOLTS)+"V got "+frame[i]+"V");
+		}
+	    if(Math.abs(frame[0]) > 1 + TOLERANCE_VOLTS && failures++ < 10)
+		System.out.println("Scan "+scans+" AIN0 out of range: "+frame[0]+"V");
+	}
+	System.out.println("Scans: "+scans+" ("+(scans / (seconds / 2))+"/s)");
+
+	//Stream
+	final int expectedCounts = (int)Math.round(STEP_VOLTS * 0x7FFFFF / (2 * VREF));
+	final long [] samples = new long[1];
+	final int [] streamFailures = new int[1];
+	final long overrunsBefore = simulator.getOverrunCount();
+	final Thread stopper = new Thread(()->{
+	    try {Thread.sleep((long)(seconds * 500));}
+	    catch(InterruptedException e) {}
+	    ads.stopContinuousRead();
+	});
+	stopper.start();
+	final long streamStart = System.nanoTime();
+	ads.readContinuous(1, 8, (value)->{
+	    samples[0]++;
+	    if(Math.abs(value - expectedCounts) > 2 && streamFailures[0]++ < 10)
+		System.out.println("Sample "+samples[0]+" expected "+expectedCounts+" got "+value);
+	});
+	final double streamSeconds = (System.nanoTime() - streamStart) / 1E9;
+	failures += streamFailures[0];
+	final double achievedRate = samples[0] / streamSeconds;
+	System.out.println("Streamed: "+samples[0]+" samples ("+achievedRate+"/s of "+dataRate.getDataRateSPS()+"/s), simulator overruns: "+(simulator.getOverrunCount() - overrunsBefore));
+	if(achievedRate < dataRate.getDataRateSPS() * .95) {
+	    if(Runtime.getRuntime().availableProcessors() < 2)
+		System.out.println("WARNING: Stream rate low; only one processor available.");
+	    else {
+		System.out.println("Stream rate too low.");
+		failures++;
+	    }
+	}
+
+	simulator.shutdown();
+	pi4j.shutdown();
+	System.out.println(failures == 0 ? "PASS" : "FAIL: "+failures+" failures");
+	System.exit(failures == 0 ? 0 : 1);
+    }//end main()
+}//end ADS1256SimulatorTest
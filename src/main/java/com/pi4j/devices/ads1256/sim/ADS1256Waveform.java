@@ -0,0 +1,108 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ADS1256Waveform.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import java.util.Random;
+
+/**
+ * Voltage presented on one analog input of an ADS1256Simulator as a function of time.
+ * Waveforms are sampled on the simulator's conversion thread at the instant each conversion completes.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@FunctionalInterface
+public interface ADS1256Waveform {
+    /**
+     * Ground, the default for every input.
+     */
+    ADS1256Waveform ZERO = constant(0);
+
+    /**
+     *
+     * @param seconds Time since the simulator was created
+     * @return Input voltage at that time
+     */
+    double voltsAt(double seconds);
+
+    public static ADS1256Waveform constant(double volts) {
+	return (t)->volts;
+    }
+
+    public static ADS1256Waveform sine(double amplitudeVolts, double frequencyHz, double offsetVolts) {
+	final double radiansPerSecond = 2 * Math.PI * frequencyHz;
+	return (t)->offsetVolts + amplitudeVolts * Math.sin(radiansPerSecond * t);
+    }
+
+    public static ADS1256Waveform square(double lowVolts, double highVolts, double frequencyHz) {
+	return (t)->((t * frequencyHz) % 1.0) < .5 ? highVolts : lowVolts;
+    }
+
+    /**
+     * Linear ramp from startVolts to endVolts, repeating at the given frequency.
+     * @param startVolts
+     * @param endVolts
+     * @param frequencyHz
+     * @return A new waveform
+     * @since Oct 18, 2026
+     */
+    public static ADS1256Waveform sawtooth(double startVolts, double endVolts, double frequencyHz) {
+	return (t)->startVolts + (endVolts - startVolts) * ((t * frequencyHz) % 1.0);
+    }
+
+    /**
+     *
+     * @param other
+     * @return A waveform which is the sum of this one and the other.
+     * @since Oct 18, 2026
+     */
+    default ADS1256Waveform plus(ADS1256Waveform other) {
+	return (t)->voltsAt(t) + other.voltsAt(t);
+    }
+
+    /**
+     * Add Gaussian noise to this waveform. The sequence is repeatable for a given seed and sample order.
+     * @param stdDevVolts Standard deviation of the noise
+     * @param seed
+     * @return A new waveform
+     * @since Oct 18, 2026
+     */
+    default ADS1256Waveform withNoise(double stdDevVolts, long seed) {
+	final Random random = new Random(seed);
+	return (t)->voltsAt(t) + random.nextGaussian() * stdDevVolts;
+    }
+}//end ADS1256Waveform
@@ -0,0 +1,76 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedDigitalInput.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputBase;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+
+/**
+ * DigitalInput whose state is driven by a simulation rather than by hardware.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SimulatedDigitalInput extends DigitalInputBase {
+    private volatile DigitalState state = DigitalState.HIGH;
+
+    SimulatedDigitalInput(DigitalInputProvider provider, DigitalInputConfig config) {
+	super(provider, config);
+    }
+
+    @Override
+    public DigitalState state() {
+	return state;
+    }
+
+    /**
+     * Change the state of this input, notifying listeners on the calling thread if it differs.
+     * @param high
+     * @since Oct 18, 2026
+     */
+    public void setState(boolean high) {
+	final DigitalState newState = high ? DigitalState.HIGH : DigitalState.LOW;
+	if(newState == state)
+	    return;
+	state = newState;
+	dispatch(new DigitalStateChangeEvent<DigitalInput>(this, newState));
+    }
+}//end SimulatedDigitalInput
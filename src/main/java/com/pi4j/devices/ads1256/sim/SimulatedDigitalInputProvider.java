@@ -0,0 +1,66 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedDigitalInputProvider.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+
+/**
+ * Provides SimulatedDigitalInputs, under the id of the provider AbstractADS125x requests.
+ * An input at a simulator's DRDY address is driven by that simulator; any other is left for the caller to drive.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SimulatedDigitalInputProvider extends DigitalInputProviderBase {
+    private final ADS1256Simulator [] simulators;
+
+    SimulatedDigitalInputProvider(ADS1256Simulator [] simulators) {
+	super(ADS1256Simulator.DIGITAL_INPUT_PROVIDER_ID, "ADS1256 Simulator Digital Input Provider");
+	this.simulators = simulators;
+    }
+
+    @Override
+    public DigitalInput create(DigitalInputConfig config) {
+	final SimulatedDigitalInput input = new SimulatedDigitalInput(this, config);
+	for(ADS1256Simulator simulator : simulators)
+	    simulator.inputCreated(config.address(), input);
+	this.context.registry().add(input);
+	return input;
+    }
+}//end SimulatedDigitalInputProvider
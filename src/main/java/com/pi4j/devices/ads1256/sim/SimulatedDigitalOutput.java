@@ -0,0 +1,68 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedDigitalOutput.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputBase;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+/**
+ * DigitalOutput which reports its state changes to ADS1256Simulators, which act on those of their CS and RESET pins.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SimulatedDigitalOutput extends DigitalOutputBase {
+    private final ADS1256Simulator [] simulators;
+    private final Integer address;
+
+    SimulatedDigitalOutput(ADS1256Simulator [] simulators, DigitalOutputProvider provider, DigitalOutputConfig config) {
+	super(provider, config);
+	this.simulators = simulators;
+	this.address = config.address();
+    }
+
+    @Override
+    public DigitalOutput state(DigitalState state) {
+	super.state(state);
+	for(ADS1256Simulator simulator : simulators)
+	    simulator.outputChanged(address, state == DigitalState.HIGH);
+	return this;
+    }
+}//end SimulatedDigitalOutput
@@ -0,0 +1,63 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedDigitalOutputProvider.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+
+/**
+ * Provides SimulatedDigitalOutputs, under the id of the provider AbstractADS125x requests.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SimulatedDigitalOutputProvider extends DigitalOutputProviderBase {
+    private final ADS1256Simulator [] simulators;
+
+    SimulatedDigitalOutputProvider(ADS1256Simulator [] simulators) {
+	super(ADS1256Simulator.DIGITAL_OUTPUT_PROVIDER_ID, "ADS1256 Simulator Digital Output Provider");
+	this.simulators = simulators;
+    }
+
+    @Override
+    public DigitalOutput create(DigitalOutputConfig config) {
+	final SimulatedDigitalOutput output = new SimulatedDigitalOutput(simulators, this, config);
+	this.context.registry().add(output);
+	return output;
+    }
+}//end SimulatedDigitalOutputProvider
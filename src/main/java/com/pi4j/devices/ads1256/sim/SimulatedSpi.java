@@ -0,0 +1,115 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SimulatedSpi.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.ads1256.sim;
+
+import java.nio.charset.Charset;
+
+import com.pi4j.io.spi.SpiBase;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiProvider;
+
+/**
+ * Spi whose transfers are routed to an ADS1256Simulator, or if the bus has several, to the one whose chip select is low.
+ * With none selected, writes are ignored and reads return the idle bus level of 0xFF.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SimulatedSpi extends SpiBase {
+    private final ADS1256Simulator [] simulators;
+
+    SimulatedSpi(ADS1256Simulator [] simulators, SpiProvider provider, SpiConfig config) {
+	super(provider, config);
+	this.simulators = simulators;
+    }
+
+    /**
+     * @return The simulator to receive bus traffic, or null if none is selected
+     */
+    private ADS1256Simulator selected() {
+	if(simulators.length == 1)
+	    return simulators[0];
+	for(ADS1256Simulator simulator : simulators)
+	    if(simulator.isChipSelected())
+		return simulator;
+	return null;
+    }
+
+    @Override
+    public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+	final ADS1256Simulator simulator = selected();
+	for(int i = 0; i < numberOfBytes; i++)
+	    read[readOffset + i] = simulator != null ? simulator.transferByte(write[writeOffset + i]) : (byte)0xFF;
+	return numberOfBytes;
+    }
+
+    @Override
+    public int write(byte b) {
+	final ADS1256Simulator simulator = selected();
+	if(simulator != null)
+	    simulator.writeByte(b);
+	return 1;
+    }
+
+    @Override
+    public int write(byte[] data, int offset, int length) {
+	final ADS1256Simulator simulator = selected();
+	if(simulator != null)
+	    for(int i = 0; i < length; i++)
+		simulator.writeByte(data[offset + i]);
+	return length;
+    }
+
+    public int write(Charset charset, CharSequence data) {
+	final byte [] bytes = data.toString().getBytes(charset);
+	return write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public int read() {
+	final ADS1256Simulator simulator = selected();
+	return simulator != null ? simulator.readByte() & 0xFF : 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+	final ADS1256Simulator simulator = selected();
+	for(int i = 0; i < length; i++)
+	    buffer[offset + i] = simulator != null ? simulator.readByte() : (byte)0xFF;
+	return length;
+    }
+}//end SimulatedSpi
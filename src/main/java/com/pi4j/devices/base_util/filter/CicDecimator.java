@@ -0,0 +1,135 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  CicDecimator.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cascaded integrator-comb decimator: order integrators at the input rate, decimation by factor, then order
+ * combs with a differential delay of one, normalized to unity DC gain. Costs one add per stage per input sample
+ * and one subtract per stage per output sample, regardless of the decimation factor, which makes it suited to
+ * reducing an oversampled 30kSPS stream. An order of 1 is a boxcar average of each block of factor samples.<br>
+ * Integrators are allowed to wrap, as the combs cancel the overflow, provided the output range fits in a long:
+ * order * log2(factor) + 32 must not exceed 63, leaving room for rounding.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class CicDecimator implements SampleFilter {
+    private final int order, factor;
+    private final long gain;
+    private final int gainShift;//-1 if the gain is not a power of two
+    private final long [] integrators, combDelays;
+    private int phase = 0;
+
+    /**
+     *
+     * @param order Number of integrator and comb stages, from 1
+     * @param factor Decimation factor, from 1
+     * @since Oct 18, 2026
+     */
+    public CicDecimator(int order, int factor) {
+	if(order < 1)
+	    throw new IllegalArgumentException("Order must be at least 1. Got "+order);
+	if(factor < 1)
+	    throw new IllegalArgumentException("Decimation factor must be at least 1. Got "+factor);
+	final int bitsPerStage = 32 - Integer.numberOfLeadingZeros(factor - 1);//ceil(log2(factor))
+	if(order * bitsPerStage + 32 > 63)
+	    throw new IllegalArgumentException("Order "+order+" at decimation factor "+factor+" would overflow the output range.");
+	this.order = order;
+	this.factor = factor;
+	long g = 1;
+	for(int i = 0; i < order; i++)
+	    g *= factor;
+	this.gain = g;
+	this.gainShift = Long.bitCount(g) == 1 ? Long.numberOfTrailingZeros(g) : -1;
+	this.integrators = new long[order];
+	this.combDelays = new long[order];
+    }//end constructor
+
+    /**
+     * Create a boxcar decimator, which outputs the mean of each block of factor samples.
+     * @param factor
+     * @return A first-order CicDecimator
+     * @since Oct 18, 2026
+     */
+    public static CicDecimator boxcar(int factor) {
+	return new CicDecimator(1, factor);
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	Objects.checkFromIndexSize(offset, count, buffer.length);
+	final long [] integrators = this.integrators, combDelays = this.combDelays;
+	final int order = this.order;
+	int out = offset;
+	for(int i = offset; i < offset + count; i++) {
+	    long acc = buffer[i];
+	    for(int s = 0; s < order; s++)
+		acc = integrators[s] += acc;
+	    if(++phase < factor)
+		continue;
+	    phase = 0;
+	    for(int s = 0; s < order; s++) {
+		final long delayed = combDelays[s];
+		combDelays[s] = acc;
+		acc -= delayed;
+	    }
+	    //Round half up
+	    buffer[out++] = (int)(gainShift >= 0 ? (acc + (gain >> 1)) >> gainShift : Math.floorDiv(acc + (gain >> 1), gain));
+	}//end for(samples)
+	return out - offset;
+    }//end process(...)
+
+    @Override
+    public void reset() {
+	Arrays.fill(integrators, 0);
+	Arrays.fill(combDelays, 0);
+	phase = 0;
+    }
+
+    @Override
+    public int getDecimation() {
+	return factor;
+    }
+
+    public int getOrder() {
+	return order;
+    }
+}//end CicDecimator
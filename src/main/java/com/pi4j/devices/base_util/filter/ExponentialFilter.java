@@ -0,0 +1,115 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  ExponentialFilter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Objects;
+
+/**
+ * First-order low-pass (exponential moving average): y += alpha * (x - y). The first sample after construction
+ * or reset initializes the output, so that there is no start-up transient from zero.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class ExponentialFilter implements SampleFilter {
+    private final double alpha;
+    private double state;
+    private boolean primed = false;
+
+    /**
+     *
+     * @param alpha Weight of each new sample, in (0,1]. 1 passes samples unchanged.
+     * @since Oct 18, 2026
+     */
+    public ExponentialFilter(double alpha) {
+	if(!(alpha > 0 && alpha <= 1))
+	    throw new IllegalArgumentException("Alpha must be in (0,1]. Got "+alpha);
+	this.alpha = alpha;
+    }
+
+    /**
+     * Create a filter with the specified -3dB cutoff frequency.
+     * @param cutoffHz
+     * @param sampleRateHz
+     * @return A new ExponentialFilter
+     * @since Oct 18, 2026
+     */
+    public static ExponentialFilter ofCutoff(double cutoffHz, double sampleRateHz) {
+	if(!(cutoffHz > 0 && sampleRateHz > 0))
+	    throw new IllegalArgumentException("Frequencies must be positive. Got cutoff "+cutoffHz+" rate "+sampleRateHz);
+	return new ExponentialFilter(1 - Math.exp(-2 * Math.PI * cutoffHz / sampleRateHz));
+    }
+
+    /**
+     * Create a filter whose step response reaches 63% in the specified time.
+     * @param timeConstantSeconds
+     * @param sampleRateHz
+     * @return A new ExponentialFilter
+     * @since Oct 18, 2026
+     */
+    public static ExponentialFilter ofTimeConstant(double timeConstantSeconds, double sampleRateHz) {
+	if(!(timeConstantSeconds > 0 && sampleRateHz > 0))
+	    throw new IllegalArgumentException("Time constant and rate must be positive. Got "+timeConstantSeconds+", "+sampleRateHz);
+	return new ExponentialFilter(1 - Math.exp(-1 / (timeConstantSeconds * sampleRateHz)));
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	Objects.checkFromIndexSize(offset, count, buffer.length);
+	if(count == 0)
+	    return 0;
+	final double alpha = this.alpha;
+	double y = primed ? state : buffer[offset];
+	for(int i = offset; i < offset + count; i++) {
+	    y += alpha * (buffer[i] - y);
+	    buffer[i] = (int)Math.round(y);
+	}
+	state = y;
+	primed = true;
+	return count;
+    }//end process(...)
+
+    @Override
+    public void reset() {
+	primed = false;
+    }
+
+    public double getAlpha() {
+	return alpha;
+    }
+}//end ExponentialFilter
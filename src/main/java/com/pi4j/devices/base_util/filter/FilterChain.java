@@ -0,0 +1,92 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  FilterChain.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Objects;
+
+/**
+ * Applies a sequence of SampleFilters to each block in place, each stage receiving the previous stage's output.
+ * Decimating stages reduce the rate seen by later stages, so place them early to save work, and construct later
+ * stages, such as a NotchFilter, for the decimated rate.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class FilterChain implements SampleFilter {
+    private final SampleFilter [] stages;
+    private final int decimation;
+
+    public FilterChain(SampleFilter ... stages) {
+	this.stages = stages.clone();
+	int d = 1;
+	for(SampleFilter stage : this.stages) {
+	    Objects.requireNonNull(stage, "stage");
+	    d = Math.multiplyExact(d, stage.getDecimation());
+	}
+	this.decimation = d;
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	for(SampleFilter stage : stages) {
+	    if(count == 0)
+		break;
+	    count = stage.process(buffer, offset, count);
+	}
+	return count;
+    }
+
+    @Override
+    public void reset() {
+	for(SampleFilter stage : stages)
+	    stage.reset();
+    }
+
+    @Override
+    public int getDecimation() {
+	return decimation;
+    }
+
+    public int getNumStages() {
+	return stages.length;
+    }
+
+    public SampleFilter getStage(int index) {
+	return stages[index];
+    }
+}//end FilterChain
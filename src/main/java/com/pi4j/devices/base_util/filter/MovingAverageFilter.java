@@ -0,0 +1,88 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  MovingAverageFilter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Objects;
+
+/**
+ * Mean of the last length samples, output for every input sample. A running sum is kept, so the cost per
+ * sample does not depend on the length. Until length samples have been seen, the mean of those seen is output.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class MovingAverageFilter implements SampleFilter {
+    private final int [] window;
+    private long sum = 0;
+    private int next = 0, filled = 0;
+
+    public MovingAverageFilter(int length) {
+	if(length < 1)
+	    throw new IllegalArgumentException("Length must be at least 1. Got "+length);
+	this.window = new int[length];
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	Objects.checkFromIndexSize(offset, count, buffer.length);
+	final int [] window = this.window;
+	for(int i = offset; i < offset + count; i++) {
+	    final int sample = buffer[i];
+	    if(filled == window.length)
+		sum -= window[next];
+	    else
+		filled++;
+	    sum += sample;
+	    window[next] = sample;
+	    if(++next == window.length)
+		next = 0;
+	    buffer[i] = (int)Math.floorDiv(sum + (filled >> 1), filled);
+	}
+	return count;
+    }//end process(...)
+
+    @Override
+    public void reset() {
+	sum = 0;
+	next = filled = 0;
+    }
+
+    public int getLength() {
+	return window.length;
+    }
+}//end MovingAverageFilter
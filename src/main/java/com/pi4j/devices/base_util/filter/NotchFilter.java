@@ -0,0 +1,136 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  NotchFilter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Objects;
+
+/**
+ * Second-order IIR notch (biquad, in transposed direct form II) for removing mains interference at 50 or 60Hz
+ * from a stream sampled well above it. At the ADS125x's 50 and 60SPS data rates the chip's own digital filter
+ * already has a zero at the mains frequency, and this stage is not needed.<br>
+ * The first sample after construction or reset initializes the state as if that level had always been present,
+ * so that an ADC offset does not ring through the notch at start-up.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class NotchFilter implements SampleFilter {
+    /**
+     * Quality factor used by the mains factories: a -3dB width of about 5Hz at 50Hz.
+     */
+    public static final double DEFAULT_Q = 10;
+    private final double b0, b1, a1, a2;//b2 == b0 for a notch
+    private final double notchHz, sampleRateHz, q;
+    private double z1 = 0, z2 = 0;
+    private boolean primed = false;
+
+    /**
+     *
+     * @param notchHz Frequency to reject
+     * @param sampleRateHz Rate at which samples are supplied. Must exceed twice notchHz.
+     * @param q Quality factor: notchHz divided by the -3dB width of the notch
+     * @since Oct 18, 2026
+     */
+    public NotchFilter(double notchHz, double sampleRateHz, double q) {
+	if(!(notchHz > 0 && sampleRateHz > 2 * notchHz))
+	    throw new IllegalArgumentException("Notch frequency must be positive and below half the sample rate. Got "+notchHz+"Hz at "+sampleRateHz+"Hz");
+	if(!(q > 0))
+	    throw new IllegalArgumentException("Q must be positive. Got "+q);
+	this.notchHz = notchHz;
+	this.sampleRateHz = sampleRateHz;
+	this.q = q;
+	final double w0 = 2 * Math.PI * notchHz / sampleRateHz;
+	final double alpha = Math.sin(w0) / (2 * q);
+	final double a0 = 1 + alpha;
+	b0 = 1 / a0;
+	b1 = -2 * Math.cos(w0) / a0;
+	a1 = b1;
+	a2 = (1 - alpha) / a0;
+    }//end constructor
+
+    public static NotchFilter of50Hz(double sampleRateHz) {
+	return new NotchFilter(50, sampleRateHz, DEFAULT_Q);
+    }
+
+    public static NotchFilter of60Hz(double sampleRateHz) {
+	return new NotchFilter(60, sampleRateHz, DEFAULT_Q);
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	Objects.checkFromIndexSize(offset, count, buffer.length);
+	if(count == 0)
+	    return 0;
+	final double b0 = this.b0, b1 = this.b1, a1 = this.a1, a2 = this.a2;
+	if(!primed) {//Steady state for a constant input, which passes with unity gain
+	    final double x = buffer[offset];
+	    z1 = x * (1 - b0);
+	    z2 = x * (b0 - a2);
+	    primed = true;
+	}
+	double z1 = this.z1, z2 = this.z2;
+	for(int i = offset; i < offset + count; i++) {
+	    final double x = buffer[i];
+	    final double y = b0 * x + z1;
+	    z1 = b1 * x - a1 * y + z2;
+	    z2 = b0 * x - a2 * y;
+	    buffer[i] = (int)Math.round(y);
+	}
+	this.z1 = z1;
+	this.z2 = z2;
+	return count;
+    }//end process(...)
+
+    @Override
+    public void reset() {
+	z1 = z2 = 0;
+	primed = false;
+    }
+
+    public double getNotchHz() {
+	return notchHz;
+    }
+
+    public double getSampleRateHz() {
+	return sampleRateHz;
+    }
+
+    public double getQ() {
+	return q;
+    }
+}//end NotchFilter
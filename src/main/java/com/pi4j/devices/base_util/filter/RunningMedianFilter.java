@@ -0,0 +1,81 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  RunningMedianFilter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Objects;
+
+/**
+ * Median of the last length samples, output for every input sample, rejecting impulse noise such as a corrupted
+ * transfer without the cost of re-reading the input as VotingADS125x does by default. The window is a
+ * SlidingWindowMedian, so each sample costs O(log length).
+ * Until length samples have been seen, the median of those seen is output, the lower of the two middle values if even.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class RunningMedianFilter implements SampleFilter {
+    private final SlidingWindowMedian window;
+
+    /**
+     *
+     * @param length Window length. Must be odd.
+     * @since Oct 18, 2026
+     */
+    public RunningMedianFilter(int length) {
+	if(length < 1 || length % 2 != 1)
+	    throw new IllegalArgumentException("Length must be a positive odd number. Got "+length);
+	this.window = new SlidingWindowMedian(length);
+    }
+
+    @Override
+    public int process(int[] buffer, int offset, int count) {
+	Objects.checkFromIndexSize(offset, count, buffer.length);
+	final SlidingWindowMedian window = this.window;
+	for(int i = offset; i < offset + count; i++)
+	    buffer[i] = window.add(buffer[i]);
+	return count;
+    }//end process(...)
+
+    @Override
+    public void reset() {
+	window.clear();
+    }
+
+    public int getLength() {
+	return window.getLength();
+    }
+}//end RunningMedianFilter
@@ -0,0 +1,76 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SampleFilter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.filter;
+
+/**
+ * Stage of a streaming filter pipeline operating in place on blocks of primitive int samples, such as
+ * sign-extended ADC conversions. Implementations keep their state between calls, so a stream may be
+ * processed in blocks of any size, including one sample at a time, with the same result, and make no
+ * allocation after construction.<br>
+ * Decimating stages store fewer samples than they are given; the output is always stored from the start
+ * of the block, so each output sample is written no later than the input sample at its index is read.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public interface SampleFilter {
+    /**
+     * Filter buffer[offset] ... buffer[offset+count-1], replacing them with the output samples.
+     * @param buffer
+     * @param offset Index of the first sample
+     * @param count Number of input samples
+     * @return Number of output samples, stored at buffer[offset] onward. Less than count if decimating.
+     * @since Oct 18, 2026
+     */
+    int process(int [] buffer, int offset, int count);
+
+    /**
+     * Discard all history, as at construction, such as after a change of input or a gap in the stream.
+     * @since Oct 18, 2026
+     */
+    void reset();
+
+    /**
+     *
+     * @return Number of input samples per output sample, 1 if this stage does not decimate.
+     * @since Oct 18, 2026
+     */
+    default int getDecimation() {
+	return 1;
+    }
+}//end SampleFilter
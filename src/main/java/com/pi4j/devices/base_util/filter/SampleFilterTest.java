@@ -0,0 +1,168 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SampleFilterTest.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.filter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Hardware-free exercise of the SampleFilter stages against synthetic 24-bit signals at 30kSPS: checks each stage's
+ * response, that block-wise and sample-at-a-time processing agree, and reports the throughput of a typical chain.<br>
+ * Exits with status 1 if any check fails.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public class SampleFilterTest {
+    private static final double RATE_HZ = 30_000;
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+	//Boxcar of a ramp is the mean of each block
+	final int [] ramp = new int[12];
+	for(int i = 0; i < ramp.length; i++)
+	    ramp[i] = i * 4;
+	final int n = CicDecimator.boxcar(4).process(ramp, 0, ramp.length);
+	check("boxcar count", n == 3);
+	check("boxcar means", ramp[0] == 6 && ramp[1] == 22 && ramp[2] == 38);
+
+	//Higher order CIC settles to DC after order outputs, including negative values
+	final int [] dc = filled(64 * 5, -1_234_567);
+	final int m = new CicDecimator(3, 64).process(dc, 0, dc.length);
+	check("CIC count", m == 5);
+	check("CIC DC gain", dc[m - 1] == -1_234_567);
+
+	final int [] flat = filled(100, 5000);
+	new MovingAverageFilter(10).process(flat, 0, flat.length);
+	check("moving average DC", flat[99] == 5000 && flat[0] == 5000);
+
+	final int [] step = filled(2000, 1_000_000);
+	ExponentialFilter.ofCutoff(10, RATE_HZ).process(step, 0, step.length);
+	check("exponential primes with first sample", step[0] == 1_000_000 && step[1999] == 1_000_000);
+
+	//Median rejects isolated spikes entirely
+	final int [] spiky = filled(50, 100);
+	spiky[20] = 8_000_000;
+	spiky[35] = -8_000_000;
+	new RunningMedianFilter(5).process(spiky, 0, spiky.length);
+	boolean spikeFree = true;
+	for(int v : spiky)
+	    spikeFree &= v == 100;
+	check("median rejects spikes", spikeFree);
+
+	//Sliding median agrees with sorting each window, including even lengths and repeated values
+	final Random random = new Random(1);
+	boolean medianAgrees = true;
+	for(int length = 1; length <= 16; length++) {
+	    final SlidingWindowMedian window = new SlidingWindowMedian(length);
+	    final int [] history = new int[500];
+	    for(int i = 0; i < history.length; i++) {
+		history[i] = random.nextInt(length * 2) - length;
+		final int [] sorted = Arrays.copyOfRange(history, Math.max(0, i + 1 - length), i + 1);
+		Arrays.sort(sorted);
+		medianAgrees &= window.add(history[i]) == sorted[(sorted.length - 1) >> 1];
+	    }
+	}
+	check("sliding median matches sorted windows", medianAgrees);
+
+	//Notch removes 60Hz but passes 10Hz
+	check("notch 60Hz attenuation", sineGain(NotchFilter.of60Hz(RATE_HZ), 60) < .01);
+	check("notch 10Hz passband", sineGain(NotchFilter.of60Hz(RATE_HZ), 10) > .99);
+
+	//Sample-at-a-time agrees with block processing
+	final int [] signal = new int[30_000];
+	for(int i = 0; i < signal.length; i++)
+	    signal[i] = (int)(1E6 * Math.sin(2 * Math.PI * 60 * i / RATE_HZ) + 2E5 * Math.sin(2 * Math.PI * 7 * i / RATE_HZ)) + (i % 97 == 0 ? 5_000_000 : 0);
+	final int [] block = signal.clone();
+	final int blockCount = newChain().process(block, 0, block.length);
+	final FilterChain single = newChain();
+	final int [] one = new int[1];
+	int singleCount = 0;
+	boolean agree = true;
+	for(int i = 0; i < signal.length; i++) {
+	    one[0] = signal[i];
+	    if(single.process(one, 0, 1) == 1)
+		agree &= block[singleCount++] == one[0];
+	}
+	check("block and single-sample outputs agree", agree && singleCount == blockCount && blockCount == signal.length / 10);
+
+	//Throughput
+	final FilterChain chain = newChain();
+	final int [] work = new int[4096];
+	final long start = System.nanoTime();
+	long samples = 0;
+	while(System.nanoTime() - start < 1_000_000_000L) {
+	    System.arraycopy(signal, 0, work, 0, work.length);
+	    chain.process(work, 0, work.length);
+	    samples += work.length;
+	}
+	System.out.println("Chain throughput: "+(long)(samples / ((System.nanoTime() - start) / 1E9))+" samples/s");
+	System.out.println(failures == 0 ? "PASS" : "FAIL: "+failures+" failures");
+	System.exit(failures == 0 ? 0 : 1);
+    }//end main()
+
+    private static FilterChain newChain() {
+	return new FilterChain(new RunningMedianFilter(5), new CicDecimator(2, 10), NotchFilter.of60Hz(RATE_HZ / 10));
+    }
+
+    /**
+     * Steady-state amplitude ratio of a filter for a sine of the specified frequency.
+     */
+    private static double sineGain(SampleFilter filter, double hz) {
+	final int [] sine = new int[(int)RATE_HZ * 2];
+	for(int i = 0; i < sine.length; i++)
+	    sine[i] = (int)Math.round(1E6 * Math.sin(2 * Math.PI * hz * i / RATE_HZ));
+	filter.process(sine, 0, sine.length);
+	int peak = 0;
+	for(int i = sine.length / 2; i < sine.length; i++)
+	    peak = Math.max(peak, Math.abs(sine[i]));
+	return peak / 1E6;
+    }
+
+    private static int [] filled(int length, int value) {
+	final int [] result = new int[length];
+	Arrays.fill(result, value);
+	return result;
+    }
+
+    private static void check(String name, boolean passed) {
+	if(!passed) {
+	    System.out.println("FAILED: "+name);
+	    failures++;
+	}
+    }
+}//end SampleFilterTest
@@ -0,0 +1,207 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SlidingWindowMedian.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.filter;
+
+/**
+ * Median of the most recent samples of a stream, updated in O(log length) per sample with no allocation.<br>
+ * The window is a ring of slots split between a max-heap of the lower half and a min-heap of the upper half.
+ * Each heap entry is a slot number, and each slot records its heap and position, so that once the window is
+ * full the oldest sample is replaced in place by the newest: the slot is sifted within its heap, after which at
+ * most one exchange of the heaps' tops restores the ordering between the halves.
+ * The median is the top of the lower half, which is the lower of the two middle values when the count is even.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class SlidingWindowMedian {
+    private final int [] values;//By slot
+    private final int [] lower, upper;//Heaps of slots
+    private final int [] heapIndex;//By slot
+    private final boolean [] inLower;//By slot
+    private int lowerSize = 0, upperSize = 0, next = 0, count = 0;
+
+    /**
+     *
+     * @param length Number of most recent samples over which the median is taken
+     * @since Oct 18, 2026
+     */
+    public SlidingWindowMedian(int length) {
+	if(length < 1)
+	    throw new IllegalArgumentException("Length must be at least 1. Got "+length);
+	values = new int[length];
+	lower = new int[length];
+	upper = new int[length];
+	heapIndex = new int[length];
+	inLower = new boolean[length];
+    }//end constructor
+
+    /**
+     * Add a sample, displacing the oldest if the window is full.
+     * @param value
+     * @return The median of the window including the new sample
+     * @since Oct 18, 2026
+     */
+    public int add(int value) {
+	final int slot = next;
+	if(++next == values.length)
+	    next = 0;
+	values[slot] = value;
+	if(count < values.length) {
+	    count++;
+	    if(lowerSize == 0 || value <= values[lower[0]])
+		push(true, slot);
+	    else
+		push(false, slot);
+	    //Lower half holds the extra sample when the count is odd
+	    if(lowerSize > upperSize + 1)
+		push(false, pop(true));
+	    else if(upperSize > lowerSize)
+		push(true, pop(false));
+	} else {
+	    final boolean heap = inLower[slot];
+	    siftDown(heap, siftUp(heap, heapIndex[slot]));
+	    if(upperSize > 0 && values[lower[0]] > values[upper[0]]) {
+		final int lowerTop = lower[0], upperTop = upper[0];
+		place(true, 0, upperTop);
+		place(false, 0, lowerTop);
+		siftDown(true, 0);
+		siftDown(false, 0);
+	    }
+	}
+	return values[lower[0]];
+    }//end add(...)
+
+    /**
+     *
+     * @return The median of the samples in the window
+     * @throws IllegalStateException if no samples have been added
+     * @since Oct 18, 2026
+     */
+    public int getMedian() {
+	if(count == 0)
+	    throw new IllegalStateException("No samples have been added.");
+	return values[lower[0]];
+    }
+
+    /**
+     * Empty the window.
+     * @since Oct 18, 2026
+     */
+    public void clear() {
+	lowerSize = upperSize = next = count = 0;
+    }
+
+    /**
+     *
+     * @return Number of samples in the window, at most getLength().
+     * @since Oct 18, 2026
+     */
+    public int size() {
+	return count;
+    }
+
+    public int getLength() {
+	return values.length;
+    }
+
+    ////// Heaps //////
+
+    /**
+     * @return true if the sample in slot a belongs above the sample in slot b in the specified heap.
+     */
+    private boolean precedes(boolean lowerHeap, int a, int b) {
+	return lowerHeap ? values[a] > values[b] : values[a] < values[b];
+    }
+
+    private void place(boolean lowerHeap, int index, int slot) {
+	(lowerHeap ? lower : upper)[index] = slot;
+	heapIndex[slot] = index;
+	inLower[slot] = lowerHeap;
+    }
+
+    private void push(boolean lowerHeap, int slot) {
+	final int index = lowerHeap ? lowerSize++ : upperSize++;
+	place(lowerHeap, index, slot);
+	siftUp(lowerHeap, index);
+    }
+
+    private int pop(boolean lowerHeap) {
+	final int [] heap = lowerHeap ? lower : upper;
+	final int top = heap[0];
+	final int last = lowerHeap ? --lowerSize : --upperSize;
+	if(last > 0) {
+	    place(lowerHeap, 0, heap[last]);
+	    siftDown(lowerHeap, 0);
+	}
+	return top;
+    }
+
+    /**
+     * @return The entry's final index
+     */
+    private int siftUp(boolean lowerHeap, int index) {
+	final int [] heap = lowerHeap ? lower : upper;
+	final int slot = heap[index];
+	while(index > 0) {
+	    final int parent = (index - 1) >> 1;
+	    if(!precedes(lowerHeap, slot, heap[parent]))
+		break;
+	    place(lowerHeap, index, heap[parent]);
+	    index = parent;
+	}
+	place(lowerHeap, index, slot);
+	return index;
+    }//end siftUp(...)
+
+    private void siftDown(boolean lowerHeap, int index) {
+	final int [] heap = lowerHeap ? lower : upper;
+	final int size = lowerHeap ? lowerSize : upperSize;
+	final int slot = heap[index];
+	while(true) {
+	    int child = 2 * index + 1;
+	    if(child >= size)
+		break;
+	    if(child + 1 < size && precedes(lowerHeap, heap[child + 1], heap[child]))
+		child++;
+	    if(!precedes(lowerHeap, heap[child], slot))
+		break;
+	    place(lowerHeap, index, heap[child]);
+	    index = child;
+	}
+	place(lowerHeap, index, slot);
+    }//end siftDown(...)
+}//end SlidingWindowMedian
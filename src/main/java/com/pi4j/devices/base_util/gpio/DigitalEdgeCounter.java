@@ -0,0 +1,286 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  DigitalEdgeCounter.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.gpio;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+
+/**
+ * Lock-free alternative to InputTransitionBarrier which counts the rising and falling edges of a DigitalInput.
+ *
+ * Rather than anticipating toggles, a waiter takes note of the current edge count and later blocks until the
+ * count has moved past it, so an edge which arrives before the wait begins is never lost. Waiters park with
+ * nanosecond deadlines and are unparked directly by the thread delivering the state change, optionally
+ * spinning briefly first to avoid the cost of a park/unpark round trip for edges which are imminent.
+ *
+ * A state change reporting the same state as the last one received is still counted as an edge of that
+ * direction, as the opposite edge must have been missed in between.
+ *
+ * Note, this class assumes DigitalState.UNKNOWN to be LOW.
+ *
+ * @author Chuck Ritola
+ *
+ */
+
+public final class DigitalEdgeCounter implements DigitalStateChangeListener {
+    private static final int MAX_WAITERS = 4;
+    private final DigitalInput inputToMonitor;
+    private final AtomicLong risingEdges = new AtomicLong();
+    private final AtomicLong fallingEdges = new AtomicLong();
+    private final AtomicReferenceArray<Thread> waiters = new AtomicReferenceArray<>(MAX_WAITERS);
+    private volatile long lastRisingEdgeNanos = 0;
+    private volatile long lastFallingEdgeNanos = 0;
+    private volatile boolean lastReceivedState = false;
+    private volatile long spinNanos = 0;
+    private boolean released = false;
+
+    public DigitalEdgeCounter(DigitalInput inputToMonitor) {
+	this.inputToMonitor = inputToMonitor;
+	inputToMonitor.addListener(this);
+	lastReceivedState = inputToMonitor.state() == DigitalState.HIGH;
+    }//end constructor
+
+    /**
+     * Create a counter with no DigitalInput, whose edges are supplied exclusively through recordEdge(...).
+     * Intended for simulation and testing.
+     * @param initialState The state to consider last received, true for HIGH.
+     * @since Oct 18, 2026
+     */
+    public DigitalEdgeCounter(boolean initialState) {
+	this.inputToMonitor = null;
+	this.lastReceivedState = initialState;
+    }
+
+    /**
+     * Cleanup method to remove this counter from the DigitalInput's listeners.
+     *
+     * @since Oct 18, 2026
+     */
+    public void release() {
+	if(released)
+	    return;
+	if(inputToMonitor != null)
+	    inputToMonitor.removeListener(this);
+	released = true;
+    }//end release()
+
+    @Override
+    public void onDigitalStateChange(@SuppressWarnings("rawtypes") DigitalStateChangeEvent event) {
+	if(event.source() == inputToMonitor)
+	    recordEdge(event.state().isHigh(), System.nanoTime());
+    }//end onDigitalStateChange(...)
+
+    /**
+     * Count an edge and wake any waiters. Invoked for each event from the assigned DigitalInput,
+     * and may be invoked directly to submit edges from another source.
+     * @param newStateHigh true if the input is now HIGH (a rising edge), false if now LOW (a falling edge)
+     * @param timestampNanos System.nanoTime() at which the edge was observed
+     * @since Oct 18, 2026
+     */
+    public void recordEdge(boolean newStateHigh, long timestampNanos) {
+	//Timestamp is written before the count so that a waiter seeing the new count sees its timestamp
+	if(newStateHigh) {
+	    lastRisingEdgeNanos = timestampNanos;
+	    lastReceivedState = true;
+	    risingEdges.incrementAndGet();
+	} else {
+	    lastFallingEdgeNanos = timestampNanos;
+	    lastReceivedState = false;
+	    fallingEdges.incrementAndGet();
+	}
+	for(int i = 0; i < MAX_WAITERS; i++) {
+	    final Thread waiter = waiters.get(i);
+	    if(waiter != null)
+		LockSupport.unpark(waiter);
+	}
+    }//end recordEdge(...)
+
+    /**
+     * Block until the number of falling edges exceeds the given mark.
+     * @param fallingEdgeMark A value previously obtained from getFallingEdgeCount() or a previous await.
+     * @param timeoutNanos
+     * @return The falling edge count upon waking, greater than fallingEdgeMark
+     * @throws InterruptedException
+     * @throws TimeoutException If the count did not pass the mark in time
+     * @since Oct 18, 2026
+     */
+    public long awaitFallingEdge(long fallingEdgeMark, long timeoutNanos) throws InterruptedException, TimeoutException {
+	return awaitCount(fallingEdges, fallingEdgeMark, timeoutNanos);
+    }
+
+    /**
+     * Block until the number of rising edges exceeds the given mark.
+     * @param risingEdgeMark A value previously obtained from getRisingEdgeCount() or a previous await.
+     * @param timeoutNanos
+     * @return The rising edge count upon waking, greater than risingEdgeMark
+     * @throws InterruptedException
+     * @throws TimeoutException If the count did not pass the mark in time
+     * @since Oct 18, 2026
+     */
+    public long awaitRisingEdge(long risingEdgeMark, long timeoutNanos) throws InterruptedException, TimeoutException {
+	return awaitCount(risingEdges, risingEdgeMark, timeoutNanos);
+    }
+
+    /**
+     * Block until the last received state is the specified state. Returns immediately if it already is.
+     * @param high true to await HIGH, false to await LOW
+     * @param timeoutNanos
+     * @throws InterruptedException
+     * @throws TimeoutException
+     * @since Oct 18, 2026
+     */
+    public void awaitState(boolean high, long timeoutNanos) throws InterruptedException, TimeoutException {
+	if(lastReceivedState == high)
+	    return;
+	final AtomicLong counter = high?risingEdges:fallingEdges;
+	final long mark = counter.get();
+	if(lastReceivedState == high)
+	    return;
+	awaitCount(counter, mark, timeoutNanos);
+    }//end awaitState(...)
+
+    private long awaitCount(AtomicLong counter, long mark, long timeoutNanos) throws InterruptedException, TimeoutException {
+	long count = counter.get();
+	if(count > mark)
+	    return count;
+	final long start = System.nanoTime();
+	final long deadline = start + timeoutNanos;
+	final long spinDeadline = start + Math.min(spinNanos, timeoutNanos);
+	while(System.nanoTime() - spinDeadline < 0) {
+	    if((count = counter.get()) > mark)
+		return count;
+	    Thread.onSpinWait();
+	}
+	final int slot = registerWaiter();
+	try {
+	    while((count = counter.get()) <= mark) {
+		final long remaining = deadline - System.nanoTime();
+		if(remaining <= 0)
+		    throw new TimeoutException("Edge count did not pass "+mark+" within "+timeoutNanos+"ns");
+		LockSupport.parkNanos(this, remaining);
+		if(Thread.interrupted())
+		    throw new InterruptedException();
+	    }
+	    return count;
+	} finally {
+	    waiters.set(slot, null);
+	}
+    }//end awaitCount(...)
+
+    private int registerWaiter() {
+	final Thread current = Thread.currentThread();
+	for(int i = 0; i < MAX_WAITERS; i++)
+	    if(waiters.compareAndSet(i, null, current))
+		return i;
+	throw new IllegalStateException("More than "+MAX_WAITERS+" threads are awaiting edges of the same input.");
+    }
+
+    /**
+     *
+     * @return The total number of falling edges counted since construction.
+     * @since Oct 18, 2026
+     */
+    public long getFallingEdgeCount() {
+	return fallingEdges.get();
+    }
+
+    /**
+     *
+     * @return The total number of rising edges counted since construction.
+     * @since Oct 18, 2026
+     */
+    public long getRisingEdgeCount() {
+	return risingEdges.get();
+    }
+
+    /**
+     *
+     * @return System.nanoTime() of the most recent falling edge, or 0 if none yet.
+     * @since Oct 18, 2026
+     */
+    public long getLastFallingEdgeNanos() {
+	return lastFallingEdgeNanos;
+    }
+
+    /**
+     *
+     * @return System.nanoTime() of the most recent rising edge, or 0 if none yet.
+     * @since Oct 18, 2026
+     */
+    public long getLastRisingEdgeNanos() {
+	return lastRisingEdgeNanos;
+    }
+
+    /**
+     * Query the last end-state received.
+     * @return true if last state was HIGH, false if last state was LOW.
+     * @since Oct 18, 2026
+     */
+    public boolean getLastReceivedState() {
+	return lastReceivedState;
+    }
+
+    /**
+     *
+     * @return The input assigned to this counter's constructor, or null if edges are recorded manually.
+     * @since Oct 18, 2026
+     */
+    public DigitalInput getInputToMonitor() {
+	return inputToMonitor;
+    }
+
+    public long getSpinNanos() {
+	return spinNanos;
+    }
+
+    /**
+     * Specify how long a waiter should busy-wait for the edge before parking. Spinning trades CPU
+     * time for wake-up latency, which on a Pi is otherwise dominated by the scheduler.
+     * @param spinNanos Nanoseconds to spin, 0 to park immediately.
+     * @since Oct 18, 2026
+     */
+    public void setSpinNanos(long spinNanos) {
+	this.spinNanos = spinNanos;
+    }
+}//end DigitalEdgeCounter
@@ -0,0 +1,144 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  DigitalEdgeCounterTest.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.gpio;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeoutException;
+
+import com.pi4j.context.Context;
+import com.pi4j.devices.ads1256.sim.ADS1256Simulator;
+import com.pi4j.devices.ads1256.sim.SimulatedDigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInput;
+
+/**
+ * Hardware-free exercise of DigitalEdgeCounter. A simulated DRDY-like input toggles at a fixed rate
+ * (30kHz by default) on one thread while another thread awaits every falling edge, as a streaming
+ * ADC reader would. The input is a SimulatedDigitalInput from the ADS1256 simulator's Context, so edges
+ * reach the counter through its listener registration and state change dispatch, as DRDY edges do.
+ * Reports the wake-up latency distribution and the number of edges which passed while the waiter was
+ * busy (overruns, which depend on the number of available cores).<br>
+ * Exits with status 1 if the counter lost an edge, the waiter failed to observe the final count, or
+ * the counter still counted after release().
+ *
+ * parms: [edgeRateHz] [numEdges] [spinNanos]
+ * @author Chuck Ritola
+ *
+ */
+public class DigitalEdgeCounterTest {
+    //The simulator's own pins, and the otherwise unused address of the toggled input
+    private static final int SIM_DRDY_PIN = 17, SIM_CS_PIN = 22, SIM_RST_PIN = 18, EDGE_PIN = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+	final double edgeRateHz = args.length > 0 ? Double.parseDouble(args[0]) : 30_000;
+	final int numEdges = args.length > 1 ? Integer.parseInt(args[1]) : 30_000;
+	final long spinNanos = args.length > 2 ? Long.parseLong(args[2]) : 20_000;
+	final long periodNanos = (long)(1E9 / edgeRateHz);
+
+	final ADS1256Simulator simulator = new ADS1256Simulator(SIM_DRDY_PIN, SIM_CS_PIN, SIM_RST_PIN);
+	final Context pi4j = simulator.newContext();
+	final SimulatedDigitalInput input = pi4j.create(DigitalInput.newConfigBuilder(pi4j)
+		.id("EDGE_pin" + EDGE_PIN)
+		.name("Simulated DRDY")
+		.address(EDGE_PIN)
+		.provider(ADS1256Simulator.DIGITAL_INPUT_PROVIDER_ID));
+	input.setState(true);
+	final DigitalEdgeCounter counter = new DigitalEdgeCounter(input);
+	counter.setSpinNanos(spinNanos);
+	final long [] latencies = new long[numEdges];
+	final long [] overruns = new long[1];
+	final int [] received = new int[1];
+	final long [] finalMark = new long[1];
+
+	final Thread waiter = new Thread(()->{
+	    long mark = counter.getFallingEdgeCount();
+	    try {
+		while(mark < numEdges) {
+		    final long count = counter.awaitFallingEdge(mark, 1_000_000_000L);
+		    latencies[received[0]++] = System.nanoTime() - counter.getLastFallingEdgeNanos();
+		    overruns[0] += count - mark - 1;
+		    mark = count;
+		}
+	    } catch(InterruptedException | TimeoutException e) {
+		System.out.println("Waiter stopped after "+received[0]+" wake-ups: "+e);
+	    }
+	    finalMark[0] = mark;
+	}, "EdgeWaiter");
+	waiter.start();
+	Thread.sleep(100);//Let waiter park
+
+	if(Runtime.getRuntime().availableProcessors() < 2)
+	    System.out.println("WARNING: Only one processor available; expect overruns as the waiter competes with the simulated input.");
+	System.out.println("Simulating "+numEdges+" DRDY periods at "+edgeRateHz+"Hz, waiter spin "+spinNanos+"ns");
+	final long start = System.nanoTime();
+	long next = start;
+	for(int i = 0; i < numEdges; i++) {
+	    next += periodNanos / 2;
+	    while(System.nanoTime() - next < 0)
+		Thread.onSpinWait();
+	    input.setState(false);
+	    next += periodNanos / 2;
+	    while(System.nanoTime() - next < 0)
+		Thread.onSpinWait();
+	    input.setState(true);
+	}
+	final long elapsed = System.nanoTime() - start;
+	waiter.join(2000);
+	waiter.interrupt();
+
+	final int n = received[0];
+	final long [] sorted = Arrays.copyOf(latencies, n);
+	Arrays.sort(sorted);
+	System.out.println("Achieved edge rate: "+(numEdges * 1E9 / elapsed)+"Hz");
+	System.out.println("Falling edges counted: "+counter.getFallingEdgeCount()+" observed by waiter: "+finalMark[0]+
+		" wake-ups: "+n+" overruns: "+overruns[0]);
+	if(n > 0) {
+	    System.out.println("Wake latency ns  min: "+sorted[0]+"  median: "+sorted[n/2]+
+		    "  p99: "+sorted[(int)(n*.99)]+"  max: "+sorted[n-1]);
+	}
+
+	//Once released, the counter no longer receives the input's edges
+	counter.release();
+	input.setState(false);
+	input.setState(true);
+	final boolean releasedCleanly = counter.getFallingEdgeCount() == numEdges;
+	if(!releasedCleanly)
+	    System.out.println("Counter still counted edges after release()");
+	simulator.shutdown();
+	pi4j.shutdown();
+	System.exit(counter.getFallingEdgeCount() == numEdges && finalMark[0] == numEdges && releasedCleanly ? 0 : 1);
+    }//end main()
+}//end DigitalEdgeCounterTest
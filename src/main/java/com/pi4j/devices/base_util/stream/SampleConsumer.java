@@ -0,0 +1,55 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SampleConsumer.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.stream;
+
+/**
+ * Receives timestamped samples drained from a SampleRingBuffer, without boxing.
+ *
+ * @author Chuck Ritola
+ *
+ */
+@FunctionalInterface
+public interface SampleConsumer {
+    /**
+     * Accept one sample.
+     * @param timestampNanos System.nanoTime() based timestamp supplied by the producer
+     * @param value The sample value, e.g. a sign-extended ADC conversion
+     * @since Oct 18, 2026
+     */
+    void accept(long timestampNanos, int value);
+}//end SampleConsumer
@@ -0,0 +1,435 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SampleRingBuffer.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.base_util.stream;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free single-producer, single-consumer ring buffer of timestamped int samples, such as ADC conversions.
+ * Each sample may also carry an int tag, such as a packed channel and gain, making a compact primitive record
+ * of (timestamp, value, tag).
+ *
+ * Samples are held in primitive arrays, so neither publishing nor draining allocates. One producer thread,
+ * typically a DRDY-driven acquisition loop, publishes with offer(...) or put(...), and one consumer thread drains
+ * batches with drain(...), optionally blocking in awaitSamples(...) first. Neither side takes a lock; the only
+ * state written by both threads' counterparts is a pair of sequence counters.
+ *
+ * When the buffer is full the OverflowPolicy decides which side gives way. OVERWRITE_OLDEST discards the oldest
+ * unread samples so that acquisition never stalls; the consumer detects and skips them when it next drains.
+ * BACK_PRESSURE refuses (offer) or blocks (put) the producer until the consumer has made room. Either way the
+ * samples lost are counted by getLostSampleCount().
+ *
+ * The producer calls close() once it will publish no more, after which awaitSamples(...) returns false as soon
+ * as the buffer is empty.
+ *
+ * @author Chuck Ritola
+ *
+ */
+
+public final class SampleRingBuffer {
+    public enum OverflowPolicy {
+	/**
+	 * Discard the oldest unread samples to make room. The producer never waits.
+	 */
+	OVERWRITE_OLDEST,
+	/**
+	 * Refuse or block the producer until the consumer has made room. No published sample is discarded.
+	 */
+	BACK_PRESSURE
+    }
+
+    private final OverflowPolicy policy;
+    private final int capacity, mask;
+    private final long [] timestamps;
+    private final int [] values;
+    private final int [] tags;
+    private final AtomicLong head = new AtomicLong();//Sequence of the next sample to drain. Written by the consumer.
+    private final AtomicLong tail = new AtomicLong();//Sequence of the next sample to publish. Written by the producer.
+    private final AtomicLong lostSamples = new AtomicLong();
+    private long producerHead = 0;//Producer's last view of head, to avoid reading it on every publish
+    private volatile long consumerWakeSequence = Long.MAX_VALUE;
+    private volatile Thread consumerWaiter, producerWaiter;
+    private volatile boolean closed = false;
+
+    /**
+     *
+     * @param minimumCapacity Number of samples to hold, rounded up to the next power of two.
+     * @param policy What to do when a sample is published to a full buffer.
+     * @since Oct 18, 2026
+     */
+    public SampleRingBuffer(int minimumCapacity, OverflowPolicy policy) {
+	if(minimumCapacity < 1 || minimumCapacity > 1 << 30)
+	    throw new IllegalArgumentException("Capacity must be in range [1,2^30]. Got "+minimumCapacity);
+	if(policy == null)
+	    throw new NullPointerException("policy must not be null.");
+	this.policy = policy;
+	this.capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+	this.mask = capacity - 1;
+	this.timestamps = new long[capacity];
+	this.values = new int[capacity];
+	this.tags = new int[capacity];
+    }//end constructor
+
+    ////// Producer //////
+
+    /**
+     * Publish a sample without blocking. Producer thread only.
+     * @param timestampNanos
+     * @param value
+     * @return true if published. false only under BACK_PRESSURE when the buffer is full, in which case the sample is counted as lost.
+     * @throws IllegalStateException if the buffer has been closed
+     * @since Oct 18, 2026
+     */
+    public boolean offer(long timestampNanos, int value) {
+	return offer(timestampNanos, value, 0);
+    }
+
+    /**
+     * Publish a tagged sample without blocking. Producer thread only.
+     * @param timestampNanos
+     * @param value
+     * @param tag
+     * @return true if published. false only under BACK_PRESSURE when the buffer is full, in which case the sample is counted as lost.
+     * @throws IllegalStateException if the buffer has been closed
+     * @since Oct 18, 2026
+     */
+    public boolean offer(long timestampNanos, int value, int tag) {
+	if(tryPublish(timestampNanos, value, tag))
+	    return true;
+	lostSamples.incrementAndGet();
+	return false;
+    }//end offer(...)
+
+    /**
+     * Publish a sample, waiting for the consumer to make room if the policy is BACK_PRESSURE. Producer thread only.
+     * @param timestampNanos
+     * @param value
+     * @throws InterruptedException If interrupted while waiting for room, in which case the sample was not published.
+     * @throws IllegalStateException if the buffer has been closed
+     * @since Oct 18, 2026
+     */
+    public void put(long timestampNanos, int value) throws InterruptedException {
+	put(timestampNanos, value, 0);
+    }
+
+    /**
+     * Publish a tagged sample, waiting for the consumer to make room if the policy is BACK_PRESSURE. Producer thread only.
+     * @param timestampNanos
+     * @param value
+     * @param tag
+     * @throws InterruptedException If interrupted while waiting for room, in which case the sample was not published.
+     * @throws IllegalStateException if the buffer has been closed
+     * @since Oct 18, 2026
+     */
+    public void put(long timestampNanos, int value, int tag) throws InterruptedException {
+	if(tryPublish(timestampNanos, value, tag))
+	    return;
+	producerWaiter = Thread.currentThread();
+	try {
+	    while(!tryPublish(timestampNanos, value, tag)) {
+		LockSupport.park(this);
+		if(Thread.interrupted())
+		    throw new InterruptedException();
+	    }
+	} finally {producerWaiter = null;}
+    }//end put(...)
+
+    private boolean tryPublish(long timestampNanos, int value, int tag) {
+	if(closed)
+	    throw new IllegalStateException("Cannot publish to a closed SampleRingBuffer.");
+	final long t = tail.get();
+	if(policy == OverflowPolicy.BACK_PRESSURE) {
+	    if(t - producerHead >= capacity && t - (producerHead = head.get()) >= capacity)
+		return false;
+	} else
+	    VarHandle.storeStoreFence();//The previous publication must be seen before this overwrite, see drain(...)
+	final int slot = (int)t & mask;
+	timestamps[slot] = timestampNanos;
+	values[slot] = value;
+	tags[slot] = tag;
+	tail.set(t + 1);
+	final Thread waiter = consumerWaiter;
+	if(waiter != null && t + 1 >= consumerWakeSequence)
+	    LockSupport.unpark(waiter);
+	return true;
+    }//end tryPublish(...)
+
+    /**
+     * Signal that no more samples will be published and wake a waiting consumer. Producer thread only.
+     * Samples already published remain available to drain.
+     * @since Oct 18, 2026
+     */
+    public void close() {
+	closed = true;
+	final Thread waiter = consumerWaiter;
+	if(waiter != null)
+	    LockSupport.unpark(waiter);
+    }//end close()
+
+    ////// Consumer //////
+
+    /**
+     * Block until at least one sample is available. Consumer thread only.
+     * @param timeoutNanos
+     * @return true if samples are available, false if timed out or closed and empty.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    public boolean awaitSamples(long timeoutNanos) throws InterruptedException {
+	return awaitSamples(1, timeoutNanos);
+    }
+
+    /**
+     * Block until at least the specified number of samples is available, so that the consumer
+     * wakes once per batch rather than once per sample. Consumer thread only.
+     * @param minimumSamples Number of samples to await, limited to the capacity.
+     * @param timeoutNanos
+     * @return true if at least minimumSamples are available. false if timed out, or if closed with fewer available, in which case the remainder may still be drained.
+     * @throws InterruptedException
+     * @since Oct 18, 2026
+     */
+    public boolean awaitSamples(int minimumSamples, long timeoutNanos) throws InterruptedException {
+	final long wakeSequence = head.get() + Math.max(1, Math.min(minimumSamples, capacity));
+	if(tail.get() >= wakeSequence)
+	    return true;
+	final long deadline = System.nanoTime() + timeoutNanos;
+	consumerWakeSequence = wakeSequence;
+	consumerWaiter = Thread.currentThread();
+	try {
+	    while(tail.get() < wakeSequence) {
+		final long remaining = deadline - System.nanoTime();
+		if(closed || remaining <= 0)
+		    return tail.get() >= wakeSequence;
+		LockSupport.parkNanos(this, remaining);
+		if(Thread.interrupted())
+		    throw new InterruptedException();
+	    }
+	    return true;
+	} finally {
+	    consumerWaiter = null;
+	    consumerWakeSequence = Long.MAX_VALUE;
+	}
+    }//end awaitSamples(...)
+
+    /**
+     * Copy up to maxSamples of the oldest unread samples into the caller's arrays and release their slots. Does not block.
+     * Consumer thread only.
+     * @param timestampsOut Receives the timestamps, or null if not wanted.
+     * @param valuesOut Receives the values.
+     * @param offset Index in the output arrays of the first sample.
+     * @param maxSamples
+     * @return The number of samples copied, possibly 0.
+     * @since Oct 18, 2026
+     */
+    public int drain(long [] timestampsOut, int [] valuesOut, int offset, int maxSamples) {
+	return drain(timestampsOut, valuesOut, null, offset, maxSamples);
+    }
+
+    /**
+     * Copy up to maxSamples of the oldest unread samples and their tags into the caller's arrays and release their slots.
+     * Does not block. Consumer thread only.
+     * @param timestampsOut Receives the timestamps, or null if not wanted.
+     * @param valuesOut Receives the values.
+     * @param tagsOut Receives the tags, or null if not wanted.
+     * @param offset Index in the output arrays of the first sample.
+     * @param maxSamples
+     * @return The number of samples copied, possibly 0.
+     * @since Oct 18, 2026
+     */
+    public int drain(long [] timestampsOut, int [] valuesOut, int [] tagsOut, int offset, int maxSamples) {
+	Objects.checkFromIndexSize(offset, maxSamples, valuesOut.length);
+	if(timestampsOut != null)
+	    Objects.checkFromIndexSize(offset, maxSamples, timestampsOut.length);
+	if(tagsOut != null)
+	    Objects.checkFromIndexSize(offset, maxSamples, tagsOut.length);
+	final long t = tail.get();
+	final long h = skipOverwritten(head.get(), t);
+	final int n = (int)Math.min(t - h, maxSamples);
+	if(n <= 0)
+	    return 0;
+	final int slot = (int)h & mask;
+	copyLane(values, slot, valuesOut, offset, n);
+	if(timestampsOut != null)
+	    copyLane(timestamps, slot, timestampsOut, offset, n);
+	if(tagsOut != null)
+	    copyLane(tags, slot, tagsOut, offset, n);
+	int valid = n;
+	if(policy == OverflowPolicy.OVERWRITE_OLDEST) {
+	    //Any copied sample which the producer may since have begun to overwrite is discarded
+	    VarHandle.loadLoadFence();
+	    final long suspect = tail.get() - capacity + 1 - h;
+	    if(suspect > 0) {
+		final int discard = (int)Math.min(suspect, n);
+		lostSamples.addAndGet(discard);
+		valid = n - discard;
+		System.arraycopy(valuesOut, offset + discard, valuesOut, offset, valid);
+		if(timestampsOut != null)
+		    System.arraycopy(timestampsOut, offset + discard, timestampsOut, offset, valid);
+		if(tagsOut != null)
+		    System.arraycopy(tagsOut, offset + discard, tagsOut, offset, valid);
+	    }
+	}
+	release(h + n);
+	return valid;
+    }//end drain(...)
+
+    /**
+     * Hand up to maxSamples of the oldest unread samples to the consumer, in order, and release their slots. Does not block.
+     * Consumer thread only.
+     * @param consumer
+     * @param maxSamples
+     * @return The number of samples handed to the consumer, possibly 0.
+     * @since Oct 18, 2026
+     */
+    public int drain(SampleConsumer consumer, int maxSamples) {
+	return drainTo(consumer, null, maxSamples);
+    }
+
+    /**
+     * Hand up to maxSamples of the oldest unread samples, with their tags, to the consumer, in order, and release their slots.
+     * Does not block. Consumer thread only.
+     * @param consumer
+     * @param maxSamples
+     * @return The number of samples handed to the consumer, possibly 0.
+     * @since Oct 18, 2026
+     */
+    public int drain(SampleRecordConsumer consumer, int maxSamples) {
+	return drainTo(null, consumer, maxSamples);
+    }
+
+    private int drainTo(SampleConsumer sampleConsumer, SampleRecordConsumer recordConsumer, int maxSamples) {
+	final long t = tail.get();
+	final long h = skipOverwritten(head.get(), t);
+	final int n = (int)Math.min(t - h, maxSamples);
+	if(n <= 0)
+	    return 0;
+	int delivered = 0;
+	for(long sequence = h; sequence < h + n; sequence++) {
+	    final int slot = (int)sequence & mask;
+	    final long timestamp = timestamps[slot];
+	    final int value = values[slot];
+	    final int tag = tags[slot];
+	    if(policy == OverflowPolicy.OVERWRITE_OLDEST) {
+		VarHandle.loadLoadFence();
+		if(tail.get() - capacity >= sequence) {
+		    lostSamples.incrementAndGet();
+		    continue;
+		}
+	    }
+	    if(recordConsumer != null)
+		recordConsumer.accept(timestamp, value, tag);
+	    else
+		sampleConsumer.accept(timestamp, value);
+	    delivered++;
+	}
+	release(h + n);
+	return delivered;
+    }//end drainTo(...)
+
+    /**
+     * Copy n elements of a lane starting at a slot, wrapping at the end of the lane.
+     */
+    private void copyLane(Object lane, int slot, Object out, int offset, int n) {
+	final int firstPart = Math.min(n, capacity - slot);
+	System.arraycopy(lane, slot, out, offset, firstPart);
+	System.arraycopy(lane, 0, out, offset + firstPart, n - firstPart);
+    }
+
+    /**
+     * Under OVERWRITE_OLDEST, advance past samples which the producer has already lapped.
+     */
+    private long skipOverwritten(long h, long t) {
+	if(t - h <= capacity)
+	    return h;
+	lostSamples.addAndGet(t - capacity - h);
+	return t - capacity;
+    }
+
+    private void release(long newHead) {
+	head.set(newHead);
+	final Thread waiter = producerWaiter;
+	if(waiter != null)
+	    LockSupport.unpark(waiter);
+    }
+
+    ////// Status //////
+
+    /**
+     *
+     * @return The number of unread samples, at most the capacity.
+     * @since Oct 18, 2026
+     */
+    public int size() {
+	final long h = head.get();
+	return (int)Math.min(tail.get() - h, capacity);
+    }
+
+    public int getCapacity() {
+	return capacity;
+    }
+
+    public OverflowPolicy getPolicy() {
+	return policy;
+    }
+
+    /**
+     *
+     * @return The total number of samples ever published.
+     * @since Oct 18, 2026
+     */
+    public long getPublishedCount() {
+	return tail.get();
+    }
+
+    /**
+     * Samples refused under BACK_PRESSURE are counted when refused. Samples overwritten under
+     * OVERWRITE_OLDEST are counted when the consumer next drains.
+     * @return The total number of samples lost to overflow.
+     * @since Oct 18, 2026
+     */
+    public long getLostSampleCount() {
+	return lostSamples.get();
+    }
+
+    public boolean isClosed() {
+	return closed;
+    }
+}//end SampleRingBuffer
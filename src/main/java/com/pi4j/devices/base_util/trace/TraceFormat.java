@@ -0,0 +1,113 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  TraceFormat.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+package com.pi4j.devices.base_util.trace;
+
+import java.util.Objects;
+
+/**
+ * Deferred formatting of trace message arguments for the hot paths of device drivers. Each method returns a small
+ * object whose toString() does the formatting, for use as an SLF4J {} argument:<br>
+ * <code>logger.trace("sendCmd {}", TraceFormat.hex(cmd, 2));</code><br>
+ * The message and its arguments are then only formatted if the logger's level is enabled. Where a statement is on
+ * a path taken per byte, sample or frame, also guard it with logger.isTraceEnabled(), so that a disabled statement
+ * costs one level check and no allocation. String concatenation and String.format in a hot-path log argument are
+ * evaluated whether or not anything is logged, so they should not be used there.
+ *
+ * @author Chuck Ritola
+ *
+ */
+public final class TraceFormat {
+    private static final char [] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private TraceFormat() {}
+
+    /**
+     * Hexadecimal form of a value, e.g. hex(0x3F, 2) gives 0x3f. Only the low digits*4 bits are shown, so a
+     * negative byte prints as two digits rather than eight.
+     * @param value
+     * @param digits Number of hex digits to show, at most 16
+     * @return Object whose toString() is the formatted value
+     * @since Oct 18, 2026
+     */
+    public static Object hex(long value, int digits) {
+	if(digits < 1 || digits > 16)
+	    throw new IllegalArgumentException("Digits must be in range [1,16]. Got "+digits);
+	return new Object() {
+	    @Override
+	    public String toString() {
+		final StringBuilder sb = new StringBuilder(digits + 2).append("0x");
+		appendHex(sb, value, digits);
+		return sb.toString();
+	    }
+	};
+    }//end hex(...)
+
+    /**
+     * Hex dump of a byte range, 16 bytes per line, each line labeled with the index of its first byte
+     * relative to offset.
+     * @param data
+     * @param offset Index of the first byte to dump
+     * @param length Number of bytes to dump
+     * @return Object whose toString() is the formatted dump, beginning with a column heading line
+     * @since Oct 18, 2026
+     */
+    public static Object hexDump(byte [] data, int offset, int length) {
+	Objects.checkFromIndexSize(offset, length, data.length);
+	return new Object() {
+	    @Override
+	    public String toString() {
+		final StringBuilder sb = new StringBuilder(64 + length * 4)
+			.append("\n       0  1  2  3  4  5  6  7  8  9  a  b  c  d  e  f");
+		for(int i = 0; i < length; i++) {
+		    if(i % 16 == 0) {
+			sb.append('\n');
+			appendHex(sb, i, 4);
+			sb.append(':');
+		    }
+		    sb.append(' ');
+		    appendHex(sb, data[offset + i], 2);
+		}
+		return sb.toString();
+	    }
+	};
+    }//end hexDump(...)
+
+    private static void appendHex(StringBuilder sb, long value, int digits) {
+	for(int shift = (digits - 1) * 4; shift >= 0; shift -= 4)
+	    sb.append(HEX_DIGITS[(int)(value >>> shift) & 0xF]);
+    }
+}//end TraceFormat
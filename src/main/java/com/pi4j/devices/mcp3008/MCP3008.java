@@ -10,6 +10,8 @@ import com.pi4j.util.Console;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Objects;
+
 public class MCP3008 {
 
 
@@ -98,7 +100,9 @@ public class MCP3008 {
         if (doallChannels) {
             for (short channel = 0; channel < this.pinCount; channel++) {
                 int conversion_value = getConversionValue(channel);
-                this.logger.trace("Channel  :" + channel + "  value  :" + String.format(" | %04d", conversion_value)); // print
+                if (this.logger.isTraceEnabled()) {
+                    this.logger.trace("Channel  :{}  value  : | {}", channel, String.format("%04d", conversion_value)); // print
+                }
                 Thread.sleep(500);
                 // 4
                 // digits
@@ -108,7 +112,9 @@ public class MCP3008 {
             }
         } else {
             int conversion_value = getConversionValue(thisChannel);
-            this.logger.trace("Channel  :" + channel + "  value  :" + String.format(" | %04d", conversion_value)); // print
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace("Channel  :{}  value  : | {}", channel, String.format("%04d", conversion_value)); // print
+            }
         }
         this.logger.trace(" |\r");
         Thread.sleep(1000);
@@ -125,37 +131,68 @@ public class MCP3008 {
      * @throws IOException
      */
     public int getConversionValue(short channel) throws IOException {
-        this.logger.trace(">>> Enter getConversionValue  channel : " + channel);
-
-        // create a data buffer and initialize a conversion request payload
-        byte[] data = new byte[]{(byte) 0b00000001, // first byte, start bit
-            (byte) (0b10000000 | (((channel & 7) << 4))), // second byte
-            // transmitted
-            // -> (SGL/DIF =
-            // 1,
-            // D2=D1=D0=0)
-            (byte) 0b00000000 // third byte transmitted....don't care
-        };
-
-        // send conversion request to ADC chip via SPI channel
-        //int bytesWritten = this.spi.write(data);
-        byte[] value = new byte[3];
-        int bytesRead = this.spi.transfer(data, 0, value, 0, 3);
-
-
-        // calculate and return conversion value from result bytes
-        int result = (value[1] << 8) & 0b1100000000; // merge value[1] & value[2]
-        // to get 10-bit result
-        result |= (value[2] & 0xff);
-        this.logger.info("Channel : " + channel + "   Bytes read : " + bytesRead + "  Value : " + result);
-        if (this.vref > 0) {
-            this.logger.info("A/D read input voltage : " + ((result * this.vref) / 1024 + " \n"));
+        this.logger.trace(">>> Enter getConversionValue  channel : {}", channel);
+
+        int bytesRead = transferConversion(channel);
+        int result = decodeConversion(this.rxBuffer);
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Channel : {}   Bytes read : {}  Value : {}", channel, bytesRead, result);
+            if (this.vref > 0) {
+                this.logger.info("A/D read input voltage : {} \n", (result * this.vref) / 1024);
+            }
         }
         this.logger.trace("<<< Exit getConversionValue ");
 
         return result;
     }
 
+    /**
+     * Convert each channel of a batch once, without logging, and decode the 10-bit results in one pass.
+     * The MCP3008 starts a conversion only on a falling edge of CS, so each conversion is still a transfer of its own,
+     * issued back-to-back from the batch's prepared request frames.
+     *
+     * @param batch  conversions to perform
+     * @param out    destination of the conversion values, in batch order
+     * @param offset index in out of the first value
+     */
+    public void readBatch(MCP3008Batch batch, int[] out, int offset) {
+        if (batch.getHighestChannel() >= this.pinCount) {
+            throw new IllegalArgumentException("Batch channel out of range of [0," + (this.pinCount - 1) + "]. Got " + batch.getHighestChannel());
+        }
+        Objects.checkFromIndexSize(offset, batch.size(), out.length);
+        final byte[] tx = batch.getTxFrames();
+        final byte[] rx = batch.getRxFrames();
+        for (int position = 0; position < tx.length; position += MCP3008Batch.FRAME_LENGTH) {
+            this.spi.transfer(tx, position, rx, position, MCP3008Batch.FRAME_LENGTH);
+        }
+        batch.decode(out, offset);
+    }
+
+    /**
+     * Single-ended conversion of the specified channel without logging, reusing the transfer buffers.
+     * Not safe for concurrent use with other reads of this instance.
+     *
+     * @param channel analog input channel on ADC chip
+     * @return 10-bit conversion value
+     */
+    int convert(int channel) {
+        transferConversion(channel);
+        return decodeConversion(this.rxBuffer);
+    }
+
+    private int transferConversion(int channel) {
+        // conversion request payload: start bit, then SGL/DIF = 1 and D2..D0 = channel, then don't care
+        this.txBuffer[1] = (byte) (0b10000000 | ((channel & 7) << 4));
+        return this.spi.transfer(this.txBuffer, 0, this.rxBuffer, 0, 3);
+    }
+
+    /**
+     * Merge the 10-bit result from the last two bytes clocked out during a conversion request.
+     */
+    static int decodeConversion(byte[] value) {
+        return ((value[1] & 0b11) << 8) | (value[2] & 0xff);
+    }
+
     // SPI device
     //  public SpiDevice spi;
 
@@ -165,6 +202,8 @@ public class MCP3008 {
     private boolean doallChannels = false;
     private short channel;
     private Spi spi;
+    private final byte[] txBuffer = new byte[]{(byte) 0b00000001, 0, 0};
+    private final byte[] rxBuffer = new byte[3];
     private final Console console;
     private final String traceLevel;
     private final Logger logger;
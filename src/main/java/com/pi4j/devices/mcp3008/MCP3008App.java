@@ -2,6 +2,8 @@ package com.pi4j.devices.mcp3008;
 
 import com.pi4j.Pi4J;
 import com.pi4j.context.Context;
+import com.pi4j.devices.base_util.stream.SampleRingBuffer;
+import com.pi4j.devices.base_util.stream.SampleRingBuffer.OverflowPolicy;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.spi.SpiBus;
 import com.pi4j.io.spi.SpiChipSelect;
@@ -17,6 +19,7 @@ public class MCP3008App {
         Context pi4j = Pi4J.newAutoContext();
         boolean doAll = true;
         short pinNumber = 0;
+        boolean scan = false;
 
         double vref = 0;
 
@@ -27,7 +30,8 @@ public class MCP3008App {
         String helpString = " parms: -p HEX value pinToRead  <if not supplied all pins read  " +
             "  -c HEX value chip select   -vref decimal reference voltage " +
             "-s HEX value SPI #  -t  trace values : \"trace\", \"debug\", \"info\", \"warn\", \"error\" \n " +
-            " or \"off\"  Default \"info\"";
+            " or \"off\"  Default \"info\"\n" +
+            "  -scan Sample the -p pin or all pins back-to-back as fast as possible, printing a summary each second";
 
         String traceLevel = "info";
         for (int i = 0; i < args.length; i++) {
@@ -64,6 +68,8 @@ public class MCP3008App {
                     console.println("Changing trace level invalid  : " + traceLevel);
                     System.exit(41);
                 }
+            } else if (o.contentEquals("-scan")) {
+                scan = true;
             } else if (o.contentEquals("-h")) {
                 console.println(helpString);
                 System.exit(41);
@@ -85,6 +91,45 @@ public class MCP3008App {
         MCP3008 spiCls = new MCP3008(pi4j, spiBus, chipSelect, pinCount, console, traceLevel, vref);
 
         spiCls.displayProgramID();
+        if (scan) {
+            int[] channels = new int[doAll ? pinCount : 1];
+            for (int c = 0; c < channels.length; c++) {
+                channels[c] = doAll ? c : pinNumber;
+            }
+            MCP3008Sampler sampler = new MCP3008Sampler(spiCls, new SampleRingBuffer(1 << 16, OverflowPolicy.OVERWRITE_OLDEST), channels);
+            SampleRingBuffer buffer = sampler.getBuffer();
+            long[] timestamps = new long[4096];
+            int[] values = new int[4096];
+            int[] tags = new int[4096];
+            int[] latest = new int[pinCount];
+            sampler.start();
+            System.out.println("Press ENTER to end\n");
+            try {
+                while (sampler.isRunning() && (System.in.available() == 0 || System.in.read() != '\n')) {
+                    Thread.sleep(1000);
+                    long samples = 0;
+                    int n;
+                    while ((n = buffer.drain(timestamps, values, tags, 0, values.length)) > 0) {
+                        for (int s = 0; s < n; s++) {
+                            latest[tags[s]] = values[s];
+                        }
+                        samples += n;
+                    }
+                    StringBuilder line = new StringBuilder("\033[1Asamples/sec : " + samples + "  lost : " + buffer.getLostSampleCount() + "  values :");
+                    for (int channel : channels) {
+                        line.append(String.format(" %d:%04d", channel, latest[channel]));
+                    }
+                    System.out.println(line);
+                }
+            } catch (java.io.IOException e) {
+                e.printStackTrace();
+            }
+            sampler.stop();
+            if (sampler.getFailure() != null) {
+                sampler.getFailure().printStackTrace();
+            }
+            System.exit(0);
+        }
         spiCls.displayMCP3008State(doAll, pinNumber);
 
     }
@@ -0,0 +1,80 @@
+package com.pi4j.devices.mcp3008;
+
+/**
+ * Prepared list of single-ended conversions for MCP3008.readBatch(...). The 3-byte request frame of every conversion
+ * is packed into one transmit buffer when the batch is created, and the results land in one receive buffer which is
+ * decoded in a single pass, so reading a batch neither allocates nor rebuilds requests.<br>
+ * A batch holds its own receive buffer, so it may only be read by one thread at a time.
+ */
+public final class MCP3008Batch {
+    /**
+     * Bytes clocked per conversion
+     */
+    public static final int FRAME_LENGTH = 3;
+
+    /**
+     * @param channels channels to convert, in order. A channel may be listed more than once.
+     */
+    public MCP3008Batch(int... channels) {
+        super();
+        if (channels.length == 0) {
+            throw new IllegalArgumentException("At least one channel is required.");
+        }
+        this.channels = channels.clone();
+        this.txFrames = new byte[channels.length * FRAME_LENGTH];
+        this.rxFrames = new byte[channels.length * FRAME_LENGTH];
+        int highest = 0;
+        for (int i = 0; i < channels.length; i++) {
+            final int channel = channels[i];
+            if (channel < 0 || channel > 7) {
+                throw new IllegalArgumentException("Channel out of range of [0,7]. Got " + channel);
+            }
+            highest = Math.max(highest, channel);
+            // start bit, then SGL/DIF = 1 and D2..D0 = channel, then don't care
+            this.txFrames[i * FRAME_LENGTH] = (byte) 0b00000001;
+            this.txFrames[i * FRAME_LENGTH + 1] = (byte) (0b10000000 | (channel << 4));
+        }
+        this.highestChannel = highest;
+    }
+
+    /**
+     * Decode the 10-bit result of every conversion from the receive buffer.
+     */
+    void decode(int[] out, int offset) {
+        final byte[] rx = this.rxFrames;
+        for (int i = 0, position = 0; i < this.channels.length; i++, position += FRAME_LENGTH) {
+            out[offset + i] = ((rx[position + 1] & 0b11) << 8) | (rx[position + 2] & 0xff);
+        }
+    }
+
+    /**
+     * @return number of conversions in the batch
+     */
+    public int size() {
+        return this.channels.length;
+    }
+
+    /**
+     * @return copy of the channels in conversion order
+     */
+    public int[] getChannels() {
+        return this.channels.clone();
+    }
+
+    int getHighestChannel() {
+        return this.highestChannel;
+    }
+
+    byte[] getTxFrames() {
+        return this.txFrames;
+    }
+
+    byte[] getRxFrames() {
+        return this.rxFrames;
+    }
+
+    private final int[] channels;
+    private final int highestChannel;
+    private final byte[] txFrames;
+    private final byte[] rxFrames;
+}
@@ -0,0 +1,145 @@
+package com.pi4j.devices.mcp3008;
+
+import com.pi4j.devices.base_util.stream.SampleRingBuffer;
+
+/**
+ * Scans a list of MCP3008 channels back-to-back into a SampleRingBuffer from a dedicated acquisition thread.
+ * Conversions are issued one after another with no delay or logging between them and reuse the MCP3008's
+ * transfer buffers, so the sample rate is limited only by the SPI transfers themselves.<br>
+ * Each sample is published with the System.nanoTime() at which its transfer completed and its channel number as the
+ * tag, so a consumer can demultiplex the channels with SampleRingBuffer.drain(timestamps, values, tags, ...).<br>
+ * The buffer's OverflowPolicy decides what happens when the consumer falls behind: OVERWRITE_OLDEST keeps
+ * scanning and discards the oldest samples, BACK_PRESSURE stalls the scan. The buffer is closed when sampling ends.<br>
+ * While running, the sampler is the only user of the MCP3008; other reads of it must wait until stop().
+ */
+public class MCP3008Sampler {
+
+    /**
+     * @param adc      chip to sample
+     * @param buffer   destination of the samples
+     * @param channels channels to convert, in scan order. A channel may be listed more than once to sample it more often.
+     */
+    public MCP3008Sampler(MCP3008 adc, SampleRingBuffer buffer, int... channels) {
+        super();
+        if (adc == null || buffer == null) {
+            throw new NullPointerException("adc and buffer must not be null.");
+        }
+        if (channels.length == 0) {
+            throw new IllegalArgumentException("At least one channel is required.");
+        }
+        for (int channel : channels) {
+            if (channel < 0 || channel >= adc.pinCount) {
+                throw new IllegalArgumentException("Channel out of range of [0," + (adc.pinCount - 1) + "]. Got " + channel);
+            }
+        }
+        this.adc = adc;
+        this.buffer = buffer;
+        this.channels = channels.clone();
+        this.batch = new MCP3008Batch(channels);
+    }
+
+    /**
+     * Start scanning on a new acquisition thread. May only be called once, as the buffer is closed when sampling ends.
+     */
+    public synchronized void start() {
+        if (this.acquisitionThread != null) {
+            throw new IllegalStateException("This sampler has already been started.");
+        }
+        this.acquisitionThread = new Thread(() -> {
+            try {
+                while (!this.stopRequested) {
+                    for (int channel : this.channels) {
+                        final int value = this.adc.convert(channel);
+                        this.buffer.put(System.nanoTime(), value, channel);
+                    }
+                    this.scanCount++;
+                }
+            } catch (InterruptedException e) {
+            } catch (RuntimeException e) {
+                this.failure = e;
+            } finally {
+                this.buffer.close();
+            }
+        }, "MCP3008Sampler");
+        this.acquisitionThread.setDaemon(true);
+        this.acquisitionThread.setPriority(Thread.MAX_PRIORITY);
+        this.acquisitionThread.start();
+    }
+
+    /**
+     * End sampling and wait for the acquisition thread to finish. Samples already published remain in the buffer.
+     *
+     * @throws InterruptedException
+     */
+    public void stop() throws InterruptedException {
+        final Thread thread;
+        synchronized (this) {
+            thread = this.acquisitionThread;
+        }
+        if (thread == null) {
+            return;
+        }
+        this.stopRequested = true;
+        thread.interrupt();// In case it is blocked on a full buffer
+        thread.join();
+    }
+
+    /**
+     * Convert each channel of the scan list once, on the calling thread, without publishing. Uses
+     * MCP3008.readBatch(...), so the values are decoded together once the whole list has been converted.
+     * May not be used while the acquisition thread is running.
+     *
+     * @param frame destination of the conversion values, in scan order
+     */
+    public void scan(int[] frame) {
+        if (frame.length < this.channels.length) {
+            throw new IllegalArgumentException("Frame length " + frame.length + " is shorter than number of channels " + this.channels.length);
+        }
+        if (isRunning()) {
+            throw new IllegalStateException("Not permitted while sampling. Call stop() first.");
+        }
+        this.adc.readBatch(this.batch, frame, 0);
+    }
+
+    public boolean isRunning() {
+        final Thread thread;
+        synchronized (this) {
+            thread = this.acquisitionThread;
+        }
+        return thread != null && thread.isAlive();
+    }
+
+    public SampleRingBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * @return copy of the channels in scan order
+     */
+    public int[] getChannels() {
+        return this.channels.clone();
+    }
+
+    /**
+     * @return number of complete passes over the channel list since start()
+     */
+    public long getScanCount() {
+        return this.scanCount;
+    }
+
+    /**
+     * @return the exception which ended sampling, or null if none.
+     */
+    public RuntimeException getFailure() {
+        return this.failure;
+    }
+
+    private final MCP3008 adc;
+    private final SampleRingBuffer buffer;
+    private final int[] channels;
+    private final MCP3008Batch batch;
+    private Thread acquisitionThread;
+    private volatile boolean stopRequested = false;
+    private volatile long scanCount = 0;
+    private volatile RuntimeException failure;
+}
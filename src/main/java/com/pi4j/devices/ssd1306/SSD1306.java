@@ -74,6 +74,7 @@ After VCC become stable, send command AFh for display ON.
 
 
 import com.pi4j.context.Context;
+import com.pi4j.devices.base_util.trace.TraceFormat;
 import com.pi4j.devices.bmp280.BMP280Declares;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
@@ -103,10 +104,29 @@ public class SSD1306 {
      */
     public static final String I2C_PROVIDER_ID = ID + "-i2c";
 
+    /**
+     * Bytes of display RAM, 128 columns by 8 pages
+     */
+    public static final int GDDRAM_SIZE = 128 * 8;
+
 
     private final Logger logger;
     private final String traceLevel;
 
+    /**
+     * Data block sizes tried by probeBlockSize(...), smallest first
+     */
+    public static final int[] PROBE_BLOCK_SIZES = {16, 32, 64, 128, 256, 512, GDDRAM_SIZE};
+
+    // reusable transfer buffers: control byte plus the largest command or a full GDDRAM write
+    private final byte[] commandBuffer = new byte[4];
+    private final byte[] dataBuffer = new byte[GDDRAM_SIZE + 1];
+
+    // largest number of GDDRAM bytes sent in one I2C write, and throughput of the data writes
+    private int blockSize = GDDRAM_SIZE;
+    private long transferBytes = 0;
+    private long transferNanos = 0;
+
 
     // local/internal I2C reference for communication with hardware chip
     protected I2C i2c = null;
@@ -237,100 +257,236 @@ public class SSD1306 {
 
 
     public void sendCmd(byte cmd) {
-        this.logger.info("Enter: sendCmd  : " + String.format("0x%08x ", cmd));
-        byte[] cmdData = new byte[2];
-        cmdData[0] = SSD1306_Defines.WITH_ONE_COMMAND;
-        cmdData[1] = cmd;
-        this.i2c.write(cmdData);
-        this.logger.info("Exit: sendCmd");
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace("Enter: sendCmd  : {}", TraceFormat.hex(cmd, 2));
+        }
+        this.commandBuffer[0] = SSD1306_Defines.WITH_ONE_COMMAND;
+        this.commandBuffer[1] = cmd;
+        this.i2c.write(this.commandBuffer, 0, 2);
+        this.logger.trace("Exit: sendCmd");
     }
 
     public void sendCmdData(byte cmd, byte data) {
-        this.logger.info("Enter: sendCmdData  CMD: " + String.format("0x%08x ", cmd) + "  Data : " + String.format("0x%08x", data));
-        byte[] cmdData = new byte[3];
-        cmdData[0] = SSD1306_Defines.WITH_ONE_COMMAND;
-        cmdData[1] = cmd;
-        cmdData[2] = data;
-        this.i2c.write(cmdData);
-        this.logger.info("Exit: sendCmdData");
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace("Enter: sendCmdData  CMD: {}  Data : {}", TraceFormat.hex(cmd, 2), TraceFormat.hex(data, 2));
+        }
+        this.commandBuffer[0] = SSD1306_Defines.WITH_ONE_COMMAND;
+        this.commandBuffer[1] = cmd;
+        this.commandBuffer[2] = data;
+        this.i2c.write(this.commandBuffer, 0, 3);
+        this.logger.trace("Exit: sendCmdData");
     }
 
 
     private void sendData(byte[] dataArray, int arrayLength) {
-        this.logger.info("Enter: sendData  ");
-        byte[] cmdData = new byte[arrayLength + 1];
-        cmdData[0] = SSD1306_Defines.WITH_DATA_ONLY;
-        System.arraycopy(dataArray, 0, cmdData, 1, dataArray.length);
-        this.i2c.write(cmdData);
-        this.logger.info("Exit: sendData  ");
+        this.sendData(dataArray, 0, arrayLength);
+    }
+
+    /**
+     * Write bytes to GDDRAM at the current address, advancing it according to the memory address mode.
+     * The data is split into I2C writes of at most getBlockSize() bytes, each preceded by its own WITH_DATA_ONLY
+     * control byte, so the display sees one continuous stream while the adapter never gets a write larger than it
+     * handles. Blocks are staged in a reusable buffer, so no allocation is made per call.
+     *
+     * @param dataArray bytes to write
+     * @param offset    index of the first byte to write
+     * @param length    number of bytes to write
+     */
+    protected void sendData(byte[] dataArray, int offset, int length) {
+        this.logger.trace("Enter: sendData  ");
+        final long start = System.nanoTime();
+        final byte[] block = this.dataBuffer;
+        block[0] = SSD1306_Defines.WITH_DATA_ONLY;
+        for (int sent = 0; sent < length; ) {
+            final int size = Math.min(this.blockSize, length - sent);
+            System.arraycopy(dataArray, offset + sent, block, 1, size);
+            final int written = this.i2c.write(block, 0, size + 1);
+            if (written != size + 1) {
+                throw new IllegalStateException("Short I2C write of " + written + " bytes, expected " + (size + 1) + ". Block size " + this.blockSize);
+            }
+            sent += size;
+        }
+        this.transferNanos += System.nanoTime() - start;
+        this.transferBytes += length;
+        this.logger.trace("Exit: sendData  ");
+    }
+
+    /**
+     * Set the largest number of GDDRAM bytes sent in one I2C write. Smaller blocks add one control byte and one
+     * bus transaction each, but some Linux I2C adapters fail or stall on long writes.
+     *
+     * @param blockSize 1 to GDDRAM_SIZE. Default is GDDRAM_SIZE, a full screen in one write.
+     */
+    public void setBlockSize(int blockSize) {
+        if (blockSize < 1 || blockSize > GDDRAM_SIZE) {
+            throw new IllegalArgumentException("Block size out of range of [1," + GDDRAM_SIZE + "]. Got " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Find the fastest working block size by writing a full screen frame with each of PROBE_BLOCK_SIZES, and select
+     * it with setBlockSize(...). A size is rejected if any of its writes fails or is short. Before each attempt the
+     * column and page address window is reset to the whole display, so the display is left showing the frame
+     * whatever happened during the probe. The transfer statistics are cleared afterwards so they reflect the selected
+     * size. Requires horizontal or vertical address mode, with the frame laid out to match.
+     *
+     * @param frame       GDDRAM_SIZE bytes to display while probing
+     * @param repetitions number of frames written with each size; more gives a steadier measurement
+     * @return the selected block size
+     * @throws IllegalStateException if no size works
+     */
+    public int probeBlockSize(byte[] frame, int repetitions) {
+        this.logger.trace("Enter: probeBlockSize   repetitions {}", repetitions);
+        if (frame.length < GDDRAM_SIZE) {
+            throw new IllegalArgumentException("Frame length must be at least " + GDDRAM_SIZE + ". Got " + frame.length);
+        }
+        if (repetitions < 1) {
+            throw new IllegalArgumentException("At least one repetition is required. Got " + repetitions);
+        }
+        final int previous = this.blockSize;
+        int best = -1;
+        long bestNanos = Long.MAX_VALUE;
+        for (int size : PROBE_BLOCK_SIZES) {
+            this.blockSize = size;
+            try {
+                final long start = System.nanoTime();
+                for (int i = 0; i < repetitions; i++) {
+                    this.setColumnAddress((byte) 0, (byte) 127);
+                    this.setPageAddress((byte) 0, (byte) 7);
+                    this.sendData(frame, 0, GDDRAM_SIZE);
+                }
+                final long nanos = System.nanoTime() - start;
+                this.logger.debug("probeBlockSize  size {}  {} ns per frame", size, nanos / repetitions);
+                if (nanos <= bestNanos) { // ties go to the larger block
+                    best = size;
+                    bestNanos = nanos;
+                }
+            } catch (RuntimeException e) {
+                this.logger.debug("probeBlockSize  size {} failed: {}", size, e.toString());
+            }
+        }
+        if (best < 0) {
+            this.blockSize = previous;
+            throw new IllegalStateException("No block size could write a frame.");
+        }
+        this.blockSize = best;
+        // Redraw with the selected size, in case the last attempt failed part way
+        this.setColumnAddress((byte) 0, (byte) 127);
+        this.setPageAddress((byte) 0, (byte) 7);
+        this.sendData(frame, 0, GDDRAM_SIZE);
+        this.resetTransferStats();
+        this.logger.trace("Exit: probeBlockSize   {}", best);
+        return best;
+    }
+
+    /**
+     * @return GDDRAM bytes written per second of time spent in data writes since the last resetTransferStats(),
+     * or 0 if nothing has been written
+     */
+    public double getTransferBytesPerSecond() {
+        return this.transferNanos == 0 ? 0 : this.transferBytes * 1E9 / this.transferNanos;
+    }
+
+    /**
+     * @return GDDRAM bytes written since the last resetTransferStats()
+     */
+    public long getTransferBytes() {
+        return this.transferBytes;
+    }
+
+    public void resetTransferStats() {
+        this.transferBytes = 0;
+        this.transferNanos = 0;
     }
 
 
     // Valid all address modes
     // Set starting offset within columns
     protected void setDisplayStartLine(byte line) {
-        this.logger.info("Enter: setDisplayRAMStartLine   " + line + " Command value " + (SSD1306_Defines.COMMAND_SET_ADDRESS_LINE + line));
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace("Enter: setDisplayRAMStartLine   {} Command value {}", line, SSD1306_Defines.COMMAND_SET_ADDRESS_LINE + line);
+        }
         if (line > 63) {
             this.logger.error("Invalid line, greater than 63");
             System.exit(500);
         }
         this.sendCmd((byte) (SSD1306_Defines.COMMAND_SET_ADDRESS_LINE | (byte) (line & 0x3F)));
-        this.logger.info("Exit: setDisplayRAMStartLine");
+        this.logger.trace("Exit: setDisplayRAMStartLine");
     }
 
 
     // Starting column offset used to display DRAM
     // Appears as though the image data was moved up
     protected void setDisplayComOffset(byte offset) {
-        this.logger.info("Enter: setDisplayComOffset   " + offset);
+        this.logger.trace("Enter: setDisplayComOffset   {}", offset);
         if (offset > 63) {
             this.logger.error("Invalid line, greater than 63");
             System.exit(500);
         }
-        byte[] cmdData = new byte[3];
-        cmdData[0] = SSD1306_Defines.WITH_ONE_COMMAND;
-        cmdData[1] = SSD1306_Defines.COMMAND_SET_DISPLAY_OFFSET;
-        cmdData[2] = (byte) (offset & 0x3F);
-        this.i2c.write(cmdData);
+        this.commandBuffer[0] = SSD1306_Defines.WITH_ONE_COMMAND;
+        this.commandBuffer[1] = SSD1306_Defines.COMMAND_SET_DISPLAY_OFFSET;
+        this.commandBuffer[2] = (byte) (offset & 0x3F);
+        this.i2c.write(this.commandBuffer, 0, 3);
 
-        this.logger.info("Exit: setDisplayComOffset");
+        this.logger.trace("Exit: setDisplayComOffset");
     }
 
     protected void setMemoryAddressMode(byte mode) {
-        this.logger.info("Enter: setMemoryAddressMode   " + mode);
+        this.logger.trace("Enter: setMemoryAddressMode   {}", mode);
         this.sendCmdData(SSD1306_Defines.COMMAND_SET_MEM_ADDRESS_MODE, mode);
 
-        this.logger.info("Exit: setMemoryAddressMode");
+        this.logger.trace("Exit: setMemoryAddressMode");
     }
 
     // Set start and end column addresses (COL0 - COL127) for display
     // Valid in horizontal or vertical address mode
     protected void setColumnAddress(byte start, byte end) {
-        this.logger.info("Enter: setColumnAddress   " + start + "  " + end);
+        this.logger.trace("Enter: setColumnAddress   {}  {}", start, end);
         if ((start > 127) || (end > 127)) {
             this.logger.error("Invalid column, greater than 127");
             System.exit(502);
         }
 
-        byte[] cmdData = new byte[4];
-        cmdData[0] = SSD1306_Defines.WITH_ONE_COMMAND;
-        cmdData[1] = SSD1306_Defines.COMMAND_SET_COLUMN_ADDRESS;
-        cmdData[2] = (byte) (start & 0x7F);
-        cmdData[3] = (byte) (end & 0x7F);
-        this.i2c.write(cmdData);
-        this.logger.info("Exit: setColumnAddress");
+        this.commandBuffer[0] = SSD1306_Defines.WITH_ONE_COMMAND;
+        this.commandBuffer[1] = SSD1306_Defines.COMMAND_SET_COLUMN_ADDRESS;
+        this.commandBuffer[2] = (byte) (start & 0x7F);
+        this.commandBuffer[3] = (byte) (end & 0x7F);
+        this.i2c.write(this.commandBuffer, 0, 4);
+        this.logger.trace("Exit: setColumnAddress");
+    }
+
+    // Set start and end page addresses (PAGE0 - PAGE7) for display
+    // Valid in horizontal or vertical address mode
+    protected void setPageAddress(byte start, byte end) {
+        this.logger.trace("Enter: setPageAddress   {}  {}", start, end);
+        if ((start > 7) || (end > 7)) {
+            this.logger.error("Invalid page, greater than 7");
+            System.exit(503);
+        }
+
+        this.commandBuffer[0] = SSD1306_Defines.WITH_ONE_COMMAND;
+        this.commandBuffer[1] = SSD1306_Defines.COMMAND_SET_PAGE_ADDRESS;
+        this.commandBuffer[2] = (byte) (start & 0x07);
+        this.commandBuffer[3] = (byte) (end & 0x07);
+        this.i2c.write(this.commandBuffer, 0, 4);
+        this.logger.trace("Exit: setPageAddress");
     }
 
 
     // Send a data buffer to GDDRAM
     protected void sendBuffer(byte[] buffer, int bufferLength) {
-        this.logger.info("Enter: sendBuffer  ");
+        this.logger.trace("Enter: sendBuffer  ");
         if (buffer.length < bufferLength) {
             this.logger.error("SendBuffer length exceeds actual buffer size ");
             System.exit(501);
         }
         this.sendData(buffer, bufferLength);
-        this.logger.info("Exit: sendBuffer  ");
+        this.logger.trace("Exit: sendBuffer  ");
     }
 
     private void initialize() {
@@ -0,0 +1,361 @@
+/*
+ *
+ *
+ *     *
+ *     * -
+ *     * #%L
+ *     * **********************************************************************
+ *     * ORGANIZATION  :  Pi4J
+ *     * PROJECT       :  Pi4J :: EXTENSION
+ *     * FILENAME      :  SSD1306FrameBuffer.java
+ *     *
+ *     * This file is part of the Pi4J project. More information about
+ *     * this project can be found here:  https://pi4j.com/
+ *     * **********************************************************************
+ *     * %%
+ *     *   * Copyright (C) 2012 - 2024 Pi4J
+ *      * %%
+ *     *
+ *     * Licensed under the Apache License, Version 2.0 (the "License");
+ *     * you may not use this file except in compliance with the License.
+ *     * You may obtain a copy of the License at
+ *     *
+ *     *      http://www.apache.org/licenses/LICENSE-2.0
+ *     *
+ *     * Unless required by applicable law or agreed to in writing, software
+ *     * distributed under the License is distributed on an "AS IS" BASIS,
+ *     * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     * See the License for the specific language governing permissions and
+ *     * limitations under the License.
+ *     * #L%
+ *     *
+ *
+ *
+ *
+ */
+
+
+package com.pi4j.devices.ssd1306;
+
+import java.util.Arrays;
+
+/**
+ * 128x64 monochrome frame buffer for the SSD1306 which tracks the region changed since the last flush.<br>
+ * Drawing only touches the buffer in memory. flush() then writes just the changed columns of each changed page,
+ * so updating a few characters of text costs tens of bytes on the bus rather than a full 1024 byte GDDRAM write.
+ * A page is only marked dirty when one of its bytes actually changes value, so redrawing identical content is free.<br>
+ * The buffer is page-major like GDDRAM in horizontal address mode: byte (page * WIDTH + x) holds rows page*8 to
+ * page*8+7 of column x, bit 0 the top row. The constructor switches the display to horizontal address mode, and
+ * flush() leaves the column and page address window narrowed to the last region written, so code that later writes
+ * the display directly with sendBuffer(...) should first restore the full window with setColumnAddress(0, 127) and
+ * setPageAddress(0, 7).<br>
+ * Not thread safe; draw and flush from one thread.
+ */
+public class SSD1306FrameBuffer {
+    /**
+     * Display width in pixels (columns)
+     */
+    public static final int WIDTH = 128;
+    /**
+     * Display height in pixels (rows)
+     */
+    public static final int HEIGHT = 64;
+    /**
+     * Number of 8 row pages
+     */
+    public static final int PAGES = HEIGHT / 8;
+
+    /**
+     * Approximate bus cost in bytes of addressing one more window: the column and page address commands with their
+     * control bytes, and the control byte of the data write. Adjacent dirty pages are flushed as one window when the
+     * unchanged bytes this drags in cost less than this.
+     */
+    static final int WINDOW_OVERHEAD = 12;
+
+    /**
+     * Create a cleared frame buffer for the display. The whole display is marked dirty, so the first flush()
+     * writes every page.
+     *
+     * @param display initialized SSD1306 to draw on
+     */
+    public SSD1306FrameBuffer(SSD1306 display) {
+        super();
+        if (display == null) {
+            throw new NullPointerException("display must not be null.");
+        }
+        this.display = display;
+        this.display.setMemoryAddressMode(SSD1306_Defines.COMMAND_SET_MEM_ADDRESS_MODE_HORZ);
+        this.invalidate();
+    }
+
+    /**
+     * Turn every pixel off.
+     */
+    public void clear() {
+        this.fill(false);
+    }
+
+    /**
+     * Set every pixel to the same state.
+     */
+    public void fill(boolean on) {
+        this.fillRect(0, 0, WIDTH, HEIGHT, on);
+    }
+
+    /**
+     * Set one pixel. Coordinates outside the display are ignored.
+     */
+    public void setPixel(int x, int y, boolean on) {
+        if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT) {
+            return;
+        }
+        final int mask = 1 << (y & 7);
+        this.store(y >> 3, x, on ? 0xFF : 0, mask);
+    }
+
+    /**
+     * @return true if the pixel is on, false if it is off or outside the display
+     */
+    public boolean getPixel(int x, int y) {
+        if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT) {
+            return false;
+        }
+        return (this.buffer[(y >> 3) * WIDTH + x] & (1 << (y & 7))) != 0;
+    }
+
+    /**
+     * Draw a line between two points inclusive, clipped to the display.
+     */
+    public void drawLine(int x0, int y0, int x1, int y1, boolean on) {
+        if (y0 == y1) {
+            this.fillRect(Math.min(x0, x1), y0, Math.abs(x1 - x0) + 1, 1, on);
+            return;
+        }
+        if (x0 == x1) {
+            this.fillRect(x0, Math.min(y0, y1), 1, Math.abs(y1 - y0) + 1, on);
+            return;
+        }
+        // Bresenham
+        final int dx = Math.abs(x1 - x0);
+        final int dy = -Math.abs(y1 - y0);
+        final int stepX = x0 < x1 ? 1 : -1;
+        final int stepY = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        while (true) {
+            this.setPixel(x0, y0, on);
+            if (x0 == x1 && y0 == y1) {
+                break;
+            }
+            final int error2 = error * 2;
+            if (error2 >= dy) {
+                error += dy;
+                x0 += stepX;
+            }
+            if (error2 <= dx) {
+                error += dx;
+                y0 += stepY;
+            }
+        }
+    }
+
+    /**
+     * Draw the one pixel outline of a rectangle, clipped to the display.
+     */
+    public void drawRect(int x, int y, int width, int height, boolean on) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        this.fillRect(x, y, width, 1, on);
+        this.fillRect(x, y + height - 1, width, 1, on);
+        this.fillRect(x, y, 1, height, on);
+        this.fillRect(x + width - 1, y, 1, height, on);
+    }
+
+    /**
+     * Set every pixel of a rectangle, clipped to the display. Works a page at a time, so each byte is written once.
+     */
+    public void fillRect(int x, int y, int width, int height, boolean on) {
+        final int left = Math.max(x, 0);
+        final int right = Math.min(x + width, WIDTH);// exclusive
+        final int top = Math.max(y, 0);
+        final int bottom = Math.min(y + height, HEIGHT);// exclusive
+        if (left >= right || top >= bottom) {
+            return;
+        }
+        final int value = on ? 0xFF : 0;
+        for (int page = top >> 3; page <= (bottom - 1) >> 3; page++) {
+            final int firstRow = Math.max(top - page * 8, 0);
+            final int lastRow = Math.min(bottom - page * 8, 8);// exclusive
+            final int mask = (0xFF >> (8 - (lastRow - firstRow))) << firstRow;
+            for (int col = left; col < right; col++) {
+                this.store(page, col, value, mask);
+            }
+        }
+    }
+
+    /**
+     * Draw one character from SSD1306Font5x7 as an opaque 6x8 cell: the glyph plus a blank spacing column to its
+     * right and a blank row below, so text drawn over old text replaces it. The cell may start at any row and is
+     * clipped to the display.
+     *
+     * @param x  left column of the cell
+     * @param y  top row of the cell
+     * @param c  character; characters outside printable ASCII are drawn as '?'
+     * @param on true to draw lit pixels on a dark background, false for inverse video
+     */
+    public void drawChar(int x, int y, char c, boolean on) {
+        for (int col = 0; col < SSD1306Font5x7.ADVANCE; col++) {
+            final int bits = col < SSD1306Font5x7.WIDTH ? SSD1306Font5x7.glyphColumn(c, col) : 0;
+            this.writeColumn(x + col, y, on ? bits : ~bits, 0xFF);
+        }
+    }
+
+    /**
+     * Draw a string of characters left to right as with drawChar(...). Characters beyond the right edge are dropped.
+     *
+     * @return the column following the last character drawn
+     */
+    public int drawText(int x, int y, String text, boolean on) {
+        for (int i = 0; i < text.length() && x < WIDTH; i++) {
+            this.drawChar(x, y, text.charAt(i), on);
+            x += SSD1306Font5x7.ADVANCE;
+        }
+        return x;
+    }
+
+    /**
+     * Replace the whole buffer with a full screen image laid out for vertical address mode, byte (x * PAGES + page),
+     * such as SSD1306Sample128X64IMAGE.ImageOne. Only the bytes which differ from the current content are marked dirty.
+     *
+     * @param image GDDRAM_SIZE bytes in vertical address mode order
+     */
+    public void drawImage(byte[] image) {
+        if (image.length != SSD1306.GDDRAM_SIZE) {
+            throw new IllegalArgumentException("Image length must be " + SSD1306.GDDRAM_SIZE + ". Got " + image.length);
+        }
+        for (int col = 0; col < WIDTH; col++) {
+            for (int page = 0; page < PAGES; page++) {
+                this.store(page, col, image[col * PAGES + page], 0xFF);
+            }
+        }
+    }
+
+    /**
+     * Mark the whole display dirty so the next flush() rewrites every page, for instance after the display has been
+     * written directly or reset.
+     */
+    public void invalidate() {
+        Arrays.fill(this.dirtyMin, 0);
+        Arrays.fill(this.dirtyMax, WIDTH - 1);
+    }
+
+    /**
+     * @return true if anything has changed since the last flush()
+     */
+    public boolean isDirty() {
+        for (int page = 0; page < PAGES; page++) {
+            if (this.dirtyMin[page] <= this.dirtyMax[page]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the changed region of the buffer to the display. Each run of dirty pages is sent as one or more windows:
+     * the column and page address range is set to the window and its bytes are written in a single data transfer
+     * from a reusable staging buffer. Adjacent dirty pages share a window when that is cheaper than addressing
+     * them separately.
+     *
+     * @return number of GDDRAM bytes written, 0 if nothing had changed
+     */
+    public int flush() {
+        int written = 0;
+        int page = 0;
+        while (page < PAGES) {
+            if (this.dirtyMin[page] > this.dirtyMax[page]) {
+                page++;
+                continue;
+            }
+            // Grow the window over following dirty pages while merging costs less than a new window
+            final int firstPage = page;
+            int left = this.dirtyMin[page];
+            int right = this.dirtyMax[page];
+            int separateCost = right - left + 1;
+            while (page + 1 < PAGES && this.dirtyMin[page + 1] <= this.dirtyMax[page + 1]) {
+                final int nextLeft = Math.min(left, this.dirtyMin[page + 1]);
+                final int nextRight = Math.max(right, this.dirtyMax[page + 1]);
+                final int nextSeparateCost = separateCost + WINDOW_OVERHEAD + this.dirtyMax[page + 1] - this.dirtyMin[page + 1] + 1;
+                if ((page + 2 - firstPage) * (nextRight - nextLeft + 1) > nextSeparateCost) {
+                    break;
+                }
+                left = nextLeft;
+                right = nextRight;
+                separateCost = nextSeparateCost;
+                page++;
+            }
+            written += this.flushWindow(firstPage, page, left, right);
+            page++;
+        }
+        return written;
+    }
+
+    private int flushWindow(int firstPage, int lastPage, int left, int right) {
+        final int width = right - left + 1;
+        int length = 0;
+        for (int page = firstPage; page <= lastPage; page++) {
+            System.arraycopy(this.buffer, page * WIDTH + left, this.staging, length, width);
+            length += width;
+            this.dirtyMin[page] = WIDTH;
+            this.dirtyMax[page] = -1;
+        }
+        this.display.setColumnAddress((byte) left, (byte) right);
+        this.display.setPageAddress((byte) firstPage, (byte) lastPage);
+        this.display.sendData(this.staging, 0, length);
+        return length;
+    }
+
+    /**
+     * Write the masked bits of one 8 row column strip starting at any row, splitting it across the two pages it
+     * straddles when the row is not page aligned.
+     */
+    private void writeColumn(int x, int y, int bits, int mask) {
+        if (x < 0 || x >= WIDTH || y <= -8 || y >= HEIGHT) {
+            return;
+        }
+        final int page = Math.floorDiv(y, 8);
+        final int shift = Math.floorMod(y, 8);
+        if (page >= 0) {
+            this.store(page, x, bits << shift, (mask << shift) & 0xFF);
+        }
+        if (shift != 0 && page + 1 < PAGES) {
+            this.store(page + 1, x, bits >> (8 - shift), mask >> (8 - shift));
+        }
+    }
+
+    /**
+     * Replace the masked bits of one buffer byte, marking its column dirty only if the byte changes.
+     */
+    private void store(int page, int col, int value, int mask) {
+        final int index = page * WIDTH + col;
+        final byte old = this.buffer[index];
+        final byte updated = (byte) ((old & ~mask) | (value & mask));
+        if (updated == old) {
+            return;
+        }
+        this.buffer[index] = updated;
+        if (col < this.dirtyMin[page]) {
+            this.dirtyMin[page] = col;
+        }
+        if (col > this.dirtyMax[page]) {
+            this.dirtyMax[page] = col;
+        }
+    }
+
+    private final SSD1306 display;
+    private final byte[] buffer = new byte[SSD1306.GDDRAM_SIZE];
+    private final byte[] staging = new byte[SSD1306.GDDRAM_SIZE];
+    // Dirty column range of each page, inclusive; min > max when the page is clean
+    private final int[] dirtyMin = new int[PAGES];
+    private final int[] dirtyMax = new int[PAGES];
+}
@@ -225,6 +225,34 @@ public class SSD1306_Example {
         ssdDev.sendBuffer(image1, image1.length);
         Thread.sleep(1000 * x);
 
+        console.println("Probe the fastest I2C block size by writing the image, then time full screen updates");
+        console.println("  Block size : " + ssdDev.probeBlockSize(image1, 5));
+        int frames = 100;
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            ssdDev.sendBuffer(image1, image1.length);
+        }
+        double seconds = (System.nanoTime() - start) / 1E9;
+        console.println(String.format("  %d frames, %.1f frames/s, %.0f bytes/s", frames, frames / seconds, ssdDev.getTransferBytesPerSecond()));
+        Thread.sleep(1000 * x);
+
+        console.println("Frame buffer: draw text and a box, then count up, sending only the changed region");
+        var frame = new SSD1306FrameBuffer(ssdDev);  // switches the display to horizontal address mode
+        frame.clear();
+        frame.drawRect(0, 0, SSD1306FrameBuffer.WIDTH, SSD1306FrameBuffer.HEIGHT, true);
+        frame.drawText(4, 4, "Pi4J SSD1306", true);
+        frame.drawLine(4, 13, 75, 13, true);
+        console.println("  Full frame bytes sent : " + frame.flush());
+        for (int count = 0; count <= 100; count++) {
+            frame.drawText(4, 28, "Count " + count, true);
+            int sent = frame.flush();
+            if (count % 25 == 0) {
+                console.println("  Count " + count + " bytes sent : " + sent);
+            }
+            Thread.sleep(50);
+        }
+        Thread.sleep(1000 * x);
+
 
         // Shutdown Pi4J
         pi4j.shutdown();
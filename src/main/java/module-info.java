@@ -31,6 +31,9 @@ module com.pi4j.devices{
     exports com.pi4j.devices.mcp23xxxApplication;
     exports com.pi4j.devices.appConfig;
     exports com.pi4j.devices.base_i2c;
+    exports com.pi4j.devices.base_util.filter;
+    exports com.pi4j.devices.base_util.stream;
+    exports com.pi4j.devices.base_util.trace;
     // new TOF chip
     exports com.pi4j.devices.vl53L0X;
 
@@ -47,6 +50,7 @@ module com.pi4j.devices{
     exports com.pi4j.devices.dht22;
     exports com.pi4j.devices.hcsr04;
     exports com.pi4j.devices.ads1256;
+    exports com.pi4j.devices.ads1256.sim;
     exports com.pi4j.devices.dac8552;
     exports com.pi4j.devices.mpl3115a2;
     exports com.pi4j.devices.at24c512;